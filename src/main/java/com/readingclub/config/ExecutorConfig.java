@@ -0,0 +1,44 @@
+package com.readingclub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 서비스에서 쓰는 작업 스레드 풀 (컨테이너가 초기화와 종료를 관리)
+ * Executor 빈을 하나라도 등록하면 기본 applicationTaskExecutor(MVC 비동기 응답, SSE 등)가 빠지므로
+ * spring.task.execution.* 설정을 그대로 쓰는 같은 이름의 빈도 함께 등록한다.
+ */
+@Configuration
+public class ExecutorConfig {
+    
+    public static final String SHELF_LOAD_EXECUTOR = "shelfLoadExecutor";
+    
+    /**
+     * 모든 책 상태 조회의 서재 동시 조회용 (스레드/대기열 제한, 가득 차면 호출 스레드에서 실행)
+     */
+    @Bean(name = SHELF_LOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor shelfLoadExecutor(@Value("${book.shelf-load.pool-size:8}") int poolSize,
+                                                    @Value("${book.shelf-load.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("shelf-load-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+    
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.readingclub.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 테이블 기반 ID 생성기(id_generators) 초기값 맞추기
+ * IDENTITY로 쌓인 기존 행과 ID가 겹치지 않도록, 시작 시 각 시퀀스를 테이블의 MAX(id) 이후로 올려 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorInitializer {
+    
+    // 엔티티 @TableGenerator의 allocationSize와 동일해야 함
+    private static final int ALLOCATION_SIZE = 50;
+    
+    // 시퀀스 이름(pkColumnValue) -> 테이블 이름
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "reading_progresses", "reading_progresses",
+            "books", "books"
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 스키마(ddl-auto)가 반영된 뒤에 실행되도록 EntityManagerFactory 초기화 이후로 순서 보장
+    private final EntityManagerFactory entityManagerFactory;
+    
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((sequenceName, tableName) -> {
+            // pooled 옵티마이저는 next_val 기준으로 한 블록 앞까지 사용하므로 블록 하나만큼 여유를 둔다
+            jdbcTemplate.update(
+                    "INSERT INTO id_generators (sequence_name, next_val) " +
+                    "SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + tableName + " " +
+                    "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+                    sequenceName, ALLOCATION_SIZE + 1);
+            log.debug("ID 생성기 초기값 확인: {}", sequenceName);
+        });
+    }
+}
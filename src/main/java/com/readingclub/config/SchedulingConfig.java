@@ -0,0 +1,38 @@
+package com.readingclub.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 주기 작업 활성화 (조회수 반영 등)
+ * 기본 스케줄러는 스레드가 하나라 통계 재구축 같은 긴 작업이 도는 동안 댓글 변경 폴링(3초)과 카운터 반영이 밀리므로
+ * 여러 스레드로 돌린다. 스케줄러를 빈으로 등록하면 Executor 빈이 생겨 기본 applicationTaskExecutor 가 빠지므로
+ * 빈이 아닌 레지스트라에만 넘긴다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+    
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    
+    public SchedulingConfig(@Value("${scheduling.pool-size:4}") int poolSize) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+    }
+    
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        taskScheduler.initialize();
+        registrar.setTaskScheduler(taskScheduler);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
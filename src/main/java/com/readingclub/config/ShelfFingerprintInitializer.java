@@ -0,0 +1,74 @@
+package com.readingclub.config;
+
+import com.readingclub.util.BookFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 서재 테이블의 중복 체크용 지문(fingerprint)과 ISBN-13 키(isbn_key) 채우기
+ * 새로 저장되는 행은 엔티티에서 계산하므로, 컬럼 추가 이전에 쌓인 행만 시작 시 구간 단위로 채운다.
+ * (ISBN 형식이 맞지 않아 키가 비는 행은 시작할 때마다 다시 계산된다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShelfFingerprintInitializer {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    // 지문/ISBN 키를 쓰는 서재 테이블
+    private static final List<String> TABLES = List.of("books", "currently_reading", "wishlists", "dropped_books");
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        TABLES.forEach(this::backfillKeys);
+    }
+    
+    private void backfillKeys(String tableName) {
+        long lastId = 0L;
+        int updated = 0;
+        
+        while (true) {
+            List<Object[]> batchArgs = jdbcTemplate.query(
+                    "SELECT id, title, author, isbn FROM " + tableName + " " +
+                    "WHERE (fingerprint IS NULL OR (isbn_key IS NULL AND isbn <> '')) " +
+                    "AND id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{
+                            fingerprintOf(tableName, rs.getLong("id"), rs.getString("title"), rs.getString("author")),
+                            BookFingerprint.isbn13(rs.getString("isbn")),
+                            rs.getLong("id")},
+                    lastId, BATCH_SIZE);
+            if (batchArgs.isEmpty()) {
+                break;
+            }
+            
+            jdbcTemplate.batchUpdate("UPDATE " + tableName + " SET fingerprint = ?, isbn_key = ? WHERE id = ?",
+                    batchArgs);
+            updated += batchArgs.size();
+            lastId = (Long) batchArgs.get(batchArgs.size() - 1)[2];
+        }
+        
+        if (updated > 0) {
+            log.info("서재 지문 채우기: {} {}건", tableName, updated);
+        }
+    }
+    
+    /**
+     * 제목이 문장부호뿐인 예전 행은 지문을 비워 두고 건너뜀 (중복 체크 대상에서 빠짐)
+     */
+    private String fingerprintOf(String tableName, long id, String title, String author) {
+        String fingerprint = BookFingerprint.ofOrNull(title, author);
+        if (fingerprint == null) {
+            log.warn("서재 지문 채우기 건너뜀: {} id={}, title={}", tableName, id, title);
+        }
+        return fingerprint;
+    }
+}
@@ -10,11 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -108,6 +111,25 @@ public class BookController {
         }
     }
     
+    /**
+     * 완독 기록 일괄 가져오기 (본문: CSV 또는 JSON 배열/NDJSON)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<BookDto.ImportResponse>> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        try {
+            Long userId = getCurrentUserId();
+            BookDto.ImportResponse result = bookService.importBooks(
+                    userId, BookService.ImportFormat.from(contentType), body);
+            return ResponseEntity.ok(ApiResponse.success(result, "책 가져오기 완료"));
+        } catch (Exception e) {
+            log.error("책 가져오기 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("책 가져오기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 책 수정
      */
@@ -182,6 +204,25 @@ public class BookController {
         }
     }
     
+    /**
+     * 네 서재 중 이미 등록된 책인지 확인
+     */
+    @GetMapping("/check-shelves")
+    public ResponseEntity<ApiResponse<BookDto.ShelfCheckResponse>> checkShelves(
+            @RequestParam String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String isbn) {
+        try {
+            Long userId = getCurrentUserId();
+            BookDto.ShelfCheckResponse response = bookService.checkShelves(userId, title, author, isbn);
+            return ResponseEntity.ok(ApiResponse.success(response, "서재 중복 확인 완료"));
+        } catch (Exception e) {
+            log.error("서재 중복 확인 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("서재 중복 확인에 실패했습니다."));
+        }
+    }
+    
     /**
      * 월별 독서 통계
      */
@@ -205,6 +246,7 @@ public class BookController {
     public ResponseEntity<ApiResponse<BookDto.AllBooksResponse>> getAllMyBooks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "20") int shelfSize,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) Integer rating,
@@ -213,7 +255,7 @@ public class BookController {
             Long userId = getCurrentUserId();
             Pageable pageable = PageRequest.of(page, size);
             
-            BookDto.AllBooksResponse response = bookService.getAllUserBooks(userId, pageable, year, month, rating, search);
+            BookDto.AllBooksResponse response = bookService.getAllUserBooks(userId, pageable, shelfSize, year, month, rating, search);
             return ResponseEntity.ok(ApiResponse.success(response, "모든 책 상태 조회 성공"));
         } catch (Exception e) {
             log.error("모든 책 상태 조회 실패", e);
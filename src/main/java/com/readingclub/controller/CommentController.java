@@ -8,10 +8,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -45,6 +47,35 @@ public class CommentController {
         }
     }
     
+    /**
+     * 게시글의 댓글 커서 조회 (무한 스크롤용, 댓글마다 대댓글 replySize 건까지 포함)
+     */
+    @GetMapping("/posts/{postId}/cursor")
+    public ResponseEntity<ApiResponse<CommentDto.CursorListResponse>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        try {
+            Long userId = getCurrentUserId();
+            CommentDto.CursorListResponse response =
+                    commentService.getCommentsByCursor(postId, userId, cursor, size, replySize);
+            return ResponseEntity.ok(ApiResponse.success(response, "댓글 목록 조회 성공"));
+        } catch (Exception e) {
+            log.error("댓글 커서 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("댓글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 게시글 실시간 댓글 스트림 (SSE, 작성/삭제 이벤트)
+     */
+    @GetMapping(value = "/posts/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long postId) {
+        return commentService.subscribeComments(postId);
+    }
+    
     /**
      * 댓글 작성
      */
@@ -96,6 +127,27 @@ public class CommentController {
         }
     }
     
+    /**
+     * 특정 댓글의 대댓글 커서 조회 ("더 보기"용)
+     */
+    @GetMapping("/{commentId}/replies/cursor")
+    public ResponseEntity<ApiResponse<CommentDto.ReplyPageResponse>> getRepliesByCursor(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        try {
+            Long userId = getCurrentUserId();
+            CommentDto.ReplyPageResponse response =
+                    commentService.getRepliesByCursor(commentId, userId, cursor, size, replySize);
+            return ResponseEntity.ok(ApiResponse.success(response, "대댓글 목록 조회 성공"));
+        } catch (Exception e) {
+            log.error("대댓글 커서 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("대댓글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 내가 작성한 댓글 목록 조회
      */
@@ -3,11 +3,12 @@ package com.readingclub.controller;
 import com.readingclub.dto.ApiResponse;
 import com.readingclub.dto.DroppedBookDto;
 import com.readingclub.service.DroppedBookService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,14 +28,16 @@ public class DroppedBookController {
      * 내 읽다 만 책 목록 조회 (페이징)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<DroppedBookDto.Response>>> getMyDroppedBooks(
+    public ResponseEntity<ApiResponse<Slice<DroppedBookDto.Response>>> getMyDroppedBooks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         try {
             Long userId = getCurrentUserId();
             Pageable pageable = PageRequest.of(page, size);
-            Page<DroppedBookDto.Response> droppedBooks = droppedBookService.getDroppedBooks(userId, pageable, search);
+            Slice<DroppedBookDto.Response> droppedBooks = droppedBookService.getDroppedBooks(
+                    userId, pageable, search, includeTotal);
             return ResponseEntity.ok(ApiResponse.success(droppedBooks, "읽다 만 책 목록 조회 성공"));
         } catch (Exception e) {
             log.error("읽다 만 책 목록 조회 실패", e);
@@ -64,7 +67,7 @@ public class DroppedBookController {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<DroppedBookDto.Response>> createDroppedBook(
-            @RequestBody DroppedBookDto.CreateRequest request) {
+            @Valid @RequestBody DroppedBookDto.CreateRequest request) {
         try {
             Long userId = getCurrentUserId();
             DroppedBookDto.Response createdDroppedBook = droppedBookService.createDroppedBook(userId, request);
@@ -82,7 +85,7 @@ public class DroppedBookController {
     @PutMapping("/{droppedBookId}")
     public ResponseEntity<ApiResponse<DroppedBookDto.Response>> updateDroppedBook(
             @PathVariable Long droppedBookId,
-            @RequestBody DroppedBookDto.UpdateRequest request) {
+            @Valid @RequestBody DroppedBookDto.UpdateRequest request) {
         try {
             Long userId = getCurrentUserId();
             DroppedBookDto.Response updatedDroppedBook = droppedBookService.updateDroppedBook(droppedBookId, userId, request);
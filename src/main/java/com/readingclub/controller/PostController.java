@@ -4,12 +4,13 @@ import com.readingclub.dto.ApiResponse;
 import com.readingclub.dto.PostDto;
 import com.readingclub.entity.PostType;
 import com.readingclub.entity.PostVisibility;
+import com.readingclub.service.PostLikeService;
 import com.readingclub.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +24,7 @@ import java.util.List;
 public class PostController {
     
     private final PostService postService;
+    private final PostLikeService postLikeService;
     
     /**
      * 내 게시글 목록 조회 (필터링 및 페이징)
@@ -33,7 +35,8 @@ public class PostController {
             @RequestParam(required = false) PostVisibility visibility,
             Authentication authentication,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
 
         Long userId = Long.parseLong(authentication.getName());
         
@@ -44,6 +47,7 @@ public class PostController {
                 .userId(userId)
                 .page(page)
                 .size(size)
+                .includeTotal(includeTotal)
                 .build();
             
             PostDto.ListResponse response = postService.getPosts(filter, userId);
@@ -65,7 +69,8 @@ public class PostController {
             @RequestParam(required = false) PostType postType,
             @RequestParam(required = false) PostVisibility visibility,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         try {
             Long userId = Long.parseLong(authentication.getName());
@@ -75,6 +80,7 @@ public class PostController {
                 .visibility(visibility)
                 .page(page)
                 .size(size)
+                .includeTotal(includeTotal)
                 .build();
             
             PostDto.ListResponse response = postService.getMyPosts(userId, filter);
@@ -94,7 +100,8 @@ public class PostController {
     public ResponseEntity<ApiResponse<PostDto.ListResponse>> getPublicPosts(
             @RequestParam(required = false) PostType postType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         try {
             PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
@@ -102,6 +109,7 @@ public class PostController {
                 .visibility(PostVisibility.PUBLIC)
                 .page(page)
                 .size(size)
+                .includeTotal(includeTotal)
                 .build();
             
             PostDto.ListResponse response = postService.getPublicPosts(filter);
@@ -122,7 +130,8 @@ public class PostController {
             Authentication authentication,
             @RequestParam(required = false) PostType postType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         try {
             Long userId = Long.parseLong(authentication.getName());
@@ -131,6 +140,7 @@ public class PostController {
                 .postType(postType)
                 .page(page)
                 .size(size)
+                .includeTotal(includeTotal)
                 .build();
             
             PostDto.ListResponse response = postService.getAllPosts(userId, filter);
@@ -143,6 +153,159 @@ public class PostController {
         }
     }
     
+    /**
+     * 공개 게시글 커서 기반 조회 (무한 스크롤용)
+     */
+    @GetMapping("/public/cursor")
+    public ResponseEntity<ApiResponse<PostDto.CursorResponse>> getPublicPostsByCursor(
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            PostDto.CursorResponse response = postService.getPublicPostsByCursor(postType, cursor, size);
+            
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("공개 게시글 커서 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("공개 게시글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 통합 게시글 커서 기반 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     */
+    @GetMapping("/all/cursor")
+    public ResponseEntity<ApiResponse<PostDto.CursorResponse>> getAllPostsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            Long userId = Long.parseLong(authentication.getName());
+            
+            PostDto.CursorResponse response = postService.getAllPostsByCursor(userId, postType, cursor, size);
+            
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("통합 게시글 커서 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("통합 게시글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 공개 게시글 요약 목록 조회 (본문 대신 발췌본)
+     */
+    @GetMapping("/public/summary")
+    public ResponseEntity<ApiResponse<PostDto.SummaryListResponse>> getPublicPostSummaries(
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+        
+        try {
+            PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
+                .postType(postType)
+                .visibility(PostVisibility.PUBLIC)
+                .page(page)
+                .size(size)
+                .includeTotal(includeTotal)
+                .build();
+            
+            PostDto.SummaryListResponse response = postService.getPublicPostSummaries(filter);
+            
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("공개 게시글 요약 목록 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("공개 게시글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 통합 게시글 요약 목록 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     */
+    @GetMapping("/all/summary")
+    public ResponseEntity<ApiResponse<PostDto.SummaryListResponse>> getAllPostSummaries(
+            Authentication authentication,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+        
+        try {
+            Long userId = Long.parseLong(authentication.getName());
+            
+            PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
+                .postType(postType)
+                .page(page)
+                .size(size)
+                .includeTotal(includeTotal)
+                .build();
+            
+            PostDto.SummaryListResponse response = postService.getAllPostSummaries(userId, filter);
+            
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("통합 게시글 요약 목록 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("통합 게시글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 내 게시글 요약 목록 조회
+     */
+    @GetMapping("/my/summary")
+    public ResponseEntity<ApiResponse<PostDto.SummaryListResponse>> getMyPostSummaries(
+            Authentication authentication,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) PostVisibility visibility,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+        
+        try {
+            Long userId = Long.parseLong(authentication.getName());
+            
+            PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
+                .postType(postType)
+                .visibility(visibility)
+                .page(page)
+                .size(size)
+                .includeTotal(includeTotal)
+                .build();
+            
+            PostDto.SummaryListResponse response = postService.getUserPostSummaries(userId, filter);
+            
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("내 게시글 요약 목록 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("내 게시글 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 최근 24시간 조회수 상위 공개 게시글
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<PostDto.Response>>> getMostViewedPosts(
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            List<PostDto.Response> response = postService.getMostViewedPosts(size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("인기 게시글 조회 실패", e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("인기 게시글 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 게시글 상세 조회
      */
@@ -158,6 +321,63 @@ public class PostController {
         }
     }
     
+    /**
+     * 게시글 좋아요 여부 및 좋아요 수 조회
+     */
+    @GetMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<PostDto.LikeResponse>> getLikeStatus(
+            @PathVariable Long postId,
+            Authentication authentication) {
+        
+        try {
+            Long userId = authentication != null ? Long.parseLong(authentication.getName()) : null;
+            PostDto.LikeResponse response = postLikeService.getLikeStatus(postId, userId);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("게시글 좋아요 조회 실패: postId={}", postId, e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("좋아요 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 게시글 좋아요
+     */
+    @PostMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<PostDto.LikeResponse>> likePost(
+            @PathVariable Long postId,
+            Authentication authentication) {
+        
+        try {
+            Long userId = Long.parseLong(authentication.getName());
+            PostDto.LikeResponse response = postLikeService.like(postId, userId);
+            return ResponseEntity.ok(ApiResponse.success(response, "좋아요를 눌렀습니다."));
+        } catch (Exception e) {
+            log.error("게시글 좋아요 실패: postId={}", postId, e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("좋아요에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 게시글 좋아요 취소
+     */
+    @DeleteMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<PostDto.LikeResponse>> unlikePost(
+            @PathVariable Long postId,
+            Authentication authentication) {
+        
+        try {
+            Long userId = Long.parseLong(authentication.getName());
+            PostDto.LikeResponse response = postLikeService.unlike(postId, userId);
+            return ResponseEntity.ok(ApiResponse.success(response, "좋아요를 취소했습니다."));
+        } catch (Exception e) {
+            log.error("게시글 좋아요 취소 실패: postId={}", postId, e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("좋아요 취소에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 게시글 생성
      */
@@ -234,19 +454,39 @@ public class PostController {
         }
     }
     
+    /**
+     * 특정 책에 대한 게시글 커서 조회 (첫 페이지에 책별 통계 포함)
+     */
+    @GetMapping("/book/{isbn}/cursor")
+    public ResponseEntity<ApiResponse<PostDto.BookPostsResponse>> getPostsByBookCursor(
+            @PathVariable String isbn,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            PostDto.BookPostsResponse response = postService.getPostsByBook(isbn, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            log.error("책별 게시글 커서 조회 실패: isbn={}", isbn, e);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("책별 게시글 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
         /**
      * 게시글 검색 (책 제목 기준)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PostDto.Response>>> searchPosts(
+    public ResponseEntity<ApiResponse<Slice<PostDto.Response>>> searchPosts(
             @RequestParam(required = false) String bookTitle,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String postType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PostDto.Response> response = postService.searchPosts(bookTitle, keyword, postType, pageable);
+            Slice<PostDto.Response> response = postService.searchPosts(
+                    bookTitle, keyword, postType, pageable, includeTotal);
             return ResponseEntity.ok(ApiResponse.success(response, "게시글 검색 성공"));
         } catch (Exception e) {
             log.error("게시글 검색 실패: bookTitle={}, keyword={}, postType={}", bookTitle, keyword, postType, e);
@@ -255,6 +495,34 @@ public class PostController {
         }
     }
     
+    /**
+     * 특정 사용자의 공개 게시글 요약 조회
+     */
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<ApiResponse<PostDto.SummaryListResponse>> getUserPostSummaries(
+            @PathVariable Long userId,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+        try {
+            PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
+                .postType(postType)
+                .visibility(PostVisibility.PUBLIC)
+                .page(page)
+                .size(size)
+                .includeTotal(includeTotal)
+                .build();
+            
+            PostDto.SummaryListResponse response = postService.getUserPostSummaries(userId, filter);
+            return ResponseEntity.ok(ApiResponse.success(response, "사용자 게시글 조회 성공"));
+        } catch (Exception e) {
+            log.error("사용자 게시글 요약 조회 실패: userId={}", userId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("사용자 게시글 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 특정 사용자의 공개 게시글 조회
      */
@@ -263,13 +531,15 @@ public class PostController {
             @PathVariable Long userId,
             @RequestParam(required = false) PostType postType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         try {
             PostDto.SearchFilter filter = PostDto.SearchFilter.builder()
                 .postType(postType)
                 .visibility(PostVisibility.PUBLIC)
                 .page(page)
                 .size(size)
+                .includeTotal(includeTotal)
                 .build();
             
             PostDto.ListResponse response = postService.getUserPublicPosts(userId, filter);
@@ -6,9 +6,9 @@ import com.readingclub.service.ReadingGroupService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -46,13 +46,14 @@ public class ReadingGroupController {
      * 공개 독서 모임 목록 조회
      */
     @GetMapping("/public")
-    public ResponseEntity<ApiResponse<Page<ReadingGroupDto.ListResponse>>> getPublicGroups(
+    public ResponseEntity<ApiResponse<Slice<ReadingGroupDto.ListResponse>>> getPublicGroups(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<ReadingGroupDto.ListResponse> groups = readingGroupService.getPublicGroups(pageable, search);
+            Slice<ReadingGroupDto.ListResponse> groups = readingGroupService.getPublicGroups(pageable, search, includeTotal);
             return ResponseEntity.ok(ApiResponse.success(groups, "공개 독서 모임 목록 조회 성공"));
         } catch (Exception e) {
             log.error("공개 독서 모임 목록 조회 실패", e);
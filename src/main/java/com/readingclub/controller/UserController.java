@@ -3,13 +3,20 @@ package com.readingclub.controller;
 import com.readingclub.dto.ApiResponse;
 import com.readingclub.dto.UserDto;
 import com.readingclub.dto.UserProfileDto;
+import com.readingclub.service.LibraryExportService;
 import com.readingclub.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 @RestController
 @RequestMapping("/api/users")
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
     
     private final UserService userService;
+    private final LibraryExportService libraryExportService;
     
     /**
      * 내 정보 조회
@@ -68,6 +76,33 @@ public class UserController {
         }
     }
     
+    /**
+     * 내 서재 전체 내보내기 (format=ndjson|csv)
+     * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 스트리밍으로 기록
+     */
+    @GetMapping("/me/export")
+    public ResponseEntity<?> exportMyLibrary(@RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            Long userId = getCurrentUserId();
+            LibraryExportService.Format exportFormat = LibraryExportService.Format.from(format);
+            String filename = "library-export-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                    + "." + exportFormat.getExtension();
+            
+            StreamingResponseBody body = outputStream ->
+                    libraryExportService.export(userId, exportFormat, outputStream);
+            
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(filename).build().toString())
+                    .body(body);
+        } catch (Exception e) {
+            log.error("서재 내보내기 실패: format={}", format, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("서재 내보내기에 실패했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 타사용자 프로필 조회
      */
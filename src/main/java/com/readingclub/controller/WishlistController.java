@@ -6,9 +6,9 @@ import com.readingclub.service.WishlistService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,16 +28,18 @@ public class WishlistController {
      * 내 위시리스트 목록 조회 (페이징)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<WishlistDto.Response>>> getMyWishlists(
+    public ResponseEntity<ApiResponse<Slice<WishlistDto.Response>>> getMyWishlists(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Integer priority,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         try {
             Long userId = getCurrentUserId();
             Pageable pageable = PageRequest.of(page, size);
             
-            Page<WishlistDto.Response> wishlists = wishlistService.getUserWishlists(userId, pageable, priority, search);
+            Slice<WishlistDto.Response> wishlists = wishlistService.getUserWishlists(
+                    userId, pageable, priority, search, includeTotal);
             return ResponseEntity.ok(ApiResponse.success(wishlists, "위시리스트 목록 조회 성공"));
         } catch (Exception e) {
             log.error("위시리스트 목록 조회 실패", e);
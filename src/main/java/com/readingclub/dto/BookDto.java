@@ -1,6 +1,7 @@
 package com.readingclub.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.readingclub.util.BookFingerprint;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +23,7 @@ public class BookDto {
         private Long id;
         private String title;
         private String author;
+        private String isbn;
         private String coverImage;
         private Integer rating;
         private String review;
@@ -45,11 +47,15 @@ public class BookDto {
     public static class CreateRequest {
         @NotBlank(message = "책 제목은 필수입니다")
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
         private String author;
         
+        @Size(max = 20, message = "ISBN은 20자 이하여야 합니다")
+        private String isbn;
+        
         @Size(max = 500, message = "표지 이미지 URL은 500자 이하여야 합니다")
         private String coverImage;
         
@@ -72,11 +78,15 @@ public class BookDto {
     public static class UpdateRequest {
         @NotBlank(message = "책 제목은 필수입니다")
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
         private String author;
         
+        @Size(max = 20, message = "ISBN은 20자 이하여야 합니다")
+        private String isbn;
+        
         @Size(max = 500, message = "표지 이미지 URL은 500자 이하여야 합니다")
         private String coverImage;
         
@@ -171,6 +181,54 @@ public class BookDto {
         private int totalWishlistBooks;
     }
     
+    /**
+     * 서재 중복 확인 응답 (네 서재 통합)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShelfCheckResponse {
+        private boolean onShelf;              // 어느 서재에든 있는지 여부
+        private List<ShelfEntry> entries;     // 일치하는 책 목록
+        
+        @Data
+        @Builder
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class ShelfEntry {
+            private String shelf;             // COMPLETED, READING, DROPPED, WISHLIST
+            private Long id;
+            private String title;
+            private String author;
+        }
+    }
+    
+    /**
+     * 완독 기록 일괄 가져오기 결과
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportResponse {
+        private int totalRows;                // 읽은 행 수
+        private int imported;                 // 저장한 책 수
+        private int duplicates;               // 이미 서재에 있거나 파일 안에서 반복되어 건너뛴 행 수
+        private int skipped;                  // 완독이 아닌 행(type 컬럼) 수
+        private int failed;                   // 검증/저장 실패 행 수
+        private List<RowError> errors;        // 실패 사유 (앞쪽 일부만)
+        
+        @Data
+        @Builder
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class RowError {
+            private int row;                  // 데이터 행 번호 (헤더 제외, 1부터)
+            private String message;
+        }
+    }
+    
     /**
      * 이번 달 등록한 책들의 표지 URL 목록
      */
@@ -35,6 +35,10 @@ public class CommentDto {
         
         private UserDto.Response user;
         private List<Response> replies; // 대댓글 목록
+        
+        // 커서 조회에서만 사용 (replies 가 일부만 포함된 경우)
+        private Boolean hasMoreReplies;
+        private String nextReplyCursor; // 이어서 대댓글을 조회할 커서
     }
     
     @Data
@@ -59,6 +63,43 @@ public class CommentDto {
         private long activeComments;
     }
     
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorListResponse {
+        private List<Response> comments;
+        private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+        private long totalComments;
+        private long activeComments;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReplyPageResponse {
+        private List<Response> replies;
+        private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+    
+    public enum StreamEventType {
+        CREATED,    // 댓글 작성
+        DELETED     // 댓글 삭제
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamEvent {
+        private StreamEventType type;
+        private Long postId;
+        private Response comment; // canDelete 는 구독자마다 다르므로 null (user.id 로 판단)
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
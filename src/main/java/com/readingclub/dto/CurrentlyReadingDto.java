@@ -1,6 +1,7 @@
 package com.readingclub.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.readingclub.util.BookFingerprint;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ public class CurrentlyReadingDto {
         private Long id;
         private String title;
         private String author;
+        private String isbn;
         private String coverImage;
         private String publisher;
         private String publishedDate;
@@ -51,11 +53,15 @@ public class CurrentlyReadingDto {
     public static class CreateRequest {
         @NotBlank(message = "책 제목은 필수입니다")
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
         private String author;
         
+        @Size(max = 20, message = "ISBN은 20자 이하여야 합니다")
+        private String isbn;
+        
         @Size(max = 500, message = "표지 이미지 URL은 500자 이하여야 합니다")
         private String coverImage;
         
@@ -87,11 +93,15 @@ public class CurrentlyReadingDto {
     public static class UpdateRequest {
         @NotBlank(message = "책 제목은 필수입니다")
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
         private String author;
         
+        @Size(max = 20, message = "ISBN은 20자 이하여야 합니다")
+        private String isbn;
+        
         @Size(max = 500, message = "표지 이미지 URL은 500자 이하여야 합니다")
         private String coverImage;
         
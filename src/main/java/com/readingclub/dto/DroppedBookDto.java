@@ -2,6 +2,7 @@ package com.readingclub.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.readingclub.entity.DroppedBook;
+import com.readingclub.util.BookFingerprint;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -55,6 +56,7 @@ public class DroppedBookDto {
     public static class CreateRequest {
         @NotBlank(message = "책 제목은 필수입니다")
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
@@ -101,6 +103,7 @@ public class DroppedBookDto {
     @AllArgsConstructor
     public static class UpdateRequest {
         @Size(max = 200, message = "책 제목은 200자 이하여야 합니다")
+        @Pattern(regexp = BookFingerprint.TITLE_REGEXP, message = BookFingerprint.EMPTY_TITLE_MESSAGE)
         private String title;
         
         @Size(max = 100, message = "저자명은 100자 이하여야 합니다")
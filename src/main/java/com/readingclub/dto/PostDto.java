@@ -103,6 +103,9 @@ public class PostDto {
         private String quote;
         private Integer pageNumber;
         
+        private Integer commentCount; // 삭제되지 않은 댓글 수
+        private Integer likeCount;
+        
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
@@ -113,9 +116,88 @@ public class PostDto {
     @AllArgsConstructor
     public static class ListResponse {
         private java.util.List<Response> posts;
-        private int totalCount;
+        private Integer totalCount; // includeTotal=false 이면 null
         private int currentPage;
-        private int totalPages;
+        private Integer totalPages; // includeTotal=false 이면 null
+        private boolean hasNext;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        private Long id;
+        private Long userId;
+        private String userName;
+        private String userProfileImage;
+        private BookInfo bookInfo; // 표지/제목/저자만 포함
+        private PostType postType;
+        private PostVisibility visibility;
+        private String title;
+        private RecommendationType recommendationType;
+        private String excerpt; // 본문(독후감)/이유(추천)/첫 문장(문장 수집) 발췌
+        private Integer commentCount; // 삭제되지 않은 댓글 수
+        private Integer likeCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryListResponse {
+        private List<Summary> posts;
+        private Integer totalCount; // includeTotal=false 이면 null
+        private int currentPage;
+        private Integer totalPages; // includeTotal=false 이면 null
+        private boolean hasNext;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorResponse {
+        private java.util.List<Response> posts;
+        private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookPostStats {
+        private long totalCount;
+        private long reviewCount;
+        private long recommendationCount;
+        private long quoteCount;
+        private long recommendCount;
+        private long notRecommendCount;
+        private double recommendRatio; // 추천 / (추천 + 비추천), 추천글이 없으면 0
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookPostsResponse {
+        private List<Response> posts;
+        private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+        private BookPostStats stats; // 첫 페이지에서만 포함
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LikeResponse {
+        private Long postId;
+        private boolean liked;
+        private int likeCount;
     }
     
     @Data
@@ -128,5 +210,9 @@ public class PostDto {
         private Long userId;
         private int page = 0;
         private int size = 10;
+        
+        // false 이면 COUNT 쿼리 없이 hasNext 만 계산 (무한 스크롤용)
+        @Builder.Default
+        private boolean includeTotal = true;
     }
 }
@@ -42,6 +42,7 @@ public class ReadingGroupDto {
         private String meetingUrl;
 
         // 도서 관련 필드 추가
+        private String bookIsbn;
         private String bookTitle;
         private String bookAuthor;
         private String bookPublisher;
@@ -80,6 +81,9 @@ public class ReadingGroupDto {
         private String bookCoverImage;
         private String bookDescription;
 
+        @Size(max = 20, message = "ISBN은 20자 이하여야 합니다")
+        private String bookIsbn;
+
         @NotNull(message = "모임 일시는 필수입니다")
         private LocalDateTime meetingDateTime;
 
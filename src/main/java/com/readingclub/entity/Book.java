@@ -1,5 +1,6 @@
 package com.readingclub.entity;
 
+import com.readingclub.util.BookFingerprint;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+    @Index(name = "idx_books_user_finished_date", columnList = "user_id, finished_date"),
+    @Index(name = "idx_books_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_books_user_isbn_key", columnList = "user_id, isbn_key")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +27,10 @@ import java.time.LocalDateTime;
 public class Book {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "book_id")
+    @TableGenerator(name = "book_id", table = "id_generators",
+                    pkColumnName = "sequence_name", valueColumnName = "next_val",
+                    pkColumnValue = "books", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +43,20 @@ public class Book {
     @Column(name = "author", length = 100)
     private String author;
     
+    @Column(name = "isbn", length = 20)
+    private String isbn;
+    
+    @Column(name = "isbn_key", length = 13)
+    private String isbnKey; // ISBN-13으로 통일한 값 (저장 시 자동 계산)
+    
+    // 공용 도서 카탈로그 (출판사/소개 등은 행에 복사하지 않고 카탈로그에서 읽음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+    
+    @Column(name = "fingerprint", length = BookFingerprint.MAX_LENGTH)
+    private String fingerprint; // 중복 체크용 정규화 지문 (제목|저자, 저장 시 자동 계산)
+    
     @Column(name = "cover_image", length = 500)
     private String coverImage;
     
@@ -55,10 +77,17 @@ public class Book {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    // 별점 유효성 검증
+    // 별점 유효성 검증 및 지문/ISBN 갱신
     @PrePersist
     @PreUpdate
     private void validateRating() {
+        requireValidRating(rating);
+        fingerprint = BookFingerprint.ofOrNull(title, author);
+        isbnKey = BookFingerprint.isbn13(isbn);
+    }
+    
+    // 별점 규칙 (일괄 가져오기에서 저장 전 검증에도 사용)
+    public static void requireValidRating(Integer rating) {
         if (rating == null || rating < 1 || rating > 5) {
             throw new IllegalArgumentException("별점은 1-5 사이의 값이어야 합니다.");
         }
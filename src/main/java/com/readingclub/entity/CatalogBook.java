@@ -0,0 +1,59 @@
+package com.readingclub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * ISBN 기준 공용 도서 정보 (알라딘 검색 결과 등으로 채움)
+ */
+@Entity
+@Table(name = "catalog_books",
+       uniqueConstraints = @UniqueConstraint(name = "uk_catalog_books_isbn", columnNames = "isbn"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CatalogBook {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "isbn", nullable = false, length = 20)
+    private String isbn;
+    
+    @Column(name = "title", nullable = false)
+    private String title;
+    
+    @Column(name = "author")
+    private String author;
+    
+    @Column(name = "publisher")
+    private String publisher;
+    
+    @Column(name = "cover_image", length = 500)
+    private String coverImage;
+    
+    @Column(name = "pub_date")
+    private String pubDate;
+    
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -14,7 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_post_parent_created_at", columnList = "post_id, parent_id, created_at, id"),
+    @Index(name = "idx_comments_post_updated_at", columnList = "post_id, updated_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -66,9 +69,11 @@ public class Comment {
         return parent == null;
     }
     
+    public static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+    
     public void delete() {
         this.isDeleted = true;
-        this.content = "삭제된 댓글입니다.";
+        this.content = DELETED_CONTENT;
     }
     
     public boolean canDeleteByUser(Long userId) {
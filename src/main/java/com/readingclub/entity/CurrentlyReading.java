@@ -1,5 +1,6 @@
 package com.readingclub.entity;
 
+import com.readingclub.util.BookFingerprint;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -10,7 +11,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "currently_reading")
+@Table(name = "currently_reading", indexes = {
+    @Index(name = "idx_currently_reading_user_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_currently_reading_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_currently_reading_user_isbn_key", columnList = "user_id, isbn_key")
+})
 @Getter
 @Setter
 @Builder
@@ -33,6 +38,15 @@ public class CurrentlyReading {
     @Column(length = 100)
     private String author;
     
+    @Column(length = 20)
+    private String isbn;
+    
+    @Column(name = "isbn_key", length = 13)
+    private String isbnKey; // ISBN-13으로 통일한 값 (저장 시 자동 계산)
+    
+    @Column(name = "fingerprint", length = BookFingerprint.MAX_LENGTH)
+    private String fingerprint; // 중복 체크용 정규화 지문 (제목|저자, 저장 시 자동 계산)
+    
     @Column(length = 500)
     private String coverImage;
     
@@ -45,6 +59,11 @@ public class CurrentlyReading {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    // ISBN으로 연결한 공용 도서 카탈로그 (없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ReadingType readingType;
@@ -93,4 +112,12 @@ public class CurrentlyReading {
                dueDate != null && 
                dueDate.isBefore(LocalDate.now());
     }
-} 
\ No newline at end of file
+    
+    // 중복 체크용 지문/ISBN 갱신
+    @PrePersist
+    @PreUpdate
+    private void updateFingerprint() {
+        fingerprint = BookFingerprint.ofOrNull(title, author);
+        isbnKey = BookFingerprint.isbn13(isbn);
+    }
+}
@@ -1,5 +1,6 @@
 package com.readingclub.entity;
 
+import com.readingclub.util.BookFingerprint;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "dropped_books")
+@Table(name = "dropped_books", indexes = {
+    @Index(name = "idx_dropped_books_user_dropped_date", columnList = "user_id, dropped_date"),
+    @Index(name = "idx_dropped_books_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_dropped_books_user_isbn_key", columnList = "user_id, isbn_key")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +44,12 @@ public class DroppedBook {
     @Column(name = "isbn")
     private String isbn;
     
+    @Column(name = "isbn_key", length = 13)
+    private String isbnKey; // ISBN-13으로 통일한 값 (저장 시 자동 계산)
+    
+    @Column(name = "fingerprint", length = BookFingerprint.MAX_LENGTH)
+    private String fingerprint; // 중복 체크용 정규화 지문 (제목|저자, 저장 시 자동 계산)
+    
     @Column(name = "cover_image")
     private String coverImage;
     
@@ -51,6 +62,11 @@ public class DroppedBook {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
     
+    // 공용 도서 카탈로그 (ISBN이 있을 때만, 출판사/소개는 사용자가 수정할 수 있어 행에도 유지)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+    
     // 읽기 정보
     @Column(name = "reading_type", nullable = false)
     @Enumerated(EnumType.STRING)
@@ -95,4 +111,12 @@ public class DroppedBook {
             return displayName;
         }
     }
+    
+    // 중복 체크용 지문/ISBN 갱신
+    @PrePersist
+    @PreUpdate
+    private void updateFingerprint() {
+        fingerprint = BookFingerprint.ofOrNull(title, author);
+        isbnKey = BookFingerprint.isbn13(isbn);
+    }
 }
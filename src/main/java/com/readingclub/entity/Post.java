@@ -14,7 +14,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_visibility_created_at_id", columnList = "visibility, created_at, id"),
+    @Index(name = "idx_posts_type_visibility_created_at_id", columnList = "post_type, visibility, created_at, id"),
+    @Index(name = "idx_posts_book_isbn_visibility_created_at", columnList = "book_isbn, visibility, created_at, id"),
+    @Index(name = "idx_posts_user_visibility_created_at_id", columnList = "user_id, visibility, created_at, id"),
+    @Index(name = "idx_posts_updated_at_id", columnList = "updated_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -60,6 +66,11 @@ public class Post {
     @Column(name = "book_description", columnDefinition = "TEXT")
     private String bookDescription;
     
+    // 공용 도서 정보 (참조 시 출판사/출간일/설명은 게시글에 복사하지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+    
     // 독후감 필드
     @Column(name = "title")
     private String title;
@@ -86,6 +97,20 @@ public class Post {
     @Column(name = "page_number")
     private Integer pageNumber;
     
+    // 댓글 수 (CommentService 에서 UPDATE ... SET x = x + 1 로만 갱신, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer commentCount = 0;
+    
+    @Column(name = "active_comment_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer activeCommentCount = 0;
+    
+    // 좋아요 수 (PostLikeCounter 가 모아서 주기적으로 갱신, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer likeCount = 0;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
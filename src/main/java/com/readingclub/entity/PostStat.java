@@ -0,0 +1,37 @@
+package com.readingclub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 시간대별 조회수 집계 (1시간 단위)
+ * 조회 시마다 갱신하지 않고 메모리에 모은 증가분을 주기적으로 한 번에 반영한다.
+ */
+@Entity
+@Table(name = "post_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_post_stats_post_bucket", columnNames = {"post_id", "bucket_hour"}),
+       indexes = @Index(name = "idx_post_stats_bucket_post", columnList = "bucket_hour, post_id, view_count"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+    
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour; // 집계 구간 시작 시각 (정시)
+    
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+}
@@ -59,6 +59,14 @@ public class ReadingGroup {
 
     private String bookCoverImage;
 
+    @Column(length = 20)
+    private String bookIsbn;
+
+    // 모임 도서의 공용 카탈로그 (도서 소개는 모임 행이 아니라 카탈로그에 보관)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+
     // 📅 모임 일시 및 진행 시간
     @Column(nullable = false)
     private LocalDateTime meetingDateTime;
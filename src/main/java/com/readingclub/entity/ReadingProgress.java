@@ -21,7 +21,10 @@ import java.time.LocalDateTime;
 public class ReadingProgress {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reading_progress_id")
+    @TableGenerator(name = "reading_progress_id", table = "id_generators",
+                    pkColumnName = "sequence_name", valueColumnName = "next_val",
+                    pkColumnValue = "reading_progresses", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,16 +36,20 @@ public class ReadingProgress {
     private User user;
     
     @Column(nullable = false)
+    @Builder.Default
     private Integer currentPage = 0; // 현재 읽은 페이지
     
     @Column(nullable = false)
+    @Builder.Default
     private Integer totalPages = 0; // 전체 페이지 수
     
     @Column(nullable = false)
+    @Builder.Default
     private Integer progressPercentage = 0; // 진행률 (0-100)
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @Builder.Default
     private ReadingStatus status = ReadingStatus.NOT_STARTED;
     
     @Column
@@ -52,6 +59,7 @@ public class ReadingProgress {
     private LocalDate completedAt; // 완독일
     
     @Column(nullable = false)
+    @Builder.Default
     private Integer rating = 0; // 별점 (0-5)
     
     @Column(columnDefinition = "TEXT")
@@ -0,0 +1,73 @@
+package com.readingclub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 독서 통계 집계 (서재/게시글 쓰기 시 증감분을 반영)
+ * period 가 'ALL' 이면 전체 누적, 'yyyy' 면 연도별, 'yyyy-MM' 이면 월별 집계이다.
+ * 읽고 있는 책/위시리스트 권수는 날짜 구분이 없으므로 'ALL' 행에만 쌓인다.
+ */
+@Entity
+@Table(name = "user_stats")
+@IdClass(UserStats.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+    
+    public static final String ALL_PERIOD = "ALL";
+    
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Id
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+    
+    @Column(name = "finished_books", nullable = false)
+    private long finishedBooks; // 완독한 책 권수 (완독일 기준)
+    
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum; // 완독한 책 별점 합계 (평균 별점 계산용)
+    
+    @Column(name = "dropped_books", nullable = false)
+    private long droppedBooks; // 읽다 만 책 권수 (하차일 기준)
+    
+    @Column(name = "posts", nullable = false)
+    private long posts; // 게시글 개수 (작성일 기준)
+    
+    @Column(name = "currently_reading_count", nullable = false)
+    private long currentlyReadingCount;
+    
+    @Column(name = "wishlist_count", nullable = false)
+    private long wishlistCount;
+    
+    /**
+     * 집계 행이 없을 때 사용할 빈 통계
+     */
+    public static UserStats empty(Long userId, String period) {
+        return UserStats.builder()
+                .userId(userId)
+                .period(period)
+                .build();
+    }
+    
+    /**
+     * 복합 키 (user_id, period)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String period;
+    }
+}
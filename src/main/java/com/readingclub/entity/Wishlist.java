@@ -1,5 +1,6 @@
 package com.readingclub.entity;
 
+import com.readingclub.util.BookFingerprint;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -9,7 +10,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "wishlists")
+@Table(name = "wishlists", indexes = {
+    @Index(name = "idx_wishlists_user_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_wishlists_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_wishlists_user_isbn_key", columnList = "user_id, isbn_key")
+})
 @Getter
 @Setter
 @Builder
@@ -32,6 +37,15 @@ public class Wishlist {
     @Column(length = 100)
     private String author;
     
+    @Column(length = 20)
+    private String isbn;
+    
+    @Column(name = "isbn_key", length = 13)
+    private String isbnKey; // ISBN-13으로 통일한 값 (저장 시 자동 계산)
+    
+    @Column(name = "fingerprint", length = BookFingerprint.MAX_LENGTH)
+    private String fingerprint; // 중복 체크용 정규화 지문 (제목|저자, 저장 시 자동 계산)
+    
     @Column(length = 500)
     private String coverImage;
     
@@ -44,6 +58,11 @@ public class Wishlist {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    // 공용 도서 카탈로그 (ISBN이 있을 때만 연결, 수정 API 로 바꿀 수 있는 도서 정보는 행에도 유지)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_book_id")
+    private CatalogBook catalogBook;
+    
     @Column(columnDefinition = "TEXT")
     private String memo; // 읽고 싶은 이유나 메모
     
@@ -57,4 +76,12 @@ public class Wishlist {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    // 중복 체크용 지문/ISBN 갱신
+    @PrePersist
+    @PreUpdate
+    private void updateFingerprint() {
+        fingerprint = BookFingerprint.ofOrNull(title, author);
+        isbnKey = BookFingerprint.isbn13(isbn);
+    }
 }
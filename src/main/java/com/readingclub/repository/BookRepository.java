@@ -1,19 +1,35 @@
 package com.readingclub.repository;
 
 import com.readingclub.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+    
+    /**
+     * 조건별 책 목록 조회 (BookSpecifications 조합)
+     */
+    @EntityGraph(attributePaths = "user")
+    Page<Book> findAll(Specification<Book> spec, Pageable pageable);
     
     /**
      * 사용자별 책 목록 조회 (페이징)
@@ -25,17 +41,27 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     List<Book> findByUserIdOrderByFinishedDateDesc(Long userId);
     
+    /**
+     * 사용자별 완독일 구간 책 목록 조회 ([startDate, endDate) 범위로 (user_id, finished_date) 인덱스 사용)
+     */
+    @Query("SELECT b FROM Book b WHERE b.user.id = :userId AND b.finishedDate >= :startDate AND b.finishedDate < :endDate ORDER BY b.finishedDate DESC")
+    List<Book> findByUserIdAndFinishedDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
     /**
      * 사용자별 특정 연도 책 목록 조회
      */
-    @Query("SELECT b FROM Book b WHERE b.user.id = :userId AND YEAR(b.finishedDate) = :year ORDER BY b.finishedDate DESC")
-    List<Book> findByUserIdAndYear(@Param("userId") Long userId, @Param("year") int year);
+    default List<Book> findByUserIdAndYear(Long userId, int year) {
+        Year target = Year.of(year);
+        return findByUserIdAndFinishedDateRange(userId, target.atDay(1), target.plusYears(1).atDay(1));
+    }
     
     /**
      * 사용자별 특정 연월 책 목록 조회
      */
-    @Query("SELECT b FROM Book b WHERE b.user.id = :userId AND YEAR(b.finishedDate) = :year AND MONTH(b.finishedDate) = :month ORDER BY b.finishedDate DESC")
-    List<Book> findByUserIdAndYearAndMonth(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+    default List<Book> findByUserIdAndYearAndMonth(Long userId, int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        return findByUserIdAndFinishedDateRange(userId, target.atDay(1), target.plusMonths(1).atDay(1));
+    }
     
     /**
      * 사용자별 특정 기간 책 목록 조회
@@ -91,8 +117,118 @@ public interface BookRepository extends JpaRepository<Book, Long> {
            "ORDER BY year DESC, month DESC")
     List<Object[]> findMonthlyStatsByUserId(@Param("userId") Long userId);
     
+    /**
+     * 서재별 표지 URL (shelf, coverImage)
+     */
+    interface ShelfCoverView {
+        String getShelf();
+        String getCoverImage();
+    }
+    
+    /**
+     * 기간 내 네 서재(완독/읽는 중/읽다 만/위시리스트)의 표지 URL을 한 번에 조회
+     * 날짜는 범위 비교로만 조건을 걸어 각 테이블의 (user_id, 날짜) 인덱스를 사용하고, 표지 컬럼만 읽는다.
+     * 서재 순서는 COMPLETED, READING, DROPPED, WISHLIST 이며 서재 안에서는 기존 목록 정렬을 따른다.
+     */
+    @Query(value = "SELECT u.shelf AS shelf, u.cover_image AS coverImage FROM (" +
+                   "SELECT 'COMPLETED' AS shelf, 1 AS shelf_order, 0 AS sort_priority, " +
+                   "CAST(b.finished_date AS DATETIME) AS sort_time, b.cover_image FROM books b " +
+                   "WHERE b.user_id = :userId AND b.finished_date >= :startDate AND b.finished_date < :endDate " +
+                   "AND b.cover_image IS NOT NULL AND TRIM(b.cover_image) <> '' " +
+                   "UNION ALL " +
+                   "SELECT 'READING', 2, 0, cr.created_at, cr.cover_image FROM currently_reading cr " +
+                   "WHERE cr.user_id = :userId AND cr.created_at >= :startTime AND cr.created_at < :endTime " +
+                   "AND cr.cover_image IS NOT NULL AND TRIM(cr.cover_image) <> '' " +
+                   "UNION ALL " +
+                   "SELECT 'DROPPED', 3, 0, CAST(d.dropped_date AS DATETIME), d.cover_image FROM dropped_books d " +
+                   "WHERE d.user_id = :userId AND d.dropped_date >= :startDate AND d.dropped_date < :endDate " +
+                   "AND d.cover_image IS NOT NULL AND TRIM(d.cover_image) <> '' " +
+                   "UNION ALL " +
+                   "SELECT 'WISHLIST', 4, w.priority, w.created_at, w.cover_image FROM wishlists w " +
+                   "WHERE w.user_id = :userId AND w.created_at >= :startTime AND w.created_at < :endTime " +
+                   "AND w.cover_image IS NOT NULL AND TRIM(w.cover_image) <> ''" +
+                   ") u ORDER BY u.shelf_order ASC, u.sort_priority ASC, u.sort_time DESC",
+           nativeQuery = true)
+    List<ShelfCoverView> findShelfCoversBetween(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    /**
+     * 지문 또는 ISBN으로 서재에 있는 책 조회 (shelf, id, title, author)
+     */
+    interface ShelfEntryView {
+        String getShelf();
+        Long getId();
+        String getTitle();
+        String getAuthor();
+    }
+    
+    /**
+     * 네 서재(완독/읽는 중/읽다 만/위시리스트)에서 지문이 일치하는 책을 한 번에 조회
+     * pattern 은 정확한 지문 또는 "제목|%" 접두 패턴이며, 각 테이블의 (user_id, fingerprint) 인덱스를 사용한다.
+     */
+    @Query(value = "SELECT 'COMPLETED' AS shelf, b.id AS id, b.title AS title, b.author AS author FROM books b " +
+                   "WHERE b.user_id = :userId AND b.fingerprint LIKE :pattern " +
+                   "UNION ALL " +
+                   "SELECT 'READING', cr.id, cr.title, cr.author FROM currently_reading cr " +
+                   "WHERE cr.user_id = :userId AND cr.fingerprint LIKE :pattern " +
+                   "UNION ALL " +
+                   "SELECT 'DROPPED', d.id, d.title, d.author FROM dropped_books d " +
+                   "WHERE d.user_id = :userId AND d.fingerprint LIKE :pattern " +
+                   "UNION ALL " +
+                   "SELECT 'WISHLIST', w.id, w.title, w.author FROM wishlists w " +
+                   "WHERE w.user_id = :userId AND w.fingerprint LIKE :pattern",
+           nativeQuery = true)
+    List<ShelfEntryView> findShelfEntriesByFingerprint(@Param("userId") Long userId, @Param("pattern") String pattern);
+    
+    /**
+     * 네 서재에서 ISBN-13 키가 일치하는 책을 한 번에 조회 (각 테이블의 (user_id, isbn_key) 인덱스 사용)
+     * 제목 표기가 달라도 같은 ISBN이면 찾으므로 지문 조회보다 먼저 확인한다.
+     */
+    @Query(value = "SELECT 'COMPLETED' AS shelf, b.id AS id, b.title AS title, b.author AS author FROM books b " +
+                   "WHERE b.user_id = :userId AND b.isbn_key = :isbnKey " +
+                   "UNION ALL " +
+                   "SELECT 'READING', cr.id, cr.title, cr.author FROM currently_reading cr " +
+                   "WHERE cr.user_id = :userId AND cr.isbn_key = :isbnKey " +
+                   "UNION ALL " +
+                   "SELECT 'DROPPED', d.id, d.title, d.author FROM dropped_books d " +
+                   "WHERE d.user_id = :userId AND d.isbn_key = :isbnKey " +
+                   "UNION ALL " +
+                   "SELECT 'WISHLIST', w.id, w.title, w.author FROM wishlists w " +
+                   "WHERE w.user_id = :userId AND w.isbn_key = :isbnKey",
+           nativeQuery = true)
+    List<ShelfEntryView> findShelfEntriesByIsbnKey(@Param("userId") Long userId, @Param("isbnKey") String isbnKey);
+    
+    /**
+     * 지문으로 완독한 책 조회 (정확한 지문 또는 "제목|%" 패턴)
+     */
+    List<Book> findByUserIdAndFingerprintLike(Long userId, String fingerprint);
+    
+    /**
+     * 네 서재의 지문 목록 (일괄 가져오기 중복 제외용, 서재마다 (user_id, fingerprint) 인덱스만 읽음)
+     */
+    @Query(value = "SELECT b.fingerprint FROM books b WHERE b.user_id = :userId AND b.fingerprint IS NOT NULL " +
+                   "UNION " +
+                   "SELECT c.fingerprint FROM currently_reading c WHERE c.user_id = :userId AND c.fingerprint IS NOT NULL " +
+                   "UNION " +
+                   "SELECT w.fingerprint FROM wishlists w WHERE w.user_id = :userId AND w.fingerprint IS NOT NULL " +
+                   "UNION " +
+                   "SELECT d.fingerprint FROM dropped_books d WHERE d.user_id = :userId AND d.fingerprint IS NOT NULL",
+           nativeQuery = true)
+    List<String> findShelfFingerprintsByUserId(@Param("userId") Long userId);
+    
     /**
      * 사용자와 책 ID로 책 조회 (권한 확인용)
      */
     Optional<Book> findByIdAndUserId(Long bookId, Long userId);
+    
+    /**
+     * 내보내기용 전체 목록 스트림 (전진 전용, MySQL 드라이버가 한 행씩 읽음 / 트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b FROM Book b WHERE b.user.id = :userId ORDER BY b.id")
+    Stream<Book> streamByUserId(@Param("userId") Long userId);
 }
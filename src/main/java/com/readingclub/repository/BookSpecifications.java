@@ -0,0 +1,39 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.Book;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * 내 서재 목록 동적 필터 조건
+ * 날짜 조건은 YEAR()/MONTH() 대신 범위 비교로 만들어 (user_id, finished_date) 인덱스를 그대로 탄다.
+ */
+public final class BookSpecifications {
+    
+    private BookSpecifications() {
+    }
+    
+    public static Specification<Book> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+    
+    // start 이상 endExclusive 미만 완독
+    public static Specification<Book> finishedBetween(LocalDate start, LocalDate endExclusive) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("finishedDate"), start),
+                cb.lessThan(root.get("finishedDate"), endExclusive));
+    }
+    
+    public static Specification<Book> hasRating(Integer rating) {
+        return (root, query, cb) -> cb.equal(root.get("rating"), rating);
+    }
+    
+    // 제목 또는 저자에 검색어 포함 (대소문자 무시)
+    public static Specification<Book> titleOrAuthorContains(String search) {
+        String pattern = "%" + search.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("author")), pattern));
+    }
+}
@@ -0,0 +1,40 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.CatalogBook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CatalogBookRepository extends JpaRepository<CatalogBook, Long> {
+    
+    Optional<CatalogBook> findByIsbn(String isbn);
+    
+    List<CatalogBook> findByIsbnIn(Collection<String> isbns);
+    
+    // ISBN 기준 등록 (이미 있으면 비어 있는 항목만 채움, 동시 등록 시에도 중복 없음)
+    @Modifying
+    @Query(value = "INSERT INTO catalog_books " +
+                   "(isbn, title, author, publisher, cover_image, pub_date, description, created_at, updated_at) " +
+                   "VALUES (:isbn, :title, :author, :publisher, :coverImage, :pubDate, :description, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "author = COALESCE(author, VALUES(author)), " +
+                   "publisher = COALESCE(publisher, VALUES(publisher)), " +
+                   "cover_image = COALESCE(cover_image, VALUES(cover_image)), " +
+                   "pub_date = COALESCE(pub_date, VALUES(pub_date)), " +
+                   "description = COALESCE(description, VALUES(description))",
+           nativeQuery = true)
+    int upsert(@Param("isbn") String isbn,
+               @Param("title") String title,
+               @Param("author") String author,
+               @Param("publisher") String publisher,
+               @Param("coverImage") String coverImage,
+               @Param("pubDate") String pubDate,
+               @Param("description") String description);
+}
@@ -3,11 +3,15 @@ package com.readingclub.repository;
 import com.readingclub.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,19 +19,100 @@ import java.util.Optional;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     // 게시글의 댓글 목록 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId, Pageable pageable);
     
     // 게시글의 댓글 목록 조회 (전체)
     List<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId);
     
-    // 특정 댓글의 대댓글 목록 조회
-    List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
+    /**
+     * 주어진 댓글들의 모든 하위 대댓글 ID (깊이와 무관하게 재귀 CTE 한 번)
+     * 단계마다 (post_id, parent_id) 인덱스로 자식을 찾는다.
+     */
+    @Query(value = "WITH RECURSIVE tree (id) AS (" +
+                   "SELECT c.id FROM comments c WHERE c.post_id = :postId AND c.parent_id IN (:parentIds) " +
+                   "UNION ALL " +
+                   "SELECT c.id FROM comments c JOIN tree t ON c.parent_id = t.id WHERE c.post_id = :postId" +
+                   ") SELECT id FROM tree",
+           nativeQuery = true)
+    List<Long> findDescendantIds(@Param("postId") Long postId, @Param("parentIds") Collection<Long> parentIds);
     
-    // 게시글의 모든 댓글 개수 (삭제된 것 포함)
-    long countByPostId(Long postId);
+    // 게시글의 댓글 커서 조회 (작성순, 대댓글 제외)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE " +
+           "c.post.id = :postId AND c.parent IS NULL AND " +
+           "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootCommentsAfterCursor(
+        @Param("postId") Long postId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
     
-    // 게시글의 활성 댓글 개수 (삭제되지 않은 것만)
-    long countByPostIdAndIsDeletedFalse(Long postId);
+    // 특정 댓글의 대댓글 커서 조회 (작성순)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE " +
+           "c.post.id = :postId AND c.parent.id = :parentId AND " +
+           "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesAfterCursor(
+        @Param("postId") Long postId,
+        @Param("parentId") Long parentId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    /**
+     * 대댓글 미리보기 행 (id, parentId, 부모의 전체 대댓글 수)
+     */
+    interface ReplyPreviewRow {
+        Long getId();
+        Long getParentId();
+        Long getReplyCount();
+    }
+    
+    /**
+     * 주어진 댓글들의 하위 트리에서 부모마다 앞쪽 limit 건과 부모별 대댓글 수를 한 번에 조회
+     * MySQL 은 재귀 부분에 윈도 함수를 허용하지 않으므로 하위 트리를 모두 모은 뒤 바깥에서 순위를 매긴다.
+     */
+    @Query(value = "WITH RECURSIVE tree (id, parent_id, created_at) AS (" +
+                   "SELECT c.id, c.parent_id, c.created_at FROM comments c " +
+                   "WHERE c.post_id = :postId AND c.parent_id IN (:parentIds) " +
+                   "UNION ALL " +
+                   "SELECT c.id, c.parent_id, c.created_at FROM comments c JOIN tree t ON c.parent_id = t.id " +
+                   "WHERE c.post_id = :postId" +
+                   ") SELECT ranked.id AS id, ranked.parent_id AS parentId, ranked.reply_count AS replyCount FROM (" +
+                   "SELECT id, parent_id, COUNT(*) OVER (PARTITION BY parent_id) AS reply_count, " +
+                   "ROW_NUMBER() OVER (PARTITION BY parent_id ORDER BY created_at, id) AS rn FROM tree" +
+                   ") ranked WHERE ranked.rn <= :limit",
+           nativeQuery = true)
+    List<ReplyPreviewRow> findReplyPreviewRows(
+        @Param("postId") Long postId,
+        @Param("parentIds") Collection<Long> parentIds,
+        @Param("limit") int limit);
+    
+    // ID 목록으로 댓글 조회 (작성자 포함)
+    @EntityGraph(attributePaths = "user")
+    List<Comment> findByIdIn(Collection<Long> ids);
+    
+    // 작성자의 삭제되지 않은 댓글만 삭제 처리 (동시 삭제 시 한 요청만 1 반환)
+    // 벌크 UPDATE 는 @LastModifiedDate 가 적용되지 않으므로 수정 시각을 직접 지정 (스트림 폴링에서 사용)
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.content = :content, c.updatedAt = :updatedAt " +
+           "WHERE c.id = :id AND c.user.id = :userId AND c.isDeleted = false")
+    int softDeleteIfActive(
+        @Param("id") Long id,
+        @Param("userId") Long userId,
+        @Param("content") String content,
+        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // 구독 중인 게시글들의 최근 변경 댓글 (실시간 스트림 DB 폴링용)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM Comment c WHERE c.post.id IN :postIds AND c.updatedAt > :since " +
+           "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<Comment> findChangedSince(
+        @Param("postIds") Collection<Long> postIds,
+        @Param("since") LocalDateTime since);
     
     // 사용자가 작성한 댓글 목록
     Page<Comment> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
@@ -35,14 +120,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 특정 댓글 조회 (작성자 포함)
     Optional<Comment> findByIdAndUserId(Long id, Long userId);
     
-    // 게시글의 댓글 개수 (대댓글 포함)
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
-    long countCommentsByPostId(@Param("postId") Long postId);
-    
-    // 게시글의 활성 댓글 개수 (대댓글 포함, 삭제되지 않은 것만)
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false")
-    long countActiveCommentsByPostId(@Param("postId") Long postId);
-    
     // 특정 댓글과 그 대댓글들 조회
     @Query("SELECT c FROM Comment c WHERE c.id = :commentId OR c.parent.id = :commentId ORDER BY c.createdAt ASC")
     List<Comment> findCommentWithReplies(@Param("commentId") Long commentId);
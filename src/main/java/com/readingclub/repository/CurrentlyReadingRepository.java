@@ -1,16 +1,22 @@
 package com.readingclub.repository;
 
 import com.readingclub.entity.CurrentlyReading;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CurrentlyReadingRepository extends JpaRepository<CurrentlyReading, Long> {
@@ -27,6 +33,15 @@ public interface CurrentlyReadingRepository extends JpaRepository<CurrentlyReadi
     // 사용자의 특정 책이 읽고 있는 책에 있는지 확인 (저자 없이)
     boolean existsByUserIdAndTitle(Long userId, String title);
     
+    // 지문이 같은 책이 읽고 있는 책에 있는지 확인 ((user_id, fingerprint) 인덱스 사용)
+    boolean existsByUserIdAndFingerprint(Long userId, String fingerprint);
+    
+    // ISBN-13으로 통일한 값으로 읽고 있는 책에 있는지 확인 ((user_id, isbn_key) 인덱스 사용)
+    boolean existsByUserIdAndIsbnKey(Long userId, String isbnKey);
+    
+    // 지문으로 읽고 있는 책 조회 (정확한 지문 또는 "제목|%" 패턴)
+    List<CurrentlyReading> findByUserIdAndFingerprintLike(Long userId, String fingerprint);
+    
     // 사용자의 읽고 있는 책 개수
     long countByUserId(Long userId);
     
@@ -41,7 +56,20 @@ public interface CurrentlyReadingRepository extends JpaRepository<CurrentlyReadi
     // 특정 읽고 있는 책 조회
     Optional<CurrentlyReading> findByIdAndUserId(Long id, Long userId);
     
-    // 이번 달에 등록한 읽고 있는 책들 조회
-    @Query("SELECT cr FROM CurrentlyReading cr WHERE cr.user.id = :userId AND YEAR(cr.createdAt) = :year AND MONTH(cr.createdAt) = :month ORDER BY cr.createdAt DESC")
-    List<CurrentlyReading> findByUserIdAndCreatedAtYearAndCreatedAtMonth(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
-} 
\ No newline at end of file
+    // 등록일 구간의 읽고 있는 책들 조회 ([startTime, endTime) 범위로 (user_id, created_at) 인덱스 사용)
+    @Query("SELECT cr FROM CurrentlyReading cr WHERE cr.user.id = :userId AND cr.createdAt >= :startTime AND cr.createdAt < :endTime ORDER BY cr.createdAt DESC")
+    List<CurrentlyReading> findByUserIdAndCreatedAtRange(@Param("userId") Long userId, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+    
+    // 특정 연월에 등록한 읽고 있는 책들 조회
+    default List<CurrentlyReading> findByUserIdAndCreatedAtYearAndCreatedAtMonth(Long userId, int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        return findByUserIdAndCreatedAtRange(userId, target.atDay(1).atStartOfDay(), target.plusMonths(1).atDay(1).atStartOfDay());
+    }
+    
+    /**
+     * 내보내기용 전체 목록 스트림 (전진 전용, MySQL 드라이버가 한 행씩 읽음 / 트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT cr FROM CurrentlyReading cr WHERE cr.user.id = :userId ORDER BY cr.id")
+    Stream<CurrentlyReading> streamByUserId(@Param("userId") Long userId);
+}
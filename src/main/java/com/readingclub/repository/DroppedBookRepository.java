@@ -1,16 +1,23 @@
 package com.readingclub.repository;
 
 import com.readingclub.entity.DroppedBook;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DroppedBookRepository extends JpaRepository<DroppedBook, Long> {
@@ -20,22 +27,37 @@ public interface DroppedBookRepository extends JpaRepository<DroppedBook, Long>
      */
     Page<DroppedBook> findByUserIdOrderByDroppedDateDesc(Long userId, Pageable pageable);
     
+    /**
+     * 사용자별 읽다 만 책 목록 조회 (전체 개수 없이)
+     */
+    Slice<DroppedBook> findSliceByUserIdOrderByDroppedDateDesc(Long userId, Pageable pageable);
+    
     /**
      * 사용자별 읽다 만 책 목록 조회 (하차일 기준 정렬)
      */
     List<DroppedBook> findByUserIdOrderByDroppedDateDesc(Long userId);
     
+    /**
+     * 사용자별 하차일 구간 읽다 만 책 목록 조회 ([startDate, endDate) 범위로 (user_id, dropped_date) 인덱스 사용)
+     */
+    @Query("SELECT d FROM DroppedBook d WHERE d.user.id = :userId AND d.droppedDate >= :startDate AND d.droppedDate < :endDate ORDER BY d.droppedDate DESC")
+    List<DroppedBook> findByUserIdAndDroppedDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
     /**
      * 사용자별 특정 연도 읽다 만 책 목록 조회
      */
-    @Query("SELECT d FROM DroppedBook d WHERE d.user.id = :userId AND YEAR(d.droppedDate) = :year ORDER BY d.droppedDate DESC")
-    List<DroppedBook> findByUserIdAndYear(@Param("userId") Long userId, @Param("year") int year);
+    default List<DroppedBook> findByUserIdAndYear(Long userId, int year) {
+        Year target = Year.of(year);
+        return findByUserIdAndDroppedDateRange(userId, target.atDay(1), target.plusYears(1).atDay(1));
+    }
     
     /**
      * 사용자별 특정 연월 읽다 만 책 목록 조회
      */
-    @Query("SELECT d FROM DroppedBook d WHERE d.user.id = :userId AND YEAR(d.droppedDate) = :year AND MONTH(d.droppedDate) = :month ORDER BY d.droppedDate DESC")
-    List<DroppedBook> findByUserIdAndYearAndMonth(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+    default List<DroppedBook> findByUserIdAndYearAndMonth(Long userId, int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        return findByUserIdAndDroppedDateRange(userId, target.atDay(1), target.plusMonths(1).atDay(1));
+    }
     
     /**
      * 사용자별 특정 기간 읽다 만 책 목록 조회
@@ -62,6 +84,13 @@ public interface DroppedBookRepository extends JpaRepository<DroppedBook, Long>
     Page<DroppedBook> findByUserIdAndTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
             @Param("userId") Long userId, @Param("search") String search, @Param("search") String search2, Pageable pageable);
     
+    /**
+     * 사용자별 제목 또는 저자로 검색 (전체 개수 없이)
+     */
+    @Query("SELECT d FROM DroppedBook d WHERE d.user.id = :userId AND (LOWER(d.title) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(d.author) LIKE LOWER(CONCAT('%', :search, '%'))) ORDER BY d.droppedDate DESC")
+    Slice<DroppedBook> findSliceByUserIdAndTitleOrAuthorContaining(
+            @Param("userId") Long userId, @Param("search") String search, Pageable pageable);
+    
     /**
      * 사용자별 총 읽다 만 책 수
      */
@@ -91,4 +120,31 @@ public interface DroppedBookRepository extends JpaRepository<DroppedBook, Long>
      * 사용자별 동일한 책이 이미 읽다 만 책으로 등록되어 있는지 확인 (제목만으로)
      */
     boolean existsByUserIdAndTitle(Long userId, String title);
+    
+    /**
+     * ISBN-13으로 통일한 값으로 중복 확인 ((user_id, isbn_key) 인덱스 사용)
+     */
+    boolean existsByUserIdAndIsbnKey(Long userId, String isbnKey);
+    
+    /**
+     * ISBN-13으로 통일한 값으로 중복 확인 (자기 자신 제외)
+     */
+    boolean existsByUserIdAndIsbnKeyAndIdNot(Long userId, String isbnKey, Long id);
+    
+    /**
+     * 지문으로 읽다 만 책 조회 (정확한 지문 또는 "제목|%" 패턴, (user_id, fingerprint) 인덱스 사용)
+     */
+    List<DroppedBook> findByUserIdAndFingerprintLike(Long userId, String fingerprint);
+    
+    /**
+     * 지문으로 읽다 만 책 조회 (정확한 지문 또는 "제목|%" 패턴, 자기 자신 제외)
+     */
+    List<DroppedBook> findByUserIdAndFingerprintLikeAndIdNot(Long userId, String fingerprint, Long id);
+    
+    /**
+     * 내보내기용 전체 목록 스트림 (전진 전용, MySQL 드라이버가 한 행씩 읽음 / 트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT d FROM DroppedBook d WHERE d.user.id = :userId ORDER BY d.id")
+    Stream<DroppedBook> streamByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,30 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+    
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+    
+    // 좋아요 추가 (이미 있으면 무시, 새로 추가된 경우에만 1 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
+    
+    // 좋아요 취소 (삭제된 경우에만 1 반환)
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+    
+    // 게시글 삭제 시 좋아요 삭제
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -3,40 +3,103 @@ package com.readingclub.repository;
 import com.readingclub.entity.Post;
 import com.readingclub.entity.PostType;
 import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.RecommendationType;
 import com.readingclub.entity.User;
+import com.readingclub.util.FeedCursor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
+    // 피드 요약 조회 시 본문 발췌 길이
+    int EXCERPT_LENGTH = 200;
+    
+    // 피드 요약 조회용 SELECT 절 (TEXT/JSON 컬럼은 발췌본만 조회)
+    String SUMMARY_SELECT = "SELECT p.id AS id, u.id AS userId, u.nickname AS userName, " +
+           "u.profileImage AS userProfileImage, p.postType AS postType, p.visibility AS visibility, " +
+           "p.bookIsbn AS bookIsbn, p.bookTitle AS bookTitle, p.bookAuthor AS bookAuthor, " +
+           "p.bookCover AS bookCover, p.title AS title, p.recommendationType AS recommendationType, " +
+           "p.activeCommentCount AS commentCount, " +
+           "p.likeCount AS likeCount, " +
+           "CASE p.postType " +
+           "WHEN com.readingclub.entity.PostType.REVIEW THEN SUBSTRING(p.content, 1, " + EXCERPT_LENGTH + ") " +
+           "WHEN com.readingclub.entity.PostType.RECOMMENDATION THEN SUBSTRING(p.reason, 1, " + EXCERPT_LENGTH + ") " +
+           "ELSE SUBSTRING(COALESCE(p.quote, CAST(FUNCTION('JSON_UNQUOTE', " +
+           "FUNCTION('JSON_EXTRACT', p.quotes, '$[0].text')) AS String)), 1, " + EXCERPT_LENGTH + ") " +
+           "END AS excerpt, " +
+           "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+           "FROM Post p JOIN p.user u ";
+    
+    /**
+     * 피드 요약 프로젝션 (본문 대신 발췌본만 포함)
+     */
+    interface SummaryView {
+        Long getId();
+        Long getUserId();
+        String getUserName();
+        String getUserProfileImage();
+        PostType getPostType();
+        PostVisibility getVisibility();
+        String getBookIsbn();
+        String getBookTitle();
+        String getBookAuthor();
+        String getBookCover();
+        String getTitle();
+        RecommendationType getRecommendationType();
+        String getExcerpt();
+        Integer getCommentCount();
+        Integer getLikeCount();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+    
+    // 주어진 게시글 중 해당 공개 범위인 게시글 ID (피드 캐시 검증용)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.visibility = :visibility")
+    List<Long> findIdsByIdInAndVisibility(@Param("ids") Collection<Long> ids,
+                                          @Param("visibility") PostVisibility visibility);
+    
     // 모든 공개 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByVisibilityOrderByCreatedAtDesc(PostVisibility visibility, Pageable pageable);
     
     // 타입별 공개 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByPostTypeAndVisibilityOrderByCreatedAtDesc(
         PostType postType, PostVisibility visibility, Pageable pageable);
     
     // 사용자별 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
     
     // 사용자별 + 타입별 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByUserAndPostTypeOrderByCreatedAtDesc(
         User user, PostType postType, Pageable pageable);
     
     // 사용자별 + 공개설정별 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByUserAndVisibilityOrderByCreatedAtDesc(
         User user, PostVisibility visibility, Pageable pageable);
     
     // 복합 조건 검색을 위한 커스텀 쿼리
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "(:postType IS NULL OR p.postType = :postType) AND " +
            "(:visibility IS NULL OR p.visibility = :visibility) AND " +
@@ -48,6 +111,28 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Param("userId") Long userId,
         Pageable pageable);
     
+    // 복합 조건 조회 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "(:postType IS NULL OR p.postType = :postType) AND " +
+           "(:visibility IS NULL OR p.visibility = :visibility) AND " +
+           "(:userId IS NULL OR p.user.id = :userId) " +
+           "ORDER BY p.createdAt DESC")
+    Slice<Post> findSliceWithFilters(
+        @Param("postType") PostType postType,
+        @Param("visibility") PostVisibility visibility,
+        @Param("userId") Long userId,
+        Pageable pageable);
+    
+    // 모든 공개 게시글 조회 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
+    Slice<Post> findSliceByVisibilityOrderByCreatedAtDesc(PostVisibility visibility, Pageable pageable);
+    
+    // 타입별 공개 게시글 조회 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
+    Slice<Post> findSliceByPostTypeAndVisibilityOrderByCreatedAtDesc(
+        PostType postType, PostVisibility visibility, Pageable pageable);
+    
     // 특정 사용자의 게시글 수 조회
     long countByUser(User user);
     
@@ -55,12 +140,42 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     long countByUserAndPostType(User user, PostType postType);
     
     // 특정 책에 대한 게시글 조회
+    @EntityGraph(attributePaths = "user")
     List<Post> findByBookIsbnOrderByCreatedAtDesc(String bookIsbn);
     
+    // 특정 책에 대한 공개설정별 게시글 조회
+    @EntityGraph(attributePaths = "user")
+    List<Post> findByBookIsbnAndVisibilityOrderByCreatedAtDesc(String bookIsbn, PostVisibility visibility);
+    
+    // 특정 책에 대한 게시글 커서 조회
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.bookIsbn = :bookIsbn AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByBookIsbnAndVisibilityBeforeCursor(
+        @Param("bookIsbn") String bookIsbn,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 특정 책의 공개 게시글 타입/추천 여부별 개수
+    @Query("SELECT p.postType, p.recommendationType, COUNT(p) FROM Post p WHERE " +
+           "p.bookIsbn = :bookIsbn AND p.visibility = 'PUBLIC' " +
+           "GROUP BY p.postType, p.recommendationType")
+    List<Object[]> countPublicByBookIsbnGroupByType(@Param("bookIsbn") String bookIsbn);
+    
+    // ID 목록으로 게시글 조회 (검색 색인 결과 로딩용)
+    @EntityGraph(attributePaths = "user")
+    List<Post> findByIdIn(Collection<Long> ids);
+    
     // 게시글 ID와 사용자로 조회 (권한 확인용)
     Optional<Post> findByIdAndUser(Long id, User user);
     
     // 책 제목으로 게시글 검색 (공개 게시글만)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "p.visibility = 'PUBLIC' AND " +
            "LOWER(p.bookTitle) LIKE LOWER(CONCAT('%', :bookTitle, '%')) " +
@@ -68,7 +183,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByBookTitleContainingIgnoreCaseAndVisibility(
         @Param("bookTitle") String bookTitle, Pageable pageable);
     
+    // 책 제목으로 게시글 검색 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.visibility = 'PUBLIC' AND " +
+           "LOWER(p.bookTitle) LIKE LOWER(CONCAT('%', :bookTitle, '%')) " +
+           "ORDER BY p.createdAt DESC")
+    Slice<Post> findSliceByBookTitleContainingIgnoreCaseAndVisibility(
+        @Param("bookTitle") String bookTitle, Pageable pageable);
+    
     // 책 제목으로 게시글 검색 (모든 게시글, 관리자용)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "LOWER(p.bookTitle) LIKE LOWER(CONCAT('%', :bookTitle, '%')) " +
            "ORDER BY p.createdAt DESC")
@@ -76,6 +201,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Param("bookTitle") String bookTitle, Pageable pageable);
     
     // 책 제목 + 게시글 타입으로 검색
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "p.visibility = 'PUBLIC' AND " +
            "p.postType = :postType AND " +
@@ -86,7 +212,20 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Param("postType") PostType postType, 
         Pageable pageable);
     
+    // 책 제목 + 게시글 타입으로 검색 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.visibility = 'PUBLIC' AND " +
+           "p.postType = :postType AND " +
+           "LOWER(p.bookTitle) LIKE LOWER(CONCAT('%', :bookTitle, '%')) " +
+           "ORDER BY p.createdAt DESC")
+    Slice<Post> findSliceByBookTitleContainingIgnoreCaseAndPostTypeAndVisibility(
+        @Param("bookTitle") String bookTitle,
+        @Param("postType") PostType postType,
+        Pageable pageable);
+    
     // 제목 또는 내용으로 게시글 검색
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "p.visibility = 'PUBLIC' AND " +
            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -96,27 +235,242 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByKeywordInTitleOrContentOrBookTitle(
         @Param("keyword") String keyword, Pageable pageable);
     
-    // 통합 게시글 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+    // 제목 또는 내용으로 게시글 검색 (전체 개수 없이)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
-           "(p.visibility = 'PUBLIC' OR p.user.id = :userId) " +
+           "p.visibility = 'PUBLIC' AND " +
+           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(p.bookTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
            "ORDER BY p.createdAt DESC")
-    Page<Post> findByVisibilityOrUserOrderByCreatedAtDesc(
-        @Param("userId") Long userId, Pageable pageable);
+    Slice<Post> findSliceByKeywordInTitleOrContentOrBookTitle(
+        @Param("keyword") String keyword, Pageable pageable);
+    
+    // 수정 시각 이후 변경된 게시글 (검색 색인 따라잡기용, updatedAt, id 기준 seek)
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.updatedAt > :updatedAt OR (p.updatedAt = :updatedAt AND p.id > :id) " +
+           "ORDER BY p.updatedAt ASC, p.id ASC")
+    List<Post> findUpdatedAfter(
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 공개 게시글 커서 조회 (createdAt, id 기준 seek)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByVisibilityBeforeCursor(
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
     
-    // 타입별 통합 게시글 조회
+    // 타입별 공개 게시글 커서 조회
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Post p WHERE " +
            "p.postType = :postType AND " +
-           "(p.visibility = 'PUBLIC' OR p.user.id = :userId) " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByPostTypeAndVisibilityBeforeCursor(
+        @Param("postType") PostType postType,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 사용자별 공개설정별 게시글 커서 조회 (통합 피드의 "내 비공개 게시글" 스트림)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.user.id = :userId AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByUserIdAndVisibilityBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 사용자별 타입별 공개설정별 게시글 커서 조회
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE " +
+           "p.user.id = :userId AND " +
+           "p.postType = :postType AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByUserIdAndPostTypeAndVisibilityBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("postType") PostType postType,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 공개 게시글 커서 키 조회 (통합 피드 오프셋 페이지용, 인덱스만 읽음)
+    @Query("SELECT new com.readingclub.util.FeedCursor(p.createdAt, p.id) FROM Post p WHERE " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<FeedCursor> findKeysByVisibilityBeforeCursor(
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 타입별 공개 게시글 커서 키 조회
+    @Query("SELECT new com.readingclub.util.FeedCursor(p.createdAt, p.id) FROM Post p WHERE " +
+           "p.postType = :postType AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<FeedCursor> findKeysByPostTypeAndVisibilityBeforeCursor(
+        @Param("postType") PostType postType,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 사용자별 공개설정별 게시글 커서 키 조회
+    @Query("SELECT new com.readingclub.util.FeedCursor(p.createdAt, p.id) FROM Post p WHERE " +
+           "p.user.id = :userId AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<FeedCursor> findKeysByUserIdAndVisibilityBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 사용자별 타입별 공개설정별 게시글 커서 키 조회
+    @Query("SELECT new com.readingclub.util.FeedCursor(p.createdAt, p.id) FROM Post p WHERE " +
+           "p.user.id = :userId AND " +
+           "p.postType = :postType AND " +
+           "p.visibility = :visibility AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<FeedCursor> findKeysByUserIdAndPostTypeAndVisibilityBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("postType") PostType postType,
+        @Param("visibility") PostVisibility visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    // 공개설정별 게시글 수
+    long countByVisibility(PostVisibility visibility);
+    
+    // 타입별 공개설정별 게시글 수
+    long countByPostTypeAndVisibility(PostType postType, PostVisibility visibility);
+    
+    // 사용자별 공개설정별 게시글 수
+    long countByUserIdAndVisibility(Long userId, PostVisibility visibility);
+    
+    // 사용자별 타입별 공개설정별 게시글 수
+    long countByUserIdAndPostTypeAndVisibility(Long userId, PostType postType, PostVisibility visibility);
+    
+    // 공개 게시글 요약 조회
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+           "p.visibility = 'PUBLIC' AND " +
+           "(:postType IS NULL OR p.postType = :postType) " +
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE " +
+           "p.visibility = 'PUBLIC' AND " +
+           "(:postType IS NULL OR p.postType = :postType)")
+    Page<SummaryView> findPublicSummaries(
+        @Param("postType") PostType postType, Pageable pageable);
+    
+    // 공개 게시글 요약 조회 (전체 개수 없이)
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "p.visibility = 'PUBLIC' AND " +
+           "(:postType IS NULL OR p.postType = :postType) " +
            "ORDER BY p.createdAt DESC")
-    Page<Post> findByPostTypeAndVisibilityOrUserOrderByCreatedAtDesc(
+    Slice<SummaryView> findPublicSummarySlice(
+        @Param("postType") PostType postType, Pageable pageable);
+    
+    // ID 목록으로 게시글 요약 조회 (통합 피드 키 병합 결과 로딩용, 순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<SummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 사용자별 게시글 요약 조회
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+           "u.id = :userId AND " +
+           "(:visibility IS NULL OR p.visibility = :visibility) AND " +
+           "(:postType IS NULL OR p.postType = :postType) " +
+           "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE " +
+           "p.user.id = :userId AND " +
+           "(:visibility IS NULL OR p.visibility = :visibility) AND " +
+           "(:postType IS NULL OR p.postType = :postType)")
+    Page<SummaryView> findUserSummaries(
+        @Param("userId") Long userId,
+        @Param("visibility") PostVisibility visibility,
         @Param("postType") PostType postType,
-        @Param("userId") Long userId, 
         Pageable pageable);
     
+    // 사용자별 게시글 요약 조회 (전체 개수 없이)
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "u.id = :userId AND " +
+           "(:visibility IS NULL OR p.visibility = :visibility) AND " +
+           "(:postType IS NULL OR p.postType = :postType) " +
+           "ORDER BY p.createdAt DESC")
+    Slice<SummaryView> findUserSummarySlice(
+        @Param("userId") Long userId,
+        @Param("visibility") PostVisibility visibility,
+        @Param("postType") PostType postType,
+        Pageable pageable);
+    
+    // 댓글 작성 시 댓글 수 증가
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1, " +
+           "p.activeCommentCount = p.activeCommentCount + 1 WHERE p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+    
+    // 댓글 삭제(soft delete) 시 활성 댓글 수 감소
+    @Modifying
+    @Query("UPDATE Post p SET p.activeCommentCount = p.activeCommentCount - 1 " +
+           "WHERE p.id = :postId AND p.activeCommentCount > 0")
+    int decrementActiveCommentCount(@Param("postId") Long postId);
+    
+    // 댓글 수 전체 재계산 (컬럼 추가 직후 백필용)
+    @Modifying
+    @Query("UPDATE Post p SET " +
+           "p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p), " +
+           "p.activeCommentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false)")
+    int recalculateCommentCounts();
+    
+    // 댓글 수가 한 번도 채워지지 않은 게시글만 재계산 (댓글이 있는데 전체 댓글 수가 0인 행, 삭제해도 전체 수는 줄지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET " +
+           "p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p), " +
+           "p.activeCommentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.isDeleted = false) " +
+           "WHERE p.commentCount = 0 AND EXISTS (SELECT c.id FROM Comment c WHERE c.post = p)")
+    int backfillUninitializedCommentCounts();
+    
+    // 좋아요 수 전체 재계산 (컬럼 추가 직후 백필용)
+    @Modifying
+    @Query("UPDATE Post p SET " +
+           "p.likeCount = (SELECT COUNT(l) FROM PostLike l WHERE l.postId = p.id)")
+    int recalculateLikeCounts();
+    
     // 특정 사용자의 특정 기간 게시글 개수 조회
     long countByUserAndCreatedAtBetween(User user, LocalDateTime start, LocalDateTime end);
     
     // 특정 사용자의 타입별 공개 게시글 조회
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByUserAndPostTypeAndVisibilityOrderByCreatedAtDesc(
         User user, PostType postType, PostVisibility visibility, Pageable pageable);
+    
+    /**
+     * 내보내기용 전체 목록 스트림 (전진 전용, MySQL 드라이버가 한 행씩 읽음 / 트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.catalogBook WHERE p.user.id = :userId ORDER BY p.id")
+    Stream<Post> streamByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,38 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.PostStat;
+import com.readingclub.entity.PostVisibility;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostStatRepository extends JpaRepository<PostStat, Long> {
+    
+    // 기간 내 조회수 상위 게시글 ID (postId, 조회수)
+    @Query("SELECT s.postId, SUM(s.viewCount) FROM PostStat s " +
+           "JOIN Post p ON p.id = s.postId " +
+           "WHERE s.bucketHour >= :since AND p.visibility = :visibility " +
+           "GROUP BY s.postId " +
+           "ORDER BY SUM(s.viewCount) DESC, s.postId DESC")
+    List<Object[]> findTopPostIdsByViewsSince(
+        @Param("since") LocalDateTime since,
+        @Param("visibility") PostVisibility visibility,
+        Pageable pageable);
+    
+    // 보관 기간이 지난 집계 삭제
+    @Modifying
+    @Query("DELETE FROM PostStat s WHERE s.bucketHour < :before")
+    int deleteByBucketHourBefore(@Param("before") LocalDateTime before);
+    
+    // 게시글 삭제 시 집계 삭제
+    @Modifying
+    @Query("DELETE FROM PostStat s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -3,6 +3,7 @@ package com.readingclub.repository;
 import com.readingclub.entity.ReadingGroup;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,6 +36,22 @@ public interface ReadingGroupRepository extends JpaRepository<ReadingGroup, Long
             @Param("status") ReadingGroup.GroupStatus status, 
             Pageable pageable);
     
+    /**
+     * 공개 그룹 목록 조회 (전체 개수 없이)
+     */
+    Slice<ReadingGroup> findSliceByIsPublicTrueAndStatusOrderByCreatedAtDesc(
+            ReadingGroup.GroupStatus status, Pageable pageable);
+    
+    /**
+     * 그룹명으로 검색 (공개 그룹만, 전체 개수 없이)
+     */
+    @Query("SELECT rg FROM ReadingGroup rg WHERE rg.isPublic = true AND rg.status = :status " +
+           "AND LOWER(rg.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY rg.createdAt DESC")
+    Slice<ReadingGroup> findPublicGroupSliceByNameContaining(
+            @Param("name") String name, 
+            @Param("status") ReadingGroup.GroupStatus status, 
+            Pageable pageable);
+    
     /**
      * 사용자가 속한 그룹 목록 조회
      */
@@ -0,0 +1,15 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, UserStats.Key> {
+    
+    // 사용자의 전체/연도/월 집계 행을 기본 키로 한 번에 조회
+    List<UserStats> findByUserIdAndPeriodIn(Long userId, Collection<String> periods);
+}
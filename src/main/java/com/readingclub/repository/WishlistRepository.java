@@ -1,15 +1,22 @@
 package com.readingclub.repository;
 
 import com.readingclub.entity.Wishlist;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
@@ -19,6 +26,11 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
      */
     Page<Wishlist> findByUserIdOrderByPriorityAscCreatedAtDesc(Long userId, Pageable pageable);
     
+    /**
+     * 사용자별 위시리스트 조회 (전체 개수 없이)
+     */
+    Slice<Wishlist> findSliceByUserIdOrderByPriorityAscCreatedAtDesc(Long userId, Pageable pageable);
+    
     /**
      * 사용자별 위시리스트 조회 (우선순위 및 생성일 기준 정렬)
      */
@@ -47,6 +59,11 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId AND LOWER(w.title) LIKE LOWER(CONCAT('%', :title, '%')) AND LOWER(w.author) LIKE LOWER(CONCAT('%', :author, '%'))")
     List<Wishlist> findByUserIdAndTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(@Param("userId") Long userId, @Param("title") String title, @Param("author") String author);
     
+    /**
+     * 지문으로 위시리스트 조회 (정확한 지문 또는 "제목|%" 패턴, (user_id, fingerprint) 인덱스 사용)
+     */
+    List<Wishlist> findByUserIdAndFingerprintLike(Long userId, String fingerprint);
+    
     /**
      * 사용자별 총 위시리스트 수
      */
@@ -64,8 +81,23 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     Optional<Wishlist> findByIdAndUserId(Long wishlistId, Long userId);
     
     /**
-     * 이번 달에 등록한 위시리스트 책들 조회
+     * 등록일 구간의 위시리스트 책들 조회 ([startTime, endTime) 범위로 (user_id, created_at) 인덱스 사용)
+     */
+    @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId AND w.createdAt >= :startTime AND w.createdAt < :endTime ORDER BY w.priority ASC, w.createdAt DESC")
+    List<Wishlist> findByUserIdAndCreatedAtRange(@Param("userId") Long userId, @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+    
+    /**
+     * 특정 연월에 등록한 위시리스트 책들 조회
+     */
+    default List<Wishlist> findByUserIdAndCreatedAtYearAndCreatedAtMonth(Long userId, int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        return findByUserIdAndCreatedAtRange(userId, target.atDay(1).atStartOfDay(), target.plusMonths(1).atDay(1).atStartOfDay());
+    }
+    
+    /**
+     * 내보내기용 전체 목록 스트림 (전진 전용, MySQL 드라이버가 한 행씩 읽음 / 트랜잭션 안에서 닫아야 함)
      */
-    @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId AND YEAR(w.createdAt) = :year AND MONTH(w.createdAt) = :month ORDER BY w.priority ASC, w.createdAt DESC")
-    List<Wishlist> findByUserIdAndCreatedAtYearAndCreatedAtMonth(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId ORDER BY w.id")
+    Stream<Wishlist> streamByUserId(@Param("userId") Long userId);
 }
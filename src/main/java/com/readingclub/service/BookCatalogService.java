@@ -0,0 +1,188 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.PostDto;
+import com.readingclub.entity.Book;
+import com.readingclub.entity.CatalogBook;
+import com.readingclub.entity.Post;
+import com.readingclub.repository.CatalogBookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * ISBN 기준 공용 도서 정보 관리 (catalog_books + 인메모리 LRU 캐시)
+ * 게시글 등은 설명/출판사처럼 큰 도서 정보를 행마다 복사하지 않고 카탈로그를 참조한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class BookCatalogService {
+    
+    // CatalogBookRepository.upsert 와 같은 규칙의 JDBC batch 용 문장
+    private static final String UPSERT_SQL =
+            "INSERT INTO catalog_books " +
+            "(isbn, title, author, publisher, cover_image, pub_date, description, created_at, updated_at) " +
+            "VALUES (?, ?, ?, NULL, ?, NULL, NULL, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "author = COALESCE(author, VALUES(author)), " +
+            "cover_image = COALESCE(cover_image, VALUES(cover_image))";
+    
+    private final CatalogBookRepository catalogBookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    // ISBN -> 카탈로그 도서 (읽기 전용으로만 사용, this 로 동기화)
+    private final Map<String, CatalogBook> cache;
+    
+    public BookCatalogService(CatalogBookRepository catalogBookRepository, JdbcTemplate jdbcTemplate,
+                              @Value("${book.catalog-cache.max-size:5000}") int maxSize) {
+        this.catalogBookRepository = catalogBookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CatalogBook> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+    
+    /**
+     * ISBN으로 카탈로그 도서 조회 (캐시 우선)
+     */
+    public Optional<CatalogBook> find(String isbn) {
+        if (isBlank(isbn)) {
+            return Optional.empty();
+        }
+        
+        CatalogBook cached = getCached(isbn);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        Optional<CatalogBook> catalogBook = catalogBookRepository.findByIsbn(isbn);
+        catalogBook.ifPresent(this::putCached);
+        return catalogBook;
+    }
+    
+    /**
+     * 게시글 목록의 카탈로그 도서를 한 번에 캐시에 적재
+     */
+    public void preload(Collection<Post> posts) {
+        List<String> missingIsbns = posts.stream()
+                .filter(post -> post.getCatalogBook() != null)
+                .map(Post::getBookIsbn)
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(isbn -> getCached(isbn) == null)
+                .toList();
+        
+        if (!missingIsbns.isEmpty()) {
+            catalogBookRepository.findByIsbnIn(missingIsbns).forEach(this::putCached);
+        }
+    }
+    
+    /**
+     * 도서 정보 등록 (없으면 추가, 있으면 비어 있는 항목만 보완)
+     * ISBN이 없으면 카탈로그에 넣지 않고 null 반환
+     */
+    @Transactional
+    public CatalogBook register(String isbn, String title, String author, String publisher,
+                                String coverImage, String pubDate, String description) {
+        if (isBlank(isbn) || isBlank(title)) {
+            return null;
+        }
+        
+        CatalogBook cached = getCached(isbn);
+        if (cached != null) {
+            return cached;
+        }
+        
+        catalogBookRepository.upsert(isbn, title, author, publisher, coverImage, pubDate, description);
+        return catalogBookRepository.findByIsbn(isbn)
+                .map(this::putCached)
+                .orElse(null);
+    }
+    
+    /**
+     * 여러 책의 도서 정보를 한 번에 등록 (ISBN -> 카탈로그 도서, 일괄 가져오기용)
+     * 캐시에 없는 ISBN만 batch UPSERT 하고 IN 조회 한 번으로 읽어 오므로 책 수와 무관하게 문장 두 번이다.
+     */
+    @Transactional
+    public Map<String, CatalogBook> registerAll(Collection<Book> books) {
+        Map<String, CatalogBook> catalogBooks = new HashMap<>();
+        Map<String, Book> missingBooks = new LinkedHashMap<>();
+        for (Book book : books) {
+            if (isBlank(book.getIsbn()) || isBlank(book.getTitle()) || catalogBooks.containsKey(book.getIsbn())) {
+                continue;
+            }
+            CatalogBook cached = getCached(book.getIsbn());
+            if (cached != null) {
+                catalogBooks.put(book.getIsbn(), cached);
+            } else {
+                missingBooks.putIfAbsent(book.getIsbn(), book);
+            }
+        }
+        
+        if (!missingBooks.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, missingBooks.values().stream()
+                    .map(book -> new Object[]{book.getIsbn(), book.getTitle(), book.getAuthor(), book.getCoverImage()})
+                    .toList());
+            catalogBookRepository.findByIsbnIn(missingBooks.keySet())
+                    .forEach(catalogBook -> catalogBooks.put(catalogBook.getIsbn(), putCached(catalogBook)));
+        }
+        return catalogBooks;
+    }
+    
+    /**
+     * 게시글의 도서 정보 (카탈로그를 참조하면 카탈로그 값, 아니면 게시글에 복사된 값)
+     */
+    public PostDto.BookInfo toBookInfo(Post post) {
+        CatalogBook catalogBook = post.getCatalogBook() != null
+                ? find(post.getBookIsbn()).orElse(null)
+                : null;
+        
+        if (catalogBook == null) {
+            return PostDto.BookInfo.builder()
+                    .isbn(post.getBookIsbn())
+                    .title(post.getBookTitle())
+                    .author(post.getBookAuthor())
+                    .publisher(post.getBookPublisher())
+                    .cover(post.getBookCover())
+                    .pubDate(post.getBookPubDate())
+                    .description(post.getBookDescription())
+                    .build();
+        }
+        
+        return PostDto.BookInfo.builder()
+                .isbn(post.getBookIsbn())
+                .title(post.getBookTitle())
+                .author(post.getBookAuthor())
+                .publisher(catalogBook.getPublisher())
+                .cover(post.getBookCover() != null ? post.getBookCover() : catalogBook.getCoverImage())
+                .pubDate(catalogBook.getPubDate())
+                .description(catalogBook.getDescription())
+                .build();
+    }
+    
+    private synchronized CatalogBook getCached(String isbn) {
+        return cache.get(isbn);
+    }
+    
+    private synchronized CatalogBook putCached(CatalogBook catalogBook) {
+        cache.put(catalogBook.getIsbn(), catalogBook);
+        return catalogBook;
+    }
+    
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
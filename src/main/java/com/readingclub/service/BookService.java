@@ -1,28 +1,70 @@
 package com.readingclub.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.config.ExecutorConfig;
 import com.readingclub.dto.BookDto;
 import com.readingclub.dto.CurrentlyReadingDto;
 import com.readingclub.dto.DroppedBookDto;
 import com.readingclub.dto.WishlistDto;
 import com.readingclub.dto.UserDto;
 import com.readingclub.entity.Book;
+import com.readingclub.entity.CatalogBook;
 import com.readingclub.entity.CurrentlyReading;
 import com.readingclub.entity.DroppedBook;
 import com.readingclub.entity.User;
 import com.readingclub.entity.Wishlist;
 import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.BookSpecifications;
 import com.readingclub.repository.CurrentlyReadingRepository;
 import com.readingclub.repository.DroppedBookRepository;
 import com.readingclub.repository.UserRepository;
 import com.readingclub.repository.WishlistRepository;
+import com.readingclub.util.BookFingerprint;
+import com.readingclub.util.CsvReader;
+import com.readingclub.util.TransactionUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,11 +73,32 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookService {
     
+    // 모든 책 상태 조회에서 서재별로 담는 최대 건수
+    private static final int MAX_SHELF_SIZE = 100;
+    
+    // 일괄 가져오기: 한 트랜잭션에 저장하는 건수 / 응답에 담는 오류 건수
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int IMPORT_MAX_REPORTED_ERRORS = 100;
+    
     private final BookRepository bookRepository;
     private final CurrentlyReadingRepository currentlyReadingRepository;
     private final DroppedBookRepository droppedBookRepository;
     private final WishlistRepository wishlistRepository;
     private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MonthlyCoverCache monthlyCoverCache;
+    private final UserStatsService userStatsService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final BookCatalogService bookCatalogService;
+    
+    // 서재 동시 조회용 (ExecutorConfig 에서 스레드/대기열 제한)
+    @Qualifier(ExecutorConfig.SHELF_LOAD_EXECUTOR)
+    private final Executor shelfLoadExecutor;
+    
+    @Value("${book.import.max-rows:10000}")
+    private int importMaxRows;
     
     /**
      * 사용자별 책 목록 조회 (페이징 및 필터링)
@@ -47,12 +110,46 @@ public class BookService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
-        // TODO: 필터링 로직 구현 (현재는 기본 페이징만)
-        Page<Book> books = bookRepository.findByUserIdOrderByFinishedDateDesc(userId, pageable);
+        Page<Book> books = findUserBooks(userId, pageable, year, month, rating, search);
         
         return books.map(this::convertToDto);
     }
     
+    /**
+     * 조건별 완독 책 조회 (완독일 최신순)
+     * month 는 year 와 함께 지정한 경우에만 적용한다.
+     */
+    private Page<Book> findUserBooks(Long userId, Pageable pageable,
+                                     Integer year, Integer month, Integer rating, String search) {
+        Specification<Book> spec = BookSpecifications.ownedBy(userId);
+        
+        if (year != null) {
+            LocalDate start;
+            LocalDate endExclusive;
+            if (month != null) {
+                if (month < 1 || month > 12) {
+                    throw new IllegalArgumentException("월은 1-12 사이의 값이어야 합니다.");
+                }
+                start = LocalDate.of(year, month, 1);
+                endExclusive = start.plusMonths(1);
+            } else {
+                start = LocalDate.of(year, 1, 1);
+                endExclusive = start.plusYears(1);
+            }
+            spec = spec.and(BookSpecifications.finishedBetween(start, endExclusive));
+        }
+        if (rating != null) {
+            spec = spec.and(BookSpecifications.hasRating(rating));
+        }
+        if (search != null && !search.trim().isEmpty()) {
+            spec = spec.and(BookSpecifications.titleOrAuthorContains(search));
+        }
+        
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "finishedDate", "id"));
+        return bookRepository.findAll(spec, sortedPageable);
+    }
+    
     /**
      * 사용자별 책 목록 조회 (완독한 책 + 읽고 있는 책)
      */
@@ -64,7 +161,7 @@ public class BookService {
         }
         
         // 완독한 책 조회
-        Page<Book> books = bookRepository.findByUserIdOrderByFinishedDateDesc(userId, pageable);
+        Page<Book> books = findUserBooks(userId, pageable, year, month, rating, search);
         Page<BookDto.Response> bookResponses = books.map(this::convertToDto);
         
         // 읽고 있는 책 조회 (페이징 없이 전체)
@@ -80,8 +177,6 @@ public class BookService {
                 .build();
     }
     
-
-    
     /**
      * 책 상세 조회
      */
@@ -100,10 +195,16 @@ public class BookService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
+        // 공용 도서 카탈로그에 등록하고 참조 (완독 기록에는 출판사/소개를 따로 두지 않음)
+        CatalogBook catalogBook = bookCatalogService.register(request.getIsbn(), request.getTitle(),
+                request.getAuthor(), null, request.getCoverImage(), null, null);
+        
         Book book = Book.builder()
                 .user(user)
+                .catalogBook(catalogBook)
                 .title(request.getTitle())
                 .author(request.getAuthor())
+                .isbn(request.getIsbn())
                 .coverImage(request.getCoverImage())
                 .rating(request.getRating())
                 .review(request.getReview())
@@ -111,6 +212,8 @@ public class BookService {
                 .build();
         
         Book savedBook = bookRepository.save(book);
+        userStatsService.bookAdded(userId, savedBook.getFinishedDate(), savedBook.getRating());
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("새 책 등록: {} (사용자: {})", savedBook.getTitle(), userId);
         
         return convertToDto(savedBook);
@@ -124,14 +227,29 @@ public class BookService {
         Book book = bookRepository.findByIdAndUserId(bookId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없거나 접근 권한이 없습니다."));
         
+        // 통계 보정용 변경 전 값
+        LocalDate previousFinishedDate = book.getFinishedDate();
+        Integer previousRating = book.getRating();
+        
         book.setTitle(request.getTitle());
         book.setAuthor(request.getAuthor());
         book.setCoverImage(request.getCoverImage());
         book.setRating(request.getRating());
         book.setReview(request.getReview());
         book.setFinishedDate(request.getFinishedDate());
+        if (!Objects.equals(request.getIsbn(), book.getIsbn())) {
+            book.setIsbn(request.getIsbn());
+            // ISBN이 바뀌면 카탈로그 참조도 다시 연결
+            book.setCatalogBook(bookCatalogService.register(book.getIsbn(), book.getTitle(),
+                    book.getAuthor(), null, book.getCoverImage(), null, null));
+        }
         
         Book updatedBook = bookRepository.save(book);
+        if (!previousFinishedDate.equals(updatedBook.getFinishedDate()) || !previousRating.equals(updatedBook.getRating())) {
+            userStatsService.bookRemoved(userId, previousFinishedDate, previousRating);
+            userStatsService.bookAdded(userId, updatedBook.getFinishedDate(), updatedBook.getRating());
+        }
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("책 정보 수정: {} (ID: {})", updatedBook.getTitle(), bookId);
         
         return convertToDto(updatedBook);
@@ -146,9 +264,337 @@ public class BookService {
                 .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없거나 접근 권한이 없습니다."));
         
         bookRepository.delete(book);
+        userStatsService.bookRemoved(userId, book.getFinishedDate(), book.getRating());
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("책 삭제: {} (ID: {})", book.getTitle(), bookId);
     }
     
+    /**
+     * 일괄 가져오기 입력 형식
+     */
+    public enum ImportFormat {
+        CSV, JSON;
+        
+        /**
+         * Content-Type 으로 형식 결정 (text/csv, application/json, application/x-ndjson)
+         */
+        public static ImportFormat from(String contentType) {
+            if (contentType != null) {
+                String type = contentType.toLowerCase(Locale.ROOT);
+                if (type.startsWith("text/csv")) {
+                    return CSV;
+                }
+                if (type.startsWith("application/json") || type.startsWith("application/x-ndjson")) {
+                    return JSON;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + contentType);
+        }
+    }
+    
+    /**
+     * 완독 기록 일괄 가져오기 (CSV 또는 JSON 배열/NDJSON)
+     * 입력을 한 행씩 읽어 검증하고, 지문(제목|저자)이 네 서재 중 어디에든 이미 있거나 파일 안에서 반복되면 건너뛴다.
+     * IMPORT_CHUNK_SIZE 건마다 별도 트랜잭션에서 배치 INSERT 하므로 같은 파일을 다시 올려도 중복 저장되지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookDto.ImportResponse importBooks(Long userId, ImportFormat format, InputStream inputStream)
+            throws IOException {
+        // 사용자 존재 확인
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        
+        long startedAt = System.currentTimeMillis();
+        BookImport bookImport = new BookImport(userId, new HashSet<>(bookRepository.findShelfFingerprintsByUserId(userId)));
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        
+        if (format == ImportFormat.CSV) {
+            readCsvRows(reader, bookImport);
+        } else {
+            readJsonRows(reader, bookImport);
+        }
+        bookImport.flush();
+        
+        BookDto.ImportResponse response = bookImport.toResponse();
+        log.info("책 일괄 가져오기: 사용자 {}, {}행 중 {}권 저장 (중복 {}, 실패 {}), {}ms", userId,
+                response.getTotalRows(), response.getImported(), response.getDuplicates(), response.getFailed(),
+                System.currentTimeMillis() - startedAt);
+        return response;
+    }
+    
+    /**
+     * CSV 읽기 (첫 줄은 헤더, 컬럼 순서는 자유)
+     */
+    private void readCsvRows(Reader reader, BookImport bookImport) throws IOException {
+        CsvReader csvReader = new CsvReader(reader);
+        int rowNumber = 0;
+        try {
+            List<String> header = csvReader.readRecord();
+            if (header == null) {
+                return;
+            }
+            List<String> columns = header.stream().map(this::importColumn).collect(Collectors.toList());
+            
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                rowNumber++;
+                if (record.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size() && i < record.size(); i++) {
+                    fields.put(columns.get(i), record.get(i));
+                }
+                if (!bookImport.accept(rowNumber, fields)) {
+                    return;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 형식 오류 이후는 읽을 수 없으므로 중단 (이미 읽은 행은 저장)
+            bookImport.fail(rowNumber + 1, e.getMessage());
+        }
+    }
+    
+    /**
+     * JSON 읽기 (객체 배열 또는 한 줄에 객체 하나씩인 NDJSON)
+     */
+    private void readJsonRows(Reader reader, BookImport bookImport) throws IOException {
+        int rowNumber = 0;
+        try (JsonParser parser = objectMapper.createParser(reader)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            
+            while (token != null && token != JsonToken.END_ARRAY) {
+                rowNumber++;
+                JsonNode node = parser.readValueAsTree();
+                if (node.isObject()) {
+                    Map<String, String> fields = new HashMap<>();
+                    node.fields().forEachRemaining(field -> {
+                        if (!field.getValue().isNull()) {
+                            fields.put(importColumn(field.getKey()), field.getValue().asText());
+                        }
+                    });
+                    if (!bookImport.accept(rowNumber, fields)) {
+                        return;
+                    }
+                } else {
+                    bookImport.fail(rowNumber, "각 항목은 JSON 객체여야 합니다.");
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            bookImport.fail(rowNumber + 1, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+    
+    /**
+     * 컬럼 이름 통일 (finished_date, finishedDate, "Finished Date" -> finisheddate)
+     * 서재 내보내기 파일의 content 컬럼은 감상평(review)으로 읽는다.
+     */
+    private String importColumn(String name) {
+        String column = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+        return "content".equals(column) ? "review" : column;
+    }
+    
+    /**
+     * 가져온 한 행을 책으로 변환 (책 등록 요청과 같은 규칙으로 검증)
+     */
+    private Book toImportedBook(Map<String, String> fields) {
+        Integer rating = parseImportRating(importText(fields.get("rating")));
+        Book.requireValidRating(rating);
+        
+        BookDto.CreateRequest request = BookDto.CreateRequest.builder()
+                .title(importText(fields.get("title")))
+                .author(importText(fields.get("author")))
+                .isbn(importText(fields.get("isbn")))
+                .coverImage(importText(fields.get("coverimage")))
+                .rating(rating)
+                .review(importText(fields.get("review")))
+                .finishedDate(parseImportDate(importText(fields.get("finisheddate"))))
+                .build();
+        
+        Set<ConstraintViolation<BookDto.CreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        
+        // 카탈로그 참조는 저장할 때 구간 단위로 한 번에 연결 (BookImport.flush)
+        return Book.builder()
+                .title(request.getTitle())
+                .author(request.getAuthor())
+                .isbn(request.getIsbn())
+                .coverImage(request.getCoverImage())
+                .rating(request.getRating())
+                .review(request.getReview())
+                .finishedDate(request.getFinishedDate())
+                .build();
+    }
+    
+    private String importText(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        // 내보내기에서 수식 방지용으로 붙인 작은따옴표 제거
+        if (text.length() > 1 && text.charAt(0) == '\'' && "=+-@".indexOf(text.charAt(1)) >= 0) {
+            return text.substring(1);
+        }
+        return text;
+    }
+    
+    private Integer parseImportRating(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("별점 형식이 올바르지 않습니다: " + value);
+        }
+    }
+    
+    private LocalDate parseImportDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            // 2024.03.01, 2024/03/01 도 허용
+            return LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("완독일 형식이 올바르지 않습니다 (yyyy-MM-dd): " + value);
+        }
+    }
+    
+    /**
+     * 일괄 가져오기 한 번의 진행 상태 (검증을 통과한 책을 모아 두었다가 구간 단위로 저장)
+     */
+    private class BookImport {
+        
+        private final Long userId;
+        private final Set<String> fingerprints;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<BookDto.ImportResponse.RowError> errors = new ArrayList<>();
+        private List<ImportedRow> pending = new ArrayList<>();
+        private int totalRows;
+        private int imported;
+        private int duplicates;
+        private int skipped;
+        private int failed;
+        
+        BookImport(Long userId, Set<String> fingerprints) {
+            this.userId = userId;
+            this.fingerprints = fingerprints;
+        }
+        
+        /**
+         * 한 행 처리 (최대 행 수를 넘으면 false 를 반환해 읽기 중단)
+         */
+        boolean accept(int rowNumber, Map<String, String> fields) {
+            if (totalRows >= importMaxRows) {
+                fail(rowNumber, "한 번에 가져올 수 있는 행 수(" + importMaxRows + ")를 넘어 이후 행은 건너뛰었습니다.");
+                return false;
+            }
+            totalRows++;
+            
+            // 서재 내보내기 파일이면 완독 행만 가져옴
+            String type = importText(fields.get("type"));
+            if (type != null && !"COMPLETED".equalsIgnoreCase(type)) {
+                skipped++;
+                return true;
+            }
+            
+            Book book;
+            String fingerprint;
+            try {
+                book = toImportedBook(fields);
+                fingerprint = BookFingerprint.of(book.getTitle(), book.getAuthor());
+            } catch (IllegalArgumentException e) {
+                fail(rowNumber, e.getMessage());
+                return true;
+            }
+            
+            if (!fingerprints.add(fingerprint)) {
+                duplicates++;
+                return true;
+            }
+            
+            pending.add(new ImportedRow(rowNumber, fingerprint, book));
+            if (pending.size() >= IMPORT_CHUNK_SIZE) {
+                flush();
+            }
+            return true;
+        }
+        
+        /**
+         * 모아 둔 책을 한 트랜잭션에서 저장 (실패하면 해당 구간의 행만 실패 처리)
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ImportedRow> rows = pending;
+            pending = new ArrayList<>();
+            
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    User user = userRepository.getReferenceById(userId);
+                    List<Book> books = rows.stream().map(ImportedRow::book).collect(Collectors.toList());
+                    books.forEach(book -> book.setUser(user));
+                    
+                    // 구간의 서로 다른 ISBN을 한 번에 카탈로그에 등록하고 참조 연결
+                    Map<String, CatalogBook> catalogBooks = bookCatalogService.registerAll(books);
+                    books.forEach(book -> book.setCatalogBook(book.getIsbn() != null ? catalogBooks.get(book.getIsbn()) : null));
+                    
+                    // 테이블 기반 ID를 미리 할당받으므로 hibernate.jdbc.batch_size 단위로 묶여 INSERT 된다
+                    bookRepository.saveAll(books);
+                    userStatsService.booksAdded(userId, books);
+                    
+                    // 요청 단위 영속성 컨텍스트(open-in-view)에 저장한 책이 쌓이지 않도록 비움
+                    entityManager.flush();
+                    entityManager.clear();
+                    TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
+                });
+                imported += rows.size();
+            } catch (RuntimeException e) {
+                log.warn("책 일괄 가져오기 저장 실패: 사용자 {}, {}건, {}", userId, rows.size(), e.getMessage());
+                for (ImportedRow row : rows) {
+                    fingerprints.remove(row.fingerprint());
+                    fail(row.rowNumber(), "저장에 실패했습니다.");
+                }
+            }
+        }
+        
+        void fail(int rowNumber, String message) {
+            failed++;
+            if (errors.size() < IMPORT_MAX_REPORTED_ERRORS) {
+                errors.add(BookDto.ImportResponse.RowError.builder()
+                        .row(rowNumber)
+                        .message(message)
+                        .build());
+            }
+        }
+        
+        BookDto.ImportResponse toResponse() {
+            return BookDto.ImportResponse.builder()
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .skipped(skipped)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+    
+    private record ImportedRow(int rowNumber, String fingerprint, Book book) {
+    }
+    
     /**
      * 월별 독서 통계 조회
      */
@@ -179,15 +625,19 @@ public class BookService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
-        List<Book> duplicateBooks;
-        
-        if (author != null && !author.trim().isEmpty()) {
-            // 제목과 저자로 검색
-            duplicateBooks = bookRepository.findByUserIdAndTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(
-                    userId, title.trim(), author.trim());
-        } else {
-            // 제목만으로 검색
-            duplicateBooks = bookRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
+        // 정규화 지문으로 먼저 조회하고, 없을 때만 부분 일치 검색
+        List<Book> duplicateBooks = bookRepository.findByUserIdAndFingerprintLike(
+                userId, BookFingerprint.lookupPattern(title, author));
+        
+        if (duplicateBooks.isEmpty()) {
+            if (author != null && !author.trim().isEmpty()) {
+                // 제목과 저자로 검색
+                duplicateBooks = bookRepository.findByUserIdAndTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(
+                        userId, title.trim(), author.trim());
+            } else {
+                // 제목만으로 검색
+                duplicateBooks = bookRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
+            }
         }
         
         List<BookDto.DuplicateCheckResponse.DuplicateBook> duplicateBookDtos = duplicateBooks.stream()
@@ -207,6 +657,35 @@ public class BookService {
                 .build();
     }
     
+    /**
+     * 네 서재 중 어디에 이미 있는 책인지 확인
+     * ISBN이 있으면 ISBN-13 키로 먼저 찾고, 없거나 찾지 못했을 때만 지문으로 찾는다. (각각 인덱스 조회 한 번)
+     */
+    public BookDto.ShelfCheckResponse checkShelves(Long userId, String title, String author, String isbn) {
+        String isbnKey = BookFingerprint.isbn13(isbn);
+        List<BookRepository.ShelfEntryView> matches = isbnKey != null
+                ? bookRepository.findShelfEntriesByIsbnKey(userId, isbnKey)
+                : List.of();
+        if (matches.isEmpty()) {
+            matches = bookRepository.findShelfEntriesByFingerprint(userId, BookFingerprint.lookupPattern(title, author));
+        }
+        
+        List<BookDto.ShelfCheckResponse.ShelfEntry> entries = matches
+                .stream()
+                .map(entry -> BookDto.ShelfCheckResponse.ShelfEntry.builder()
+                        .shelf(entry.getShelf())
+                        .id(entry.getId())
+                        .title(entry.getTitle())
+                        .author(entry.getAuthor())
+                        .build())
+                .collect(Collectors.toList());
+        
+        return BookDto.ShelfCheckResponse.builder()
+                .onShelf(!entries.isEmpty())
+                .entries(entries)
+                .build();
+    }
+    
     /**
      * Entity를 DTO로 변환
      */
@@ -224,6 +703,7 @@ public class BookService {
                 .id(book.getId())
                 .title(book.getTitle())
                 .author(book.getAuthor())
+                .isbn(book.getIsbn())
                 .coverImage(book.getCoverImage())
                 .rating(book.getRating())
                 .review(book.getReview())
@@ -269,48 +749,76 @@ public class BookService {
     
     /**
      * 사용자별 모든 책 상태 조회 (완독 + 읽고 있는 책 + 읽다 만 책 + 읽고 싶은 책)
+     * 네 서재를 각자 읽기 전용 트랜잭션으로 동시에 조회하므로 응답 시간은 가장 느린 서재 기준이다.
+     * 사용자 존재 확인도 서재 조회 안에서 하므로, 호출 스레드는 대기하는 동안 커넥션을 잡지 않는다 (open-in-view).
+     * 완독 외 서재는 최신 shelfSize 건(최대 MAX_SHELF_SIZE)만 포함하고 total 에는 전체 개수를 담는다.
      */
-    public BookDto.AllBooksResponse getAllUserBooks(Long userId, Pageable pageable, 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookDto.AllBooksResponse getAllUserBooks(Long userId, Pageable pageable, int shelfSize,
                                                   Integer year, Integer month, Integer rating, String search) {
-        // 사용자 존재 확인
-        if (!userRepository.existsById(userId)) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        if (shelfSize <= 0) {
+            throw new IllegalArgumentException("서재 조회 건수는 1 이상이어야 합니다.");
         }
         
-        // 완독한 책 조회 (페이징)
-        Page<Book> finishedBooks = bookRepository.findByUserIdOrderByFinishedDateDesc(userId, pageable);
-        Page<BookDto.Response> finishedBookResponses = finishedBooks.map(this::convertToDto);
-        
-        // 읽고 있는 책 조회 (페이징 없이 전체)
-        List<CurrentlyReading> currentlyReading = currentlyReadingRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        List<CurrentlyReadingDto.Response> currentlyReadingResponses = currentlyReading.stream()
-                .map(this::convertCurrentlyReadingToDto)
-                .collect(Collectors.toList());
-        
-        // 읽다 만 책 조회 (페이징 없이 전체)
-        List<DroppedBook> droppedBooks = droppedBookRepository.findByUserIdOrderByDroppedDateDesc(userId);
-        List<DroppedBookDto.Response> droppedBookResponses = droppedBooks.stream()
-                .map(this::convertDroppedBookToDto)
-                .collect(Collectors.toList());
-        
-        // 읽고 싶은 책 조회 (페이징 없이 전체)
-        List<Wishlist> wishlistBooks = wishlistRepository.findByUserIdOrderByPriorityAscCreatedAtDesc(userId);
-        List<WishlistDto.Response> wishlistBookResponses = wishlistBooks.stream()
-                .map(this::convertWishlistToDto)
-                .collect(Collectors.toList());
+        Pageable shelfPageable = PageRequest.of(0, Math.min(shelfSize, MAX_SHELF_SIZE));
+        
+        // 완독한 책 조회 (페이징, 필터 적용, 사용자 존재 확인 포함)
+        CompletableFuture<Page<BookDto.Response>> finishedBooks = loadShelf(() -> {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            return findUserBooks(userId, pageable, year, month, rating, search).map(this::convertToDto);
+        });
+        
+        // 읽고 있는 책 조회
+        CompletableFuture<Page<CurrentlyReadingDto.Response>> currentlyReading = loadShelf(() ->
+                currentlyReadingRepository.findByUserIdOrderByCreatedAtDesc(userId, shelfPageable)
+                        .map(this::convertCurrentlyReadingToDto));
+        
+        // 읽다 만 책 조회
+        CompletableFuture<Page<DroppedBookDto.Response>> droppedBooks = loadShelf(() ->
+                droppedBookRepository.findByUserIdOrderByDroppedDateDesc(userId, shelfPageable)
+                        .map(this::convertDroppedBookToDto));
+        
+        // 읽고 싶은 책 조회
+        CompletableFuture<Page<WishlistDto.Response>> wishlistBooks = loadShelf(() ->
+                wishlistRepository.findByUserIdOrderByPriorityAscCreatedAtDesc(userId, shelfPageable)
+                        .map(this::convertWishlistToDto));
+        
+        try {
+            CompletableFuture.allOf(finishedBooks, currentlyReading, droppedBooks, wishlistBooks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
         
         return BookDto.AllBooksResponse.builder()
-                .finishedBooks(finishedBookResponses)
-                .currentlyReading(currentlyReadingResponses)
-                .droppedBooks(droppedBookResponses)
-                .wishlistBooks(wishlistBookResponses)
-                .totalFinishedBooks((int) finishedBooks.getTotalElements())
-                .totalCurrentlyReading(currentlyReadingResponses.size())
-                .totalDroppedBooks(droppedBookResponses.size())
-                .totalWishlistBooks(wishlistBookResponses.size())
+                .finishedBooks(finishedBooks.join())
+                .currentlyReading(currentlyReading.join().getContent())
+                .droppedBooks(droppedBooks.join().getContent())
+                .wishlistBooks(wishlistBooks.join().getContent())
+                .totalFinishedBooks((int) finishedBooks.join().getTotalElements())
+                .totalCurrentlyReading((int) currentlyReading.join().getTotalElements())
+                .totalDroppedBooks((int) droppedBooks.join().getTotalElements())
+                .totalWishlistBooks((int) wishlistBooks.join().getTotalElements())
                 .build();
     }
     
+    /**
+     * 서재 하나를 별도 스레드에서 새 읽기 전용 트랜잭션(별도 커넥션)으로 조회
+     * (DTO 변환까지 트랜잭션 안에서 끝내 지연 로딩이 스레드 밖으로 새지 않게 함)
+     */
+    private <T> CompletableFuture<T> loadShelf(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return transactionTemplate.execute(status -> loader.get());
+        }, shelfLoadExecutor);
+    }
+    
     /**
      * DroppedBook Entity를 DTO로 변환
      */
@@ -378,57 +886,52 @@ public class BookService {
     /**
      * 이번 달에 등록한 책들의 표지 URL 목록 조회
      */
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BookDto.MonthlyBookCoversResponse getMonthlyBookCovers(Long userId) {
+        java.time.YearMonth currentYearMonth = java.time.YearMonth.now();
+        return monthlyCoverCache.get(userId, currentYearMonth,
+                () -> loadMonthlyBookCovers(userId, currentYearMonth));
+    }
+    
+    /**
+     * 이번 달 네 서재의 표지 URL 조회 (UNION ALL 한 번으로 표지 컬럼만 읽음)
+     */
+    private BookDto.MonthlyBookCoversResponse loadMonthlyBookCovers(Long userId, java.time.YearMonth yearMonth) {
         // 사용자 존재 확인
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
-        // 현재 년월 계산
-        java.time.YearMonth currentYearMonth = java.time.YearMonth.now();
-        int currentYear = currentYearMonth.getYear();
-        int currentMonth = currentYearMonth.getMonthValue();
-        
-        // 이번 달에 등록한 완독한 책들의 표지 URL
-        List<String> completedBookCovers = bookRepository
-                .findByUserIdAndYearAndMonth(userId, currentYear, currentMonth)
-                .stream()
-                .map(Book::getCoverImage)
-                .filter(coverImage -> coverImage != null && !coverImage.trim().isEmpty())
-                .collect(Collectors.toList());
-        
-        // 이번 달에 등록한 읽고 있는 책들의 표지 URL
-        List<String> currentlyReadingCovers = currentlyReadingRepository
-                .findByUserIdAndCreatedAtYearAndCreatedAtMonth(userId, currentYear, currentMonth)
-                .stream()
-                .map(CurrentlyReading::getCoverImage)
-                .filter(coverImage -> coverImage != null && !coverImage.trim().isEmpty())
-                .collect(Collectors.toList());
-        
-        // 이번 달에 등록한 읽다 만 책들의 표지 URL
-        List<String> droppedBookCovers = droppedBookRepository
-                .findByUserIdAndYearAndMonth(userId, currentYear, currentMonth)
-                .stream()
-                .map(DroppedBook::getCoverImage)
-                .filter(coverImage -> coverImage != null && !coverImage.trim().isEmpty())
-                .collect(Collectors.toList());
-        
-        // 이번 달에 등록한 위시리스트 책들의 표지 URL
-        List<String> wishlistCovers = wishlistRepository
-                .findByUserIdAndCreatedAtYearAndCreatedAtMonth(userId, currentYear, currentMonth)
-                .stream()
-                .map(Wishlist::getCoverImage)
-                .filter(coverImage -> coverImage != null && !coverImage.trim().isEmpty())
-                .collect(Collectors.toList());
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.plusMonths(1).atDay(1);
+        
+        List<String> completedBookCovers = new ArrayList<>();
+        List<String> currentlyReadingCovers = new ArrayList<>();
+        List<String> droppedBookCovers = new ArrayList<>();
+        List<String> wishlistCovers = new ArrayList<>();
+        
+        List<BookRepository.ShelfCoverView> covers = bookRepository.findShelfCoversBetween(
+                userId, startDate, endDate, startDate.atStartOfDay(), endDate.atStartOfDay());
+        for (BookRepository.ShelfCoverView cover : covers) {
+            switch (cover.getShelf()) {
+                case "COMPLETED" -> completedBookCovers.add(cover.getCoverImage());
+                case "READING" -> currentlyReadingCovers.add(cover.getCoverImage());
+                case "DROPPED" -> droppedBookCovers.add(cover.getCoverImage());
+                case "WISHLIST" -> wishlistCovers.add(cover.getCoverImage());
+                default -> log.warn("알 수 없는 서재 구분: {}", cover.getShelf());
+            }
+        }
         
         int totalCount = completedBookCovers.size() + currentlyReadingCovers.size() + 
                         droppedBookCovers.size() + wishlistCovers.size();
         
+        // 캐시에 보관되므로 불변 목록으로 반환
         return BookDto.MonthlyBookCoversResponse.builder()
-                .completedBookCovers(completedBookCovers)
-                .currentlyReadingCovers(currentlyReadingCovers)
-                .droppedBookCovers(droppedBookCovers)
-                .wishlistCovers(wishlistCovers)
+                .completedBookCovers(List.copyOf(completedBookCovers))
+                .currentlyReadingCovers(List.copyOf(currentlyReadingCovers))
+                .droppedBookCovers(List.copyOf(droppedBookCovers))
+                .wishlistCovers(List.copyOf(wishlistCovers))
                 .totalCount(totalCount)
                 .build();
     }
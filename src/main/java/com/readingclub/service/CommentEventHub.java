@@ -0,0 +1,261 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.CommentDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글별 실시간 댓글 이벤트 구독 관리 (SSE)
+ * 구독자마다 크기가 제한된 버퍼를 두고 별도 스레드에서 전송하며, 버퍼가 가득 찬 느린 구독자는 연결을 끊는다.
+ * 전송 스레드는 구독자들이 나눠 쓰므로 한 번에 정해진 건수만 보내고 다시 차례를 기다리게 하고,
+ * 수신하지 않는 클라이언트에 막힌 전송은 제한 시간이 지나면 끊어 다른 구독자의 전송이 밀리지 않게 한다.
+ * 같은 이벤트가 커밋 직후 발행과 DB 폴링 양쪽에서 들어와도 게시글별 최근 전송 이력으로 한 번만 보낸다.
+ */
+@Component
+@Slf4j
+public class CommentEventHub {
+    
+    private static final int RECENT_EVENT_HISTORY = 500;
+    
+    // 한 구독자가 전송 스레드를 한 번에 쓰는 최대 이벤트 수
+    private static final int MAX_EVENTS_PER_DRAIN = 10;
+    
+    private final long emitterTimeoutMs;
+    private final int bufferSize;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sender;
+    
+    // 게시글 ID -> 구독 정보
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+    
+    public CommentEventHub(@Value("${comment.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                           @Value("${comment.stream.buffer-size:100}") int bufferSize,
+                           @Value("${comment.stream.sender-threads:4}") int senderThreads,
+                           @Value("${comment.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.bufferSize = bufferSize;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.sender = Executors.newFixedThreadPool(senderThreads);
+    }
+    
+    /**
+     * 게시글 댓글 이벤트 구독
+     */
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = newEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        topics.compute(postId, (id, topic) -> {
+            Topic current = topic != null ? topic : new Topic();
+            current.subscribers.add(subscriber);
+            return current;
+        });
+        
+        emitter.onCompletion(() -> unsubscribe(postId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(postId, subscriber));
+        emitter.onError(e -> unsubscribe(postId, subscriber));
+        
+        // 연결 직후 확인용 이벤트
+        subscriber.queue.offer(SseEmitter.event().name("connected").data(postId));
+        scheduleDrain(postId, subscriber);
+        return emitter;
+    }
+    
+    /**
+     * 구독 중인 게시글 ID (DB 폴링 대상)
+     */
+    public Set<Long> getSubscribedPostIds() {
+        return topics.keySet();
+    }
+    
+    /**
+     * 댓글 이벤트 발행 (이미 보낸 이벤트면 무시)
+     */
+    public void publish(Long postId, CommentDto.StreamEvent event) {
+        Topic topic = topics.get(postId);
+        if (topic == null || !topic.markSent(event.getType() + ":" + event.getComment().getId())) {
+            return;
+        }
+        
+        SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
+                .id(String.valueOf(event.getComment().getId()))
+                .name("comment")
+                .data(event);
+        
+        for (Subscriber subscriber : topic.subscribers) {
+            if (!subscriber.queue.offer(sseEvent)) {
+                // 버퍼가 가득 찬 구독자는 끊고, 클라이언트가 재연결 후 목록을 다시 조회하도록 함
+                log.debug("댓글 스트림 버퍼 초과로 구독 종료: postId={}", postId);
+                unsubscribe(postId, subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            scheduleDrain(postId, subscriber);
+        }
+    }
+    
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊긴 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-ms:25000}")
+    public void sendHeartbeat() {
+        topics.forEach((postId, topic) -> {
+            for (Subscriber subscriber : topic.subscribers) {
+                if (subscriber.queue.offer(SseEmitter.event().comment("ping"))) {
+                    scheduleDrain(postId, subscriber);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 제한 시간 넘게 한 이벤트를 보내고 있는 구독자를 끊고 전송 스레드를 돌려받음
+     * (전송 중인 emitter 는 잠겨 있으므로 complete 하지 않고 전송 스레드를 인터럽트해 전송을 실패시킨다)
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.send-check-ms:1000}")
+    public void abandonStalledSends() {
+        long now = System.nanoTime();
+        topics.forEach((postId, topic) -> {
+            for (Subscriber subscriber : topic.subscribers) {
+                if (subscriber.stalledSince(now, sendTimeoutNanos)) {
+                    log.debug("댓글 스트림 전송 지연으로 구독 종료: postId={}", postId);
+                    unsubscribe(postId, subscriber);
+                    subscriber.interruptSend();
+                }
+            }
+        });
+    }
+    
+    // 테스트에서 전송을 흉내 내는 emitter 로 바꿀 수 있도록 분리
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+    
+    private void scheduleDrain(Long postId, Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(postId, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+    
+    private void drain(Long postId, Subscriber subscriber) {
+        subscriber.startSending();
+        try {
+            SseEmitter.SseEventBuilder event;
+            int sent = 0;
+            while (sent < MAX_EVENTS_PER_DRAIN && !subscriber.abandoned && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedAt = 0L;
+                sent++;
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(postId, subscriber);
+            return;
+        } finally {
+            subscriber.finishSending();
+            subscriber.draining.set(false);
+        }
+        
+        if (subscriber.abandoned) {
+            // 전송이 끝났으니 이제 연결을 닫을 수 있다
+            subscriber.emitter.complete();
+            return;
+        }
+        
+        // 남은 이벤트나 전송 중에 새로 들어온 이벤트는 다른 구독자 뒤로 다시 차례를 기다림
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(postId, subscriber);
+        }
+    }
+    
+    private void unsubscribe(Long postId, Subscriber subscriber) {
+        topics.computeIfPresent(postId, (id, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        topics.clear();
+        sender.shutdownNow();
+    }
+    
+    private static class Topic {
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        
+        // 최근 전송한 이벤트 키 (중복 전송 방지)
+        private final Map<String, Boolean> recentEvents = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_EVENT_HISTORY;
+            }
+        };
+        
+        synchronized boolean markSent(String eventKey) {
+            return recentEvents.put(eventKey, Boolean.TRUE) == null;
+        }
+    }
+    
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        
+        // 전송 중인 스레드와 현재 이벤트 전송 시작 시각 (0이면 전송 중 아님)
+        private Thread sendingThread;
+        private volatile long sendStartedAt;
+        private volatile boolean abandoned;
+        
+        Subscriber(SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+        
+        synchronized void startSending() {
+            sendingThread = Thread.currentThread();
+        }
+        
+        // 인터럽트는 이 락 안에서만 걸리므로, 전송을 마친 뒤 남은 인터럽트를 지워 풀 스레드를 깨끗하게 돌려준다
+        synchronized void finishSending() {
+            sendStartedAt = 0L;
+            sendingThread = null;
+            Thread.interrupted();
+        }
+        
+        synchronized void interruptSend() {
+            abandoned = true;
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+        
+        boolean stalledSince(long now, long timeoutNanos) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0L && now - startedAt > timeoutNanos;
+        }
+    }
+}
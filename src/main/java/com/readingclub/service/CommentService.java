@@ -4,18 +4,36 @@ import com.readingclub.dto.CommentDto;
 import com.readingclub.dto.UserDto;
 import com.readingclub.entity.Comment;
 import com.readingclub.entity.Post;
+import com.readingclub.entity.PostVisibility;
 import com.readingclub.entity.User;
 import com.readingclub.repository.CommentRepository;
 import com.readingclub.repository.PostRepository;
 import com.readingclub.repository.UserRepository;
+import com.readingclub.util.FeedCursor;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +45,17 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final CommentEventHub commentEventHub;
+    
+    @Value("${post.comment-count.recalculate-on-startup:false}")
+    private boolean recalculateCommentCountsOnStartup;
+    
+    // 다른 서버 또는 커밋 지연으로 놓친 변경을 잡기 위해 폴링 구간을 겹치게 조회
+    @Value("${comment.stream.poll-overlap-ms:5000}")
+    private long streamPollOverlapMs;
+    
+    private volatile LocalDateTime lastStreamPolledAt = LocalDateTime.now();
     
     /**
      * 게시글의 댓글 목록 조회 (페이징)
@@ -39,13 +68,16 @@ public class CommentService {
         // 댓글 목록 조회 (대댓글 제외)
         Page<Comment> comments = commentRepository.findByPostIdAndParentIsNullOrderByCreatedAtAsc(postId, pageable);
         
-        // 댓글 개수 조회
-        long totalComments = commentRepository.countCommentsByPostId(postId);
-        long activeComments = commentRepository.countActiveCommentsByPostId(postId);
+        // 댓글 개수 (게시글에 유지되는 카운터 사용)
+        long totalComments = post.getCommentCount();
+        long activeComments = post.getActiveCommentCount();
+        
+        // 페이지의 댓글들에 달린 대댓글 트리를 한 번에 조회해 구성
+        ReplyTree replyTree = loadReplies(postId, comments.getContent());
         
         // DTO 변환
         Page<CommentDto.Response> commentResponses = comments.map(comment -> 
-                convertToResponse(comment, currentUserId));
+                convertToResponse(comment, currentUserId, replyTree));
         
         return CommentDto.CommentListResponse.builder()
                 .comments(commentResponses)
@@ -54,6 +86,74 @@ public class CommentService {
                 .build();
     }
     
+    /**
+     * 게시글의 댓글 커서 조회 (작성순, 댓글마다 앞쪽 대댓글 replySize 건만 포함)
+     */
+    public CommentDto.CursorListResponse getCommentsByCursor(Long postId, Long currentUserId,
+                                                             String cursor, int size, int replySize) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        
+        FeedCursor feedCursor = FeedCursor.decode(cursor, FeedCursor.oldest());
+        List<Comment> comments = commentRepository.findRootCommentsAfterCursor(
+                postId, feedCursor.createdAt(), feedCursor.id(), PageRequest.of(0, size + 1));
+        
+        boolean hasNext = comments.size() > size;
+        List<Comment> pageContent = hasNext ? comments.subList(0, size) : comments;
+        ReplyTree replyTree = loadReplyPreview(postId, pageContent, replySize);
+        
+        List<CommentDto.Response> commentResponses = pageContent.stream()
+                .map(comment -> convertToResponse(comment, currentUserId, replyTree))
+                .collect(Collectors.toList());
+        
+        return CommentDto.CursorListResponse.builder()
+                .comments(commentResponses)
+                .nextCursor(hasNext ? toCursor(pageContent.get(pageContent.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .totalComments(post.getCommentCount())
+                .activeComments(post.getActiveCommentCount())
+                .build();
+    }
+    
+    /**
+     * 특정 댓글의 대댓글 커서 조회 ("더 보기"용)
+     */
+    public CommentDto.ReplyPageResponse getRepliesByCursor(Long commentId, Long currentUserId,
+                                                           String cursor, int size, int replySize) {
+        Comment parentComment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+        Long postId = parentComment.getPost().getId();
+        
+        FeedCursor feedCursor = FeedCursor.decode(cursor, FeedCursor.oldest());
+        List<Comment> replies = commentRepository.findRepliesAfterCursor(
+                postId, commentId, feedCursor.createdAt(), feedCursor.id(), PageRequest.of(0, size + 1));
+        
+        boolean hasNext = replies.size() > size;
+        List<Comment> pageContent = hasNext ? replies.subList(0, size) : replies;
+        ReplyTree replyTree = loadReplyPreview(postId, pageContent, replySize);
+        
+        List<CommentDto.Response> replyResponses = pageContent.stream()
+                .map(reply -> convertToResponse(reply, currentUserId, replyTree))
+                .collect(Collectors.toList());
+        
+        return CommentDto.ReplyPageResponse.builder()
+                .replies(replyResponses)
+                .nextCursor(hasNext ? toCursor(pageContent.get(pageContent.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 게시글 실시간 댓글 스트림 구독
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeComments(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        return commentEventHub.subscribe(postId);
+    }
+    
     /**
      * 댓글 작성
      */
@@ -86,33 +186,39 @@ public class CommentService {
         
         Comment comment = commentBuilder.build();
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
+        invalidatePublicFeed(post);
+        publishAfterCommit(savedComment);
         
         log.info("댓글 작성: {} (사용자: {}, 게시글: {})", 
                 savedComment.getId(), userId, postId);
         
-        return convertToResponse(savedComment, userId);
+        return convertToResponse(savedComment, userId, ReplyTree.EMPTY);
     }
     
     /**
      * 댓글 삭제
      */
     public void deleteComment(Long commentId, Long userId) {
+        // 댓글 삭제 (내용만 변경, 실제 삭제하지 않음)
+        // 조건부 UPDATE 로 처리해 같은 댓글을 동시에 삭제해도 한 요청만 활성 댓글 수를 줄인다.
+        int deleted = commentRepository.softDeleteIfActive(
+                commentId, userId, Comment.DELETED_CONTENT, LocalDateTime.now());
+        
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         
-        // 삭제 권한 확인
-        if (!comment.canDeleteByUser(userId)) {
-            throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
-        }
-        
-        // 이미 삭제된 댓글인지 확인
-        if (comment.getIsDeleted()) {
+        if (deleted == 0) {
+            // 삭제 권한 확인
+            if (!comment.canDeleteByUser(userId)) {
+                throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
+            }
             throw new IllegalArgumentException("이미 삭제된 댓글입니다.");
         }
         
-        // 댓글 삭제 (내용만 변경, 실제 삭제하지 않음)
-        comment.delete();
-        commentRepository.save(comment);
+        postRepository.decrementActiveCommentCount(comment.getPost().getId());
+        invalidatePublicFeed(comment.getPost());
+        publishAfterCommit(comment);
         
         log.info("댓글 삭제: {} (사용자: {})", commentId, userId);
     }
@@ -125,11 +231,11 @@ public class CommentService {
         Comment parentComment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         
-        // 대댓글 목록 조회
-        List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(commentId);
+        // 대댓글 트리 조회
+        ReplyTree replyTree = loadReplies(parentComment.getPost().getId(), List.of(parentComment));
         
-        return replies.stream()
-                .map(reply -> convertToResponse(reply, currentUserId))
+        return replyTree.repliesOf(commentId).stream()
+                .map(reply -> convertToResponse(reply, currentUserId, replyTree))
                 .collect(Collectors.toList());
     }
     
@@ -143,14 +249,161 @@ public class CommentService {
     }
     
     /**
-     * 댓글 엔티티를 Response DTO로 변환
+     * 게시글 댓글 수 채우기
+     * 컬럼 추가 이전 게시글처럼 댓글 수가 채워지지 않은 행은 시작 시 항상 채우고 (한 번 채우면 다시 대상이 되지 않음),
+     * 전체 재계산은 불일치 복구용 설정을 켰을 때만 한다.
      */
-    private CommentDto.Response convertToResponse(Comment comment, Long currentUserId) {
-        // 대댓글 목록 조회
-        List<CommentDto.Response> replies = comment.getReplies().stream()
-                .map(reply -> convertToResponse(reply, currentUserId))
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalculateCommentCountsOnStartup() {
+        if (recalculateCommentCountsOnStartup) {
+            int updated = postRepository.recalculateCommentCounts();
+            log.info("게시글 댓글 수 재계산 완료: {}건", updated);
+            return;
+        }
+        int backfilled = postRepository.backfillUninitializedCommentCounts();
+        if (backfilled > 0) {
+            log.info("게시글 댓글 수 채우기 완료: {}건", backfilled);
+        }
+    }
+    
+    /**
+     * 구독 중인 게시글의 댓글 변경을 DB에서 조회해 스트림으로 발행
+     * (다른 서버에서 작성/삭제된 댓글 반영, 이미 보낸 이벤트는 CommentEventHub 에서 걸러짐)
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.poll-interval-ms:3000}")
+    @Transactional(readOnly = true)
+    public void pollCommentChangesForStreams() {
+        LocalDateTime since = lastStreamPolledAt.minus(Duration.ofMillis(streamPollOverlapMs));
+        lastStreamPolledAt = LocalDateTime.now();
+        
+        Set<Long> postIds = commentEventHub.getSubscribedPostIds();
+        if (postIds.isEmpty()) {
+            return;
+        }
+        
+        for (Comment comment : commentRepository.findChangedSince(List.copyOf(postIds), since)) {
+            commentEventHub.publish(comment.getPost().getId(), toStreamEvent(comment));
+        }
+    }
+    
+    /**
+     * 커밋 후 댓글 이벤트 발행 (DTO 는 영속성 컨텍스트가 열려 있는 지금 생성)
+     */
+    private void publishAfterCommit(Comment comment) {
+        Long postId = comment.getPost().getId();
+        CommentDto.StreamEvent event = toStreamEvent(comment);
+        TransactionUtils.afterCommit(() -> commentEventHub.publish(postId, event));
+    }
+    
+    private CommentDto.StreamEvent toStreamEvent(Comment comment) {
+        CommentDto.Response response = convertToResponse(comment, null, ReplyTree.EMPTY);
+        response.setCanDelete(null);
+        
+        return CommentDto.StreamEvent.builder()
+                .type(comment.getIsDeleted() ? CommentDto.StreamEventType.DELETED : CommentDto.StreamEventType.CREATED)
+                .postId(comment.getPost().getId())
+                .comment(response)
+                .build();
+    }
+    
+    /**
+     * 공개 게시글이 피드 캐시에 담겨 있으면 댓글 수 갱신을 위해 해당 스냅샷만 무효화
+     */
+    private void invalidatePublicFeed(Post post) {
+        if (post.getVisibility() == PostVisibility.PUBLIC) {
+            Long postId = post.getId();
+            TransactionUtils.afterCommit(() -> publicFeedCache.invalidatePosts(Set.of(postId)));
+        }
+    }
+    
+    /**
+     * 주어진 댓글들의 모든 하위 대댓글 조회 (부모 댓글 ID -> 작성순 대댓글)
+     * 재귀 CTE 로 하위 ID 를 한 번에 모은 뒤 작성자와 함께 읽으므로 트리 깊이와 무관하게 쿼리 두 번이다.
+     */
+    private ReplyTree loadReplies(Long postId, List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return ReplyTree.EMPTY;
+        }
+        List<Long> parentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+        
+        List<Long> replyIds = commentRepository.findDescendantIds(postId, parentIds);
+        return new ReplyTree(groupByParent(replyIds), null);
+    }
+    
+    /**
+     * 주어진 댓글들의 대댓글 미리보기 조회 (화면에 나오는 부모 댓글마다 앞쪽 limit 건)
+     * 부모별 순위와 대댓글 수를 재귀 CTE 한 번으로 받아 위에서부터 보이는 가지만 남긴다.
+     */
+    private ReplyTree loadReplyPreview(Long postId, List<Comment> comments, int limit) {
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (comments.isEmpty()) {
+            return new ReplyTree(Map.of(), replyCounts);
+        }
+        List<Long> parentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+        
+        // 순위가 1 인 행은 부모마다 있으므로 limit 이 0 이어도 대댓글 수는 받을 수 있다
+        Map<Long, List<Long>> previewIdsByParentId = new HashMap<>();
+        for (CommentRepository.ReplyPreviewRow row
+                : commentRepository.findReplyPreviewRows(postId, parentIds, Math.max(limit, 1))) {
+            replyCounts.put(row.getParentId(), row.getReplyCount());
+            previewIdsByParentId.computeIfAbsent(row.getParentId(), id -> new ArrayList<>())
+                    .add(row.getId());
+        }
+        
+        // 미리보기에서 빠진 대댓글의 자식은 화면에 나오지 않으므로 제외
+        List<Long> shownIds = new ArrayList<>();
+        Deque<Long> shownParents = new ArrayDeque<>(limit > 0 ? parentIds : List.of());
+        while (!shownParents.isEmpty()) {
+            for (Long replyId : previewIdsByParentId.getOrDefault(shownParents.poll(), List.of())) {
+                shownIds.add(replyId);
+                shownParents.add(replyId);
+            }
+        }
+        return new ReplyTree(groupByParent(shownIds), replyCounts);
+    }
+    
+    /**
+     * 대댓글 ID 목록을 작성자와 함께 읽어 부모 댓글별 작성순으로 묶음
+     */
+    private Map<Long, List<Comment>> groupByParent(List<Long> replyIds) {
+        Map<Long, List<Comment>> repliesByParentId = new HashMap<>();
+        if (replyIds.isEmpty()) {
+            return repliesByParentId;
+        }
+        
+        List<Comment> replies = new ArrayList<>(commentRepository.findByIdIn(replyIds));
+        replies.sort(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId));
+        for (Comment reply : replies) {
+            repliesByParentId.computeIfAbsent(reply.getParent().getId(), id -> new ArrayList<>())
+                    .add(reply);
+        }
+        return repliesByParentId;
+    }
+    
+    private FeedCursor toCursor(Comment comment) {
+        return new FeedCursor(comment.getCreatedAt(), comment.getId());
+    }
+    
+    /**
+     * 댓글 엔티티를 Response DTO로 변환 (대댓글은 미리 조회한 트리에서 구성)
+     */
+    private CommentDto.Response convertToResponse(Comment comment, Long currentUserId, ReplyTree replyTree) {
+        List<Comment> childComments = replyTree.repliesOf(comment.getId());
+        List<CommentDto.Response> replies = childComments.stream()
+                .map(reply -> convertToResponse(reply, currentUserId, replyTree))
                 .collect(Collectors.toList());
         
+        // 미리보기 트리면 남은 대댓글 여부와 이어서 조회할 커서 포함
+        long replyCount = replyTree.replyCountOf(comment.getId());
+        boolean hasMoreReplies = replyCount > childComments.size();
+        String nextReplyCursor = replyTree.isPreview() && hasMoreReplies && !childComments.isEmpty()
+                ? toCursor(childComments.get(childComments.size() - 1)).encode()
+                : null;
+        
         // 사용자 DTO 생성
         UserDto.Response userDto = UserDto.Response.builder()
                 .id(comment.getUser().getId())
@@ -167,15 +420,40 @@ public class CommentService {
                 .isDeleted(comment.getIsDeleted())
                 .isReply(comment.isReply())
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .replyCount(comment.getReplyCount())
+                .replyCount((int) replyCount)
                 .canDelete(comment.canDeleteByUser(currentUserId))
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .user(userDto)
                 .replies(replies)
+                .hasMoreReplies(replyTree.isPreview() ? hasMoreReplies : null)
+                .nextReplyCursor(nextReplyCursor)
                 .build();
     }
     
+    /**
+     * 미리 조회한 대댓글 트리
+     * replyCounts 가 null 이면 모든 대댓글을 담은 트리, 아니면 부모마다 일부만 담은 미리보기
+     */
+    private record ReplyTree(Map<Long, List<Comment>> repliesByParentId, Map<Long, Long> replyCounts) {
+        
+        static final ReplyTree EMPTY = new ReplyTree(Map.of(), null);
+        
+        List<Comment> repliesOf(Long commentId) {
+            return repliesByParentId.getOrDefault(commentId, List.of());
+        }
+        
+        long replyCountOf(Long commentId) {
+            return replyCounts == null
+                    ? repliesOf(commentId).size()
+                    : replyCounts.getOrDefault(commentId, 0L);
+        }
+        
+        boolean isPreview() {
+            return replyCounts != null;
+        }
+    }
+    
     /**
      * 댓글 엔티티를 UserCommentResponse DTO로 변환
      */
@@ -3,10 +3,13 @@ package com.readingclub.service;
 import com.readingclub.dto.ApiResponse;
 import com.readingclub.dto.CurrentlyReadingDto;
 import com.readingclub.dto.UserDto;
+import com.readingclub.entity.CatalogBook;
 import com.readingclub.entity.CurrentlyReading;
 import com.readingclub.entity.User;
 import com.readingclub.repository.CurrentlyReadingRepository;
 import com.readingclub.repository.UserRepository;
+import com.readingclub.util.BookFingerprint;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +30,9 @@ public class CurrentlyReadingService {
     
     private final CurrentlyReadingRepository currentlyReadingRepository;
     private final UserRepository userRepository;
+    private final MonthlyCoverCache monthlyCoverCache;
+    private final UserStatsService userStatsService;
+    private final BookCatalogService bookCatalogService;
     
     /**
      * 사용자의 읽고 있는 책 목록 조회 (페이징)
@@ -59,15 +66,26 @@ public class CurrentlyReadingService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
-        // 중복 체크
-        if (currentlyReadingRepository.existsByUserIdAndTitleAndAuthor(userId, request.getTitle(), request.getAuthor())) {
+        // 중복 체크 (ISBN이 있으면 ISBN-13으로 통일해 먼저 확인)
+        String isbnKey = BookFingerprint.isbn13(request.getIsbn());
+        if (isbnKey != null && currentlyReadingRepository.existsByUserIdAndIsbnKey(userId, isbnKey)) {
+            throw new IllegalArgumentException("이미 읽고 있는 책입니다.");
+        }
+        if (currentlyReadingRepository.existsByUserIdAndFingerprint(userId, BookFingerprint.of(request.getTitle(), request.getAuthor()))) {
             throw new IllegalArgumentException("이미 읽고 있는 책입니다.");
         }
         
+        // 공용 도서 카탈로그에 등록하고 참조
+        CatalogBook catalogBook = bookCatalogService.register(request.getIsbn(), request.getTitle(),
+                request.getAuthor(), request.getPublisher(), request.getCoverImage(),
+                request.getPublishedDate(), request.getDescription());
+        
         CurrentlyReading currentlyReading = CurrentlyReading.builder()
                 .user(user)
+                .catalogBook(catalogBook)
                 .title(request.getTitle())
                 .author(request.getAuthor())
+                .isbn(request.getIsbn())
                 .coverImage(request.getCoverImage())
                 .publisher(request.getPublisher())
                 .publishedDate(request.getPublishedDate())
@@ -82,6 +100,8 @@ public class CurrentlyReadingService {
         currentlyReading.updateProgress(request.getProgressPercentage());
         
         CurrentlyReading saved = currentlyReadingRepository.save(currentlyReading);
+        userStatsService.currentlyReadingChanged(userId, 1);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         return convertToResponse(saved);
     }
     
@@ -101,6 +121,14 @@ public class CurrentlyReadingService {
         currentlyReading.setReadingType(CurrentlyReading.ReadingType.valueOf(request.getReadingType().name()));
         currentlyReading.setDueDate(request.getDueDate());
         currentlyReading.setMemo(request.getMemo());
+        if (!Objects.equals(request.getIsbn(), currentlyReading.getIsbn())) {
+            currentlyReading.setIsbn(request.getIsbn());
+            // ISBN이 바뀌면 카탈로그 참조도 다시 연결
+            currentlyReading.setCatalogBook(bookCatalogService.register(currentlyReading.getIsbn(),
+                    currentlyReading.getTitle(), currentlyReading.getAuthor(), currentlyReading.getPublisher(),
+                    currentlyReading.getCoverImage(), currentlyReading.getPublishedDate(),
+                    currentlyReading.getDescription()));
+        }
         
         // 진행률이 변경된 경우 업데이트
         if (request.getProgressPercentage() != null) {
@@ -108,6 +136,7 @@ public class CurrentlyReadingService {
         }
         
         CurrentlyReading saved = currentlyReadingRepository.save(currentlyReading);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         return convertToResponse(saved);
     }
     
@@ -138,21 +167,22 @@ public class CurrentlyReadingService {
                 .orElseThrow(() -> new IllegalArgumentException("읽고 있는 책을 찾을 수 없습니다."));
         
         currentlyReadingRepository.delete(currentlyReading);
+        userStatsService.currentlyReadingChanged(userId, -1);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
     }
     
     /**
      * 중복 체크
      */
     public CurrentlyReadingDto.DuplicateCheckResponse checkDuplicate(Long userId, String title, String author) {
-        boolean duplicate = currentlyReadingRepository.existsByUserIdAndTitleAndAuthor(userId, title, author);
+        // 정규화 지문으로 조회 (저자가 없으면 제목이 같은 책)
+        List<CurrentlyReading> matches = currentlyReadingRepository.findByUserIdAndFingerprintLike(
+                userId, BookFingerprint.lookupPattern(title, author));
+        boolean duplicate = !matches.isEmpty();
         
         List<CurrentlyReadingDto.DuplicateCheckResponse.DuplicateBook> duplicateBooks = null;
         if (duplicate) {
-            duplicateBooks = currentlyReadingRepository.findByUserIdAndTitleOrAuthorContaining(userId, title, Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .filter(book -> book.getTitle().equals(title) && 
-                            (author == null || book.getAuthor() == null || book.getAuthor().equals(author)))
+            duplicateBooks = matches.stream()
                     .map(this::convertToDuplicateBook)
                     .collect(Collectors.toList());
         }
@@ -181,6 +211,7 @@ public class CurrentlyReadingService {
                 .id(currentlyReading.getId())
                 .title(currentlyReading.getTitle())
                 .author(currentlyReading.getAuthor())
+                .isbn(currentlyReading.getIsbn())
                 .coverImage(currentlyReading.getCoverImage())
                 .publisher(currentlyReading.getPublisher())
                 .publishedDate(currentlyReading.getPublishedDate())
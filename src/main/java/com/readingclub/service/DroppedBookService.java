@@ -2,19 +2,23 @@ package com.readingclub.service;
 
 import com.readingclub.dto.DroppedBookDto;
 import com.readingclub.dto.UserDto;
+import com.readingclub.entity.CatalogBook;
 import com.readingclub.entity.DroppedBook;
 import com.readingclub.entity.User;
 import com.readingclub.repository.DroppedBookRepository;
 import com.readingclub.repository.UserRepository;
+import com.readingclub.util.BookFingerprint;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,20 +29,30 @@ public class DroppedBookService {
     
     private final DroppedBookRepository droppedBookRepository;
     private final UserRepository userRepository;
+    private final MonthlyCoverCache monthlyCoverCache;
+    private final UserStatsService userStatsService;
+    private final BookCatalogService bookCatalogService;
     
     /**
      * 읽다 만 책 목록 조회 (페이징)
+     * includeTotal 이 false 이면 COUNT 쿼리 없이 Slice 로 조회
      */
-    public Page<DroppedBookDto.Response> getDroppedBooks(Long userId, Pageable pageable, String search) {
-        Page<DroppedBook> droppedBooks;
+    public Slice<DroppedBookDto.Response> getDroppedBooks(Long userId, Pageable pageable, String search,
+                                                          boolean includeTotal) {
+        Slice<DroppedBook> droppedBooks;
         
         if (search != null && !search.trim().isEmpty()) {
             // 검색어가 있는 경우 제목이나 저자로 검색
-            droppedBooks = droppedBookRepository.findByUserIdAndTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
-                    userId, search.trim(), search.trim(), pageable);
+            droppedBooks = includeTotal
+                    ? droppedBookRepository.findByUserIdAndTitleContainingIgnoreCaseOrAuthorContainingIgnoreCase(
+                            userId, search.trim(), search.trim(), pageable)
+                    : droppedBookRepository.findSliceByUserIdAndTitleOrAuthorContaining(
+                            userId, search.trim(), pageable);
         } else {
             // 검색어가 없는 경우 전체 조회
-            droppedBooks = droppedBookRepository.findByUserIdOrderByDroppedDateDesc(userId, pageable);
+            droppedBooks = includeTotal
+                    ? droppedBookRepository.findByUserIdOrderByDroppedDateDesc(userId, pageable)
+                    : droppedBookRepository.findSliceByUserIdOrderByDroppedDateDesc(userId, pageable);
         }
         
         return droppedBooks.map(this::convertToDto);
@@ -77,8 +91,14 @@ public class DroppedBookService {
         // 하차 날짜가 없으면 오늘 날짜로 설정
         LocalDate droppedDate = request.getDroppedDate() != null ? request.getDroppedDate() : LocalDate.now();
         
+        // 공용 도서 카탈로그에 등록하고 참조 (게시글 작성과 동일)
+        CatalogBook catalogBook = bookCatalogService.register(request.getIsbn(), request.getTitle(),
+                request.getAuthor(), request.getPublisher(), request.getCoverImage(),
+                request.getPublishedDate(), request.getDescription());
+        
         DroppedBook droppedBook = DroppedBook.builder()
                 .user(user)
+                .catalogBook(catalogBook)
                 .title(request.getTitle())
                 .author(request.getAuthor())
                 .isbn(request.getIsbn())
@@ -95,6 +115,8 @@ public class DroppedBookService {
                 .build();
         
         DroppedBook savedDroppedBook = droppedBookRepository.save(droppedBook);
+        userStatsService.droppedBookAdded(userId, savedDroppedBook.getDroppedDate());
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         return convertToDto(savedDroppedBook);
     }
     
@@ -108,7 +130,7 @@ public class DroppedBookService {
         
         // 수정 시 중복 체크 (자기 자신은 제외)
         if (request.getTitle() != null || request.getAuthor() != null || request.getIsbn() != null) {
-            checkDuplicateBookForUpdate(userId, droppedBookId, request);
+            checkDuplicateBookForUpdate(userId, droppedBook, request);
         }
         
         // 수정 가능한 필드들만 업데이트
@@ -118,8 +140,12 @@ public class DroppedBookService {
         if (request.getAuthor() != null) {
             droppedBook.setAuthor(request.getAuthor());
         }
-        if (request.getIsbn() != null) {
+        if (request.getIsbn() != null && !request.getIsbn().equals(droppedBook.getIsbn())) {
             droppedBook.setIsbn(request.getIsbn());
+            // ISBN이 바뀌면 카탈로그 참조도 다시 연결
+            droppedBook.setCatalogBook(bookCatalogService.register(droppedBook.getIsbn(), droppedBook.getTitle(),
+                    droppedBook.getAuthor(), droppedBook.getPublisher(), droppedBook.getCoverImage(),
+                    droppedBook.getPublishedDate(), droppedBook.getDescription()));
         }
         if (request.getCoverImage() != null) {
             droppedBook.setCoverImage(request.getCoverImage());
@@ -145,13 +171,16 @@ public class DroppedBookService {
         if (request.getStartedDate() != null) {
             droppedBook.setStartedDate(request.getStartedDate());
         }
-        if (request.getDroppedDate() != null) {
+        if (request.getDroppedDate() != null && !request.getDroppedDate().equals(droppedBook.getDroppedDate())) {
+            userStatsService.droppedBookRemoved(userId, droppedBook.getDroppedDate());
+            userStatsService.droppedBookAdded(userId, request.getDroppedDate());
             droppedBook.setDroppedDate(request.getDroppedDate());
         }
         if (request.getMemo() != null) {
             droppedBook.setMemo(request.getMemo());
         }
         
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         return convertToDto(droppedBook);
     }
     
@@ -164,6 +193,8 @@ public class DroppedBookService {
                 .orElseThrow(() -> new IllegalArgumentException("읽다 만 책을 찾을 수 없습니다."));
         
         droppedBookRepository.delete(droppedBook);
+        userStatsService.droppedBookRemoved(userId, droppedBook.getDroppedDate());
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
     }
     
     /**
@@ -188,35 +219,29 @@ public class DroppedBookService {
             DroppedBookDto.DuplicateCheckResponse.builder();
         
         if (title != null && !title.trim().isEmpty()) {
-            // 제목으로 중복 체크
-            if (droppedBookRepository.existsByUserIdAndTitle(userId, title.trim())) {
-                // 중복된 책을 찾아서 반환
-                List<DroppedBook> duplicates = droppedBookRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
-                if (!duplicates.isEmpty()) {
-                    return responseBuilder
-                        .isDuplicate(true)
-                        .existingBook(convertToDto(duplicates.get(0)))
-                        .message("이미 읽다 만 책으로 등록된 제목입니다: " + title)
-                        .build();
-                }
-            }
-            
-            // 제목과 저자가 모두 있는 경우 제목+저자로 중복 체크
-            if (author != null && !author.trim().isEmpty()) {
-                if (droppedBookRepository.existsByUserIdAndTitleAndAuthor(userId, title.trim(), author.trim())) {
-                    // 중복된 책을 찾아서 반환
-                    List<DroppedBook> duplicates = droppedBookRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
-                    DroppedBook duplicateBook = duplicates.stream()
-                        .filter(book -> book.getAuthor() != null && book.getAuthor().equalsIgnoreCase(author.trim()))
-                        .findFirst()
-                        .orElse(duplicates.get(0));
-                    
+            // 제목이 같은 책을 지문 인덱스로 한 번에 조회
+            List<DroppedBook> duplicates = droppedBookRepository.findByUserIdAndFingerprintLike(
+                userId, BookFingerprint.titlePattern(title));
+            if (!duplicates.isEmpty()) {
+                // 저자까지 같은 책이 있으면 우선 반환
+                String fingerprint = BookFingerprint.of(title, author);
+                Optional<DroppedBook> sameBook = duplicates.stream()
+                    .filter(book -> fingerprint.equals(book.getFingerprint()))
+                    .findFirst();
+                
+                if (author != null && !author.trim().isEmpty() && sameBook.isPresent()) {
                     return responseBuilder
                         .isDuplicate(true)
-                        .existingBook(convertToDto(duplicateBook))
+                        .existingBook(convertToDto(sameBook.get()))
                         .message("이미 읽다 만 책으로 등록된 책입니다: " + title + " - " + author)
                         .build();
                 }
+                
+                return responseBuilder
+                    .isDuplicate(true)
+                    .existingBook(convertToDto(sameBook.orElse(duplicates.get(0))))
+                    .message("이미 읽다 만 책으로 등록된 제목입니다: " + title)
+                    .build();
             }
         }
         
@@ -272,65 +297,57 @@ public class DroppedBookService {
      * 중복 책 체크 (새로 추가할 때)
      */
     private void checkDuplicateBook(Long userId, DroppedBookDto.CreateRequest request) {
-        // ISBN이 있는 경우 ISBN으로 중복 체크
-        if (request.getIsbn() != null && !request.getIsbn().trim().isEmpty()) {
-            if (droppedBookRepository.existsByUserIdAndIsbn(userId, request.getIsbn().trim())) {
-                throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 ISBN입니다: " + request.getIsbn());
-            }
+        // ISBN이 있는 경우 ISBN-13으로 통일해 중복 체크
+        String isbnKey = BookFingerprint.isbn13(request.getIsbn());
+        if (isbnKey != null && droppedBookRepository.existsByUserIdAndIsbnKey(userId, isbnKey)) {
+            throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 ISBN입니다: " + request.getIsbn());
         }
         
-        // 제목과 저자가 모두 있는 경우 제목+저자로 중복 체크
-        if (request.getTitle() != null && request.getAuthor() != null && 
-            !request.getTitle().trim().isEmpty() && !request.getAuthor().trim().isEmpty()) {
-            if (droppedBookRepository.existsByUserIdAndTitleAndAuthor(userId, request.getTitle().trim(), request.getAuthor().trim())) {
-                throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 책입니다: " + request.getTitle() + " - " + request.getAuthor());
-            }
-        }
-        
-        // 제목만 있는 경우 제목으로 중복 체크
+        // 제목이 같은 책을 지문 인덱스로 한 번에 조회
         if (request.getTitle() != null && !request.getTitle().trim().isEmpty()) {
-            if (droppedBookRepository.existsByUserIdAndTitle(userId, request.getTitle().trim())) {
-                throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 제목입니다: " + request.getTitle());
-            }
+            List<DroppedBook> duplicates = droppedBookRepository.findByUserIdAndFingerprintLike(
+                userId, BookFingerprint.titlePattern(request.getTitle()));
+            throwIfDuplicate(duplicates, request.getTitle(), request.getAuthor());
         }
     }
     
     /**
-     * 중복 책 체크 (수정할 때)
+     * 중복 책 체크 (수정할 때, 이미 조회한 엔티티 기준으로 자기 자신 제외)
      */
-    private void checkDuplicateBookForUpdate(Long userId, Long droppedBookId, DroppedBookDto.UpdateRequest request) {
-        // ISBN이 있는 경우 ISBN으로 중복 체크 (자기 자신 제외)
-        if (request.getIsbn() != null && !request.getIsbn().trim().isEmpty()) {
-            // ISBN이 변경된 경우에만 중복 체크
-            DroppedBook currentBook = droppedBookRepository.findById(droppedBookId).orElse(null);
-            if (currentBook != null && !request.getIsbn().trim().equals(currentBook.getIsbn())) {
-                if (droppedBookRepository.existsByUserIdAndIsbn(userId, request.getIsbn().trim())) {
-                    throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 ISBN입니다: " + request.getIsbn());
-                }
-            }
+    private void checkDuplicateBookForUpdate(Long userId, DroppedBook currentBook, DroppedBookDto.UpdateRequest request) {
+        // ISBN이 변경된 경우에만 중복 체크
+        String isbnKey = BookFingerprint.isbn13(request.getIsbn());
+        if (isbnKey != null && !isbnKey.equals(currentBook.getIsbnKey())
+                && droppedBookRepository.existsByUserIdAndIsbnKeyAndIdNot(userId, isbnKey, currentBook.getId())) {
+            throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 ISBN입니다: " + request.getIsbn());
         }
         
-        // 제목과 저자가 모두 있는 경우 제목+저자로 중복 체크 (자기 자신 제외)
-        if (request.getTitle() != null && request.getAuthor() != null && 
-            !request.getTitle().trim().isEmpty() && !request.getAuthor().trim().isEmpty()) {
-            DroppedBook currentBook = droppedBookRepository.findById(droppedBookId).orElse(null);
-            if (currentBook != null && 
-                (!request.getTitle().trim().equals(currentBook.getTitle()) || 
-                 !request.getAuthor().trim().equals(currentBook.getAuthor()))) {
-                if (droppedBookRepository.existsByUserIdAndTitleAndAuthor(userId, request.getTitle().trim(), request.getAuthor().trim())) {
-                    throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 책입니다: " + request.getTitle() + " - " + request.getAuthor());
-                }
-            }
-        }
+        String title = request.getTitle() != null && !request.getTitle().trim().isEmpty()
+            ? request.getTitle() : currentBook.getTitle();
+        String author = request.getAuthor() != null ? request.getAuthor() : currentBook.getAuthor();
         
-        // 제목만 있는 경우 제목으로 중복 체크 (자기 자신 제외)
-        if (request.getTitle() != null && !request.getTitle().trim().isEmpty()) {
-            DroppedBook currentBook = droppedBookRepository.findById(droppedBookId).orElse(null);
-            if (currentBook != null && !request.getTitle().trim().equals(currentBook.getTitle())) {
-                if (droppedBookRepository.existsByUserIdAndTitle(userId, request.getTitle().trim())) {
-                    throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 제목입니다: " + request.getTitle());
-                }
+        // 제목이 바뀌면 같은 제목, 저자만 바뀌면 같은 제목+저자인 책이 있는지 확인
+        if (!BookFingerprint.titlePattern(title).equals(BookFingerprint.titlePattern(currentBook.getTitle()))) {
+            throwIfDuplicate(droppedBookRepository.findByUserIdAndFingerprintLikeAndIdNot(
+                userId, BookFingerprint.titlePattern(title), currentBook.getId()), title, author);
+        } else if (!BookFingerprint.of(title, author).equals(BookFingerprint.of(currentBook.getTitle(), currentBook.getAuthor()))) {
+            List<DroppedBook> duplicates = droppedBookRepository.findByUserIdAndFingerprintLikeAndIdNot(
+                userId, BookFingerprint.of(title, author), currentBook.getId());
+            if (!duplicates.isEmpty()) {
+                throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 책입니다: " + title + " - " + author);
             }
         }
     }
+    
+    private void throwIfDuplicate(List<DroppedBook> sameTitleBooks, String title, String author) {
+        if (sameTitleBooks.isEmpty()) {
+            return;
+        }
+        String fingerprint = BookFingerprint.of(title, author);
+        if (author != null && !author.trim().isEmpty()
+                && sameTitleBooks.stream().anyMatch(book -> fingerprint.equals(book.getFingerprint()))) {
+            throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 책입니다: " + title + " - " + author);
+        }
+        throw new IllegalArgumentException("이미 읽다 만 책으로 등록된 제목입니다: " + title);
+    }
 }
@@ -0,0 +1,281 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.entity.Book;
+import com.readingclub.entity.CatalogBook;
+import com.readingclub.entity.CurrentlyReading;
+import com.readingclub.entity.DroppedBook;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.Wishlist;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.WishlistRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 내 서재 전체 내보내기 (완독/읽고 있는/읽다 만/위시리스트/게시글)
+ * 목록 API처럼 한 번에 메모리에 올리지 않고, 전진 전용 스트림으로 읽은 행을 바로 쓰고 영속성 컨텍스트에서 떼어 낸다.
+ * 모든 종류가 같은 컬럼 집합을 쓰며, NDJSON은 값이 있는 컬럼만, CSV는 전체 컬럼을 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LibraryExportService {
+    
+    // 이 건수마다 출력 버퍼를 내보내고 영속성 컨텍스트를 비움
+    private static final int FLUSH_INTERVAL = 500;
+    
+    private static final List<String> COLUMNS = List.of(
+            "type", "id", "title", "author", "isbn", "publisher", "published_date", "cover_image",
+            "rating", "finished_date", "started_date", "dropped_date", "due_date",
+            "progress_percentage", "reading_type", "priority", "drop_reason",
+            "post_type", "visibility", "recommendation_type", "post_title", "content", "memo",
+            "created_at", "updated_at");
+    
+    private final BookRepository bookRepository;
+    private final CurrentlyReadingRepository currentlyReadingRepository;
+    private final DroppedBookRepository droppedBookRepository;
+    private final WishlistRepository wishlistRepository;
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public MediaType getMediaType() {
+            return new MediaType(MediaType.parseMediaType(contentType), StandardCharsets.UTF_8);
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+    
+    /**
+     * 사용자의 서재 전체를 출력 스트림에 기록 (기록한 행 수 반환)
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, Format format, OutputStream outputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        
+        if (format == Format.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+        
+        long count = 0;
+        count += writeAll(bookRepository.streamByUserId(userId), this::toRow, format, writer);
+        count += writeAll(currentlyReadingRepository.streamByUserId(userId), this::toRow, format, writer);
+        count += writeAll(droppedBookRepository.streamByUserId(userId), this::toRow, format, writer);
+        count += writeAll(wishlistRepository.streamByUserId(userId), this::toRow, format, writer);
+        count += writeAll(postRepository.streamByUserId(userId), this::toRow, format, writer);
+        
+        writer.flush();
+        log.info("서재 내보내기 완료: userId={}, format={}, {}건, {}ms",
+                userId, format, count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+    
+    private <T> long writeAll(Stream<T> entities, Function<T, Map<String, Object>> mapper,
+                              Format format, Writer writer) throws IOException {
+        long count = 0;
+        try (entities) {
+            Iterator<T> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                writeRow(mapper.apply(entity), format, writer);
+                entityManager.detach(entity);
+                
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                    // 함께 올라온 연관 엔티티(카탈로그 등)까지 비움
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+    
+    private void writeRow(Map<String, Object> row, Format format, Writer writer) throws IOException {
+        if (format == Format.NDJSON) {
+            Map<String, Object> present = new LinkedHashMap<>();
+            row.forEach((column, value) -> {
+                if (value != null) {
+                    present.put(column, value);
+                }
+            });
+            writer.write(objectMapper.writeValueAsString(present));
+            writer.write('\n');
+            return;
+        }
+        
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(row.get(COLUMNS.get(i))));
+        }
+        writer.write("\r\n");
+    }
+    
+    private String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // 스프레드시트 수식으로 해석되지 않도록 문자열 값 앞에 작은따옴표 추가
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+    
+    private Map<String, Object> newRow(String type, Long id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        COLUMNS.forEach(column -> row.put(column, null));
+        row.put("type", type);
+        row.put("id", id);
+        return row;
+    }
+    
+    private Map<String, Object> toRow(Book book) {
+        Map<String, Object> row = newRow("COMPLETED", book.getId());
+        row.put("title", book.getTitle());
+        row.put("author", book.getAuthor());
+        row.put("isbn", book.getIsbn());
+        row.put("cover_image", book.getCoverImage());
+        row.put("rating", book.getRating());
+        row.put("finished_date", stringOf(book.getFinishedDate()));
+        row.put("content", book.getReview());
+        row.put("created_at", stringOf(book.getCreatedAt()));
+        row.put("updated_at", stringOf(book.getUpdatedAt()));
+        return row;
+    }
+    
+    private Map<String, Object> toRow(CurrentlyReading currentlyReading) {
+        Map<String, Object> row = newRow("READING", currentlyReading.getId());
+        row.put("title", currentlyReading.getTitle());
+        row.put("author", currentlyReading.getAuthor());
+        row.put("isbn", currentlyReading.getIsbn());
+        row.put("publisher", currentlyReading.getPublisher());
+        row.put("published_date", currentlyReading.getPublishedDate());
+        row.put("cover_image", currentlyReading.getCoverImage());
+        row.put("due_date", stringOf(currentlyReading.getDueDate()));
+        row.put("progress_percentage", currentlyReading.getProgressPercentage());
+        row.put("reading_type", stringOf(currentlyReading.getReadingType()));
+        row.put("memo", currentlyReading.getMemo());
+        row.put("created_at", stringOf(currentlyReading.getCreatedAt()));
+        row.put("updated_at", stringOf(currentlyReading.getUpdatedAt()));
+        return row;
+    }
+    
+    private Map<String, Object> toRow(DroppedBook droppedBook) {
+        Map<String, Object> row = newRow("DROPPED", droppedBook.getId());
+        row.put("title", droppedBook.getTitle());
+        row.put("author", droppedBook.getAuthor());
+        row.put("isbn", droppedBook.getIsbn());
+        row.put("publisher", droppedBook.getPublisher());
+        row.put("published_date", droppedBook.getPublishedDate());
+        row.put("cover_image", droppedBook.getCoverImage());
+        row.put("started_date", stringOf(droppedBook.getStartedDate()));
+        row.put("dropped_date", stringOf(droppedBook.getDroppedDate()));
+        row.put("progress_percentage", droppedBook.getProgressPercentage());
+        row.put("reading_type", stringOf(droppedBook.getReadingType()));
+        row.put("drop_reason", droppedBook.getDropReason());
+        row.put("memo", droppedBook.getMemo());
+        row.put("created_at", stringOf(droppedBook.getCreatedAt()));
+        row.put("updated_at", stringOf(droppedBook.getUpdatedAt()));
+        return row;
+    }
+    
+    private Map<String, Object> toRow(Wishlist wishlist) {
+        Map<String, Object> row = newRow("WISHLIST", wishlist.getId());
+        row.put("title", wishlist.getTitle());
+        row.put("author", wishlist.getAuthor());
+        row.put("isbn", wishlist.getIsbn());
+        row.put("publisher", wishlist.getPublisher());
+        row.put("published_date", wishlist.getPublishedDate());
+        row.put("cover_image", wishlist.getCoverImage());
+        row.put("priority", wishlist.getPriority());
+        row.put("memo", wishlist.getMemo());
+        row.put("created_at", stringOf(wishlist.getCreatedAt()));
+        row.put("updated_at", stringOf(wishlist.getUpdatedAt()));
+        return row;
+    }
+    
+    private Map<String, Object> toRow(Post post) {
+        // 출판사/출간일은 카탈로그에 있으면 게시글에 복사하지 않으므로 카탈로그 값을 사용
+        CatalogBook catalogBook = post.getCatalogBook();
+        Map<String, Object> row = newRow("POST", post.getId());
+        row.put("title", post.getBookTitle());
+        row.put("author", post.getBookAuthor());
+        row.put("isbn", post.getBookIsbn());
+        row.put("publisher", catalogBook != null ? catalogBook.getPublisher() : post.getBookPublisher());
+        row.put("published_date", catalogBook != null ? catalogBook.getPubDate() : post.getBookPubDate());
+        row.put("cover_image", post.getBookCover());
+        row.put("post_type", stringOf(post.getPostType()));
+        row.put("visibility", stringOf(post.getVisibility()));
+        row.put("recommendation_type", stringOf(post.getRecommendationType()));
+        row.put("post_title", post.getTitle());
+        row.put("content", switch (post.getPostType()) {
+            case REVIEW -> post.getContent();
+            case RECOMMENDATION -> post.getReason();
+            case QUOTE -> post.getQuotes() != null ? post.getQuotes() : post.getQuote();
+        });
+        row.put("created_at", stringOf(post.getCreatedAt()));
+        row.put("updated_at", stringOf(post.getUpdatedAt()));
+        return row;
+    }
+    
+    private String stringOf(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
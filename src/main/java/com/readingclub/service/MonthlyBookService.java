@@ -70,13 +70,13 @@ public class MonthlyBookService {
         List<GroupMember> activeMembers = groupMemberRepository.findByGroupIdAndStatusOrderByJoinedAtAsc(
                 groupId, GroupMember.MemberStatus.ACTIVE);
         
-        for (GroupMember member : activeMembers) {
-            ReadingProgress progress = ReadingProgress.builder()
-                    .monthlyBook(savedMonthlyBook)
-                    .user(member.getUser())
-                    .build();
-            readingProgressRepository.save(progress);
-        }
+        List<ReadingProgress> progresses = activeMembers.stream()
+                .map(member -> ReadingProgress.builder()
+                        .monthlyBook(savedMonthlyBook)
+                        .user(member.getUser())
+                        .build())
+                .collect(Collectors.toList());
+        readingProgressRepository.saveAll(progresses);
         
         log.info("월간 도서 선정: {} (그룹: {}, 선정자: {})", savedMonthlyBook.getBookTitle(), groupId, userId);
         
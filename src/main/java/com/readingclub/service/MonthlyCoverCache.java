@@ -0,0 +1,67 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.BookDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 이번 달 책 표지 캐시 (LRU)
+ * 홈 화면마다 호출되므로 (사용자, 년월) 단위로 보관하고, 네 서재에 쓰기가 있으면 커밋 후 해당 사용자 항목을 지운다.
+ */
+@Component
+public class MonthlyCoverCache {
+    
+    private final Map<Long, Entry> entries;
+    
+    // 무효화 횟수 (적재 중에 무효화가 있었으면 결과를 저장하지 않음, this 로 동기화)
+    private long evictions = 0;
+    
+    public MonthlyCoverCache(@Value("${book.monthly-cover-cache.max-size:10000}") int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+    
+    /**
+     * 캐시 조회 (없거나 다른 달이면 loader로 적재)
+     */
+    public BookDto.MonthlyBookCoversResponse get(Long userId, YearMonth yearMonth,
+                                                 Supplier<BookDto.MonthlyBookCoversResponse> loader) {
+        long evictionsBeforeLoad;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.yearMonth().equals(yearMonth)) {
+                return entry.covers();
+            }
+            evictionsBeforeLoad = evictions;
+        }
+        
+        BookDto.MonthlyBookCoversResponse loaded = loader.get();
+        
+        synchronized (this) {
+            if (evictions == evictionsBeforeLoad) {
+                entries.put(userId, new Entry(yearMonth, loaded));
+            }
+        }
+        return loaded;
+    }
+    
+    /**
+     * 사용자 항목 무효화 (서재 등록/수정/삭제 커밋 후)
+     */
+    public synchronized void evict(Long userId) {
+        entries.remove(userId);
+        evictions++;
+    }
+    
+    private record Entry(YearMonth yearMonth, BookDto.MonthlyBookCoversResponse covers) {
+    }
+}
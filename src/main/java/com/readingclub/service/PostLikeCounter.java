@@ -0,0 +1,108 @@
+package com.readingclub.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 좋아요 수 누적기
+ * 좋아요마다 posts 행을 갱신하면 인기 게시글에 락이 몰리므로 증감분을 메모리에 모아
+ * 주기적으로 posts.like_count 에 batch UPDATE 한다. (불일치 시 PostLikeService 재계산으로 복구)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLikeCounter {
+    
+    private static final String UPDATE_SQL =
+            "UPDATE posts SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final PublicFeedCache publicFeedCache;
+    
+    // 게시글 ID -> 아직 반영하지 않은 좋아요 증감분
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    
+    /**
+     * 좋아요 증감분 누적 (커밋 후 호출)
+     */
+    public void add(Long postId, long delta) {
+        // 항목 잠금 안에서 더해 flush 가 빈 항목을 빼는 사이 뺀 adder 에 더해지지 않게 함
+        // (좋아요는 조회보다 드물어 항목 단위 잠금으로 충분하다)
+        pendingDeltas.compute(postId, (id, adder) -> {
+            LongAdder pending = adder != null ? adder : new LongAdder();
+            pending.add(delta);
+            return pending;
+        });
+    }
+    
+    /**
+     * 아직 반영되지 않은 증감분
+     */
+    public long pending(Long postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+    
+    /**
+     * 누적된 증감분을 posts.like_count 에 반영
+     */
+    @Scheduled(fixedDelayString = "${post.like-counter.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        Set<Long> flushedPostIds = new HashSet<>();
+        
+        // 증감분이 0 인 항목은 맵에서 빼 맵 크기를 최근 좋아요가 바뀐 게시글 수로 유지
+        pendingDeltas.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, postId});
+                flushedPostIds.add(postId);
+            } else {
+                pendingDeltas.computeIfPresent(postId, (id, current) ->
+                        current == adder && current.sum() == 0 ? null : current);
+            }
+        });
+        
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+            // 반영된 게시글이 담긴 피드 캐시만 갱신
+            publicFeedCache.invalidatePosts(flushedPostIds);
+            log.debug("게시글 좋아요 수 반영: {}건", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증감분을 되돌려 다음 주기에 다시 시도
+            batchArgs.forEach(args -> add((Long) args[1], (Long) args[0]));
+            log.warn("게시글 좋아요 수 반영 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 게시글 삭제 시 누적분 제거
+     */
+    public void remove(Long postId) {
+        pendingDeltas.remove(postId);
+    }
+    
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
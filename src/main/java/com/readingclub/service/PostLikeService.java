@@ -0,0 +1,102 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.PostDto;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.repository.PostLikeRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PostLikeService {
+    
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final PostLikeCounter postLikeCounter;
+    
+    @Value("${post.like-count.recalculate-on-startup:false}")
+    private boolean recalculateLikeCountsOnStartup;
+    
+    /**
+     * 좋아요 (이미 눌렀으면 그대로 유지)
+     */
+    @Transactional
+    public PostDto.LikeResponse like(Long postId, Long userId) {
+        Post post = findAccessiblePost(postId, userId);
+        
+        boolean added = postLikeRepository.insertIfAbsent(postId, userId) > 0;
+        if (added) {
+            TransactionUtils.afterCommit(() -> postLikeCounter.add(postId, 1));
+        }
+        
+        return toLikeResponse(post, true, added ? 1 : 0);
+    }
+    
+    /**
+     * 좋아요 취소 (누르지 않았으면 그대로 유지)
+     */
+    @Transactional
+    public PostDto.LikeResponse unlike(Long postId, Long userId) {
+        Post post = findAccessiblePost(postId, userId);
+        
+        boolean removed = postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0;
+        if (removed) {
+            TransactionUtils.afterCommit(() -> postLikeCounter.add(postId, -1));
+        }
+        
+        return toLikeResponse(post, false, removed ? -1 : 0);
+    }
+    
+    /**
+     * 좋아요 여부 및 좋아요 수 조회
+     */
+    public PostDto.LikeResponse getLikeStatus(Long postId, Long userId) {
+        Post post = findAccessiblePost(postId, userId);
+        boolean liked = userId != null && postLikeRepository.existsByPostIdAndUserId(postId, userId);
+        return toLikeResponse(post, liked, 0);
+    }
+    
+    /**
+     * 게시글 좋아요 수 재계산 (컬럼 추가 직후 또는 불일치 복구용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recalculateLikeCountsOnStartup() {
+        if (!recalculateLikeCountsOnStartup) {
+            return;
+        }
+        int updated = postRepository.recalculateLikeCounts();
+        log.info("게시글 좋아요 수 재계산 완료: {}건", updated);
+    }
+    
+    private Post findAccessiblePost(Long postId, Long userId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        
+        if (post.getVisibility() != PostVisibility.PUBLIC && !post.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        return post;
+    }
+    
+    // 아직 posts 에 반영되지 않은 증감분까지 더한 좋아요 수
+    private PostDto.LikeResponse toLikeResponse(Post post, boolean liked, int uncommittedDelta) {
+        long likeCount = post.getLikeCount() + postLikeCounter.pending(post.getId()) + uncommittedDelta;
+        
+        return PostDto.LikeResponse.builder()
+                .postId(post.getId())
+                .liked(liked)
+                .likeCount((int) Math.max(likeCount, 0))
+                .build();
+    }
+}
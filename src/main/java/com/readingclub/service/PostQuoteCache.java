@@ -0,0 +1,56 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.QuoteDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문장 수집 게시글의 파싱된 quotes 캐시 (LRU, 최대 크기 제한)
+ * 원본 JSON 문자열이 같을 때만 캐시된 목록을 돌려주므로 수정 직후에도 오래된 값이 노출되지 않는다.
+ */
+@Component
+public class PostQuoteCache {
+    
+    private final Map<Long, Entry> entries;
+    
+    public PostQuoteCache(@Value("${post.quote-cache.max-size:10000}") int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+    
+    /**
+     * 캐시 조회 (원본 JSON이 달라졌으면 null)
+     */
+    public synchronized List<QuoteDto> get(Long postId, String quotesJson) {
+        Entry entry = entries.get(postId);
+        if (entry == null || !entry.source().equals(quotesJson)) {
+            return null;
+        }
+        return entry.quotes();
+    }
+    
+    /**
+     * 파싱 결과 저장 (정렬이 끝난 불변 목록이어야 함)
+     */
+    public synchronized void put(Long postId, String quotesJson, List<QuoteDto> quotes) {
+        entries.put(postId, new Entry(quotesJson, quotes));
+    }
+    
+    /**
+     * 게시글 수정/삭제 시 캐시 제거
+     */
+    public synchronized void evict(Long postId) {
+        entries.remove(postId);
+    }
+    
+    private record Entry(String source, List<QuoteDto> quotes) {
+    }
+}
@@ -0,0 +1,333 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.util.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 게시글 키워드 검색용 인메모리 역색인
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 2-gram 단위로 색인한다.
+ * (제목 x3, 책 제목 x2, 본문 x1 가중치로 점수 계산)
+ * 색인은 인스턴스마다 따로 있으므로, 다른 인스턴스의 수정은 주기적으로 updatedAt 이후 변경분을 다시 색인하고
+ * 삭제는 색인된 ID 를 조금씩 돌아가며 DB 와 대조해 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int BOOK_TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int PRUNE_BATCH_SIZE = 500;
+    // 커밋이 updatedAt 보다 늦게 보이는 경우를 위해 직전 구간을 겹쳐서 다시 읽음
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+    
+    private final PostRepository postRepository;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 토큰 -> (게시글 ID -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    
+    // 게시글 ID -> 색인 정보 (삭제/재색인 시 사용)
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    // 이 시각까지 수정된 게시글은 색인에 반영됨 (catchUp 에서만 갱신)
+    private volatile LocalDateTime syncedUpTo;
+    
+    // 삭제 대조를 이어 갈 게시글 ID
+    private long pruneCursor = 0L;
+    
+    /**
+     * 애플리케이션 시작 시 DB에서 공개 게시글 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ready = false;
+        syncedUpTo = LocalDateTime.now();
+        
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        FeedCursor cursor = FeedCursor.first();
+        Pageable batch = PageRequest.of(0, REBUILD_BATCH_SIZE);
+        int indexedCount = 0;
+        
+        while (true) {
+            List<Post> posts = postRepository.findByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, cursor.createdAt(), cursor.id(), batch);
+            if (posts.isEmpty()) {
+                break;
+            }
+            
+            posts.forEach(this::index);
+            indexedCount += posts.size();
+            
+            Post last = posts.get(posts.size() - 1);
+            cursor = new FeedCursor(last.getCreatedAt(), last.getId());
+        }
+        
+        ready = true;
+        log.info("게시글 검색 색인 완료: {}건, {}ms", indexedCount, System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * 다른 인스턴스에서 생성/수정/삭제된 게시글 반영
+     */
+    @Scheduled(fixedDelayString = "${post.search-index.catch-up-interval-ms:30000}")
+    public synchronized void catchUp() {
+        if (!ready) {
+            return;
+        }
+        
+        LocalDateTime lastSeen = syncedUpTo;
+        LocalDateTime afterUpdatedAt = lastSeen.minus(CATCH_UP_OVERLAP);
+        Long afterId = 0L;
+        Pageable batch = PageRequest.of(0, REBUILD_BATCH_SIZE);
+        int reindexedCount = 0;
+        
+        while (true) {
+            List<Post> posts = postRepository.findUpdatedAfter(afterUpdatedAt, afterId, batch);
+            if (posts.isEmpty()) {
+                break;
+            }
+            
+            posts.forEach(this::index);
+            reindexedCount += posts.size();
+            
+            Post last = posts.get(posts.size() - 1);
+            afterUpdatedAt = last.getUpdatedAt();
+            afterId = last.getId();
+            if (last.getUpdatedAt().isAfter(lastSeen)) {
+                lastSeen = last.getUpdatedAt();
+            }
+        }
+        syncedUpTo = lastSeen;
+        
+        int removedCount = pruneDeleted();
+        log.debug("게시글 검색 색인 따라잡기: 재색인 {}건, 제거 {}건", reindexedCount, removedCount);
+    }
+    
+    /**
+     * 색인된 게시글 중 다음 구간을 DB 와 대조해 삭제/비공개 게시글 제거
+     */
+    private int pruneDeleted() {
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            ids = documents.keySet().stream()
+                .filter(postId -> postId > pruneCursor)
+                .sorted()
+                .limit(PRUNE_BATCH_SIZE)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        // 끝까지 확인했으면 처음부터 다시
+        pruneCursor = ids.size() < PRUNE_BATCH_SIZE ? 0L : ids.get(ids.size() - 1);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        Set<Long> publicIds = new HashSet<>(postRepository.findIdsByIdInAndVisibility(ids, PostVisibility.PUBLIC));
+        int removedCount = 0;
+        for (Long postId : ids) {
+            if (!publicIds.contains(postId)) {
+                remove(postId);
+                removedCount++;
+            }
+        }
+        return removedCount;
+    }
+    
+    /**
+     * 색인 사용 가능 여부 (재구축 중에는 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 게시글 색인 (공개 게시글이 아니면 색인에서 제거)
+     */
+    public void index(Post post) {
+        if (post.getVisibility() != PostVisibility.PUBLIC) {
+            remove(post.getId());
+            return;
+        }
+        
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTokens(termFrequencies, post.getTitle(), TITLE_WEIGHT);
+        addTokens(termFrequencies, post.getBookTitle(), BOOK_TITLE_WEIGHT);
+        addTokens(termFrequencies, post.getContent(), CONTENT_WEIGHT);
+        
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getId());
+            termFrequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(post.getId(), frequency));
+            documents.put(post.getId(), new IndexedPost(post.getCreatedAt(), termFrequencies.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드 검색 (모든 검색 토큰을 포함한 게시글을 점수순으로 정렬)
+     * 검색 가능한 토큰이 없으면 null 반환
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        Set<String> queryTokens = tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return null;
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> queryPostings = new ArrayList<>();
+            for (String token : queryTokens) {
+                Map<Long, Integer> tokenPostings = postings.get(token);
+                if (tokenPostings == null) {
+                    return new PageImpl<>(List.of(), pageable, 0);
+                }
+                queryPostings.add(tokenPostings);
+            }
+            
+            // 가장 희소한 토큰부터 교집합 계산
+            queryPostings.sort(Comparator.comparingInt(Map::size));
+            int totalDocuments = documents.size();
+            List<ScoredPost> hits = new ArrayList<>();
+            
+            candidates:
+            for (Long postId : queryPostings.get(0).keySet()) {
+                double score = 0;
+                for (Map<Long, Integer> tokenPostings : queryPostings) {
+                    Integer frequency = tokenPostings.get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1.0 + (double) totalDocuments / tokenPostings.size());
+                    score += frequency * idf;
+                }
+                hits.add(new ScoredPost(postId, score, documents.get(postId).createdAt()));
+            }
+            
+            hits.sort(Comparator.comparingDouble(ScoredPost::score).reversed()
+                .thenComparing(ScoredPost::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+            
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            List<Long> pageIds = hits.subList(from, to).stream()
+                .map(ScoredPost::postId)
+                .toList();
+            
+            return new PageImpl<>(pageIds, pageable, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void removeInternal(Long postId) {
+        IndexedPost existing = documents.remove(postId);
+        if (existing == null) {
+            return;
+        }
+        
+        for (String token : existing.tokens()) {
+            Map<Long, Integer> tokenPostings = postings.get(token);
+            if (tokenPostings != null) {
+                tokenPostings.remove(postId);
+                if (tokenPostings.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+    
+    private void addTokens(Map<String, Integer> termFrequencies, String text, int weight) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        for (String token : bigrams(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    /**
+     * 검색어 토큰화 (중복 제거)
+     */
+    static Set<String> tokenize(String text) {
+        return new LinkedHashSet<>(bigrams(text));
+    }
+    
+    /**
+     * 정규화 후 단어별 2-gram 추출 (1글자 단어는 제외)
+     */
+    static List<String> bigrams(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+    
+    private record IndexedPost(LocalDateTime createdAt, Set<String> tokens) {
+    }
+    
+    private record ScoredPost(Long postId, double score, LocalDateTime createdAt) {
+    }
+}
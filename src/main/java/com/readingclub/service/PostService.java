@@ -6,18 +6,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.readingclub.dto.PostDto;
 import com.readingclub.dto.QuoteDto;
 import com.readingclub.entity.*;
+import com.readingclub.repository.PostLikeRepository;
 import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.PostStatRepository;
 import com.readingclub.repository.UserRepository;
+import com.readingclub.util.FeedCursor;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +38,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
     
+    // 통합 피드 병합 순서 ((createdAt, id) 내림차순)
+    private static final Comparator<Post> POST_NEWEST_FIRST = Comparator.comparing(Post::getCreatedAt)
+        .thenComparing(Post::getId)
+        .reversed();
+    private static final Comparator<FeedCursor> KEY_NEWEST_FIRST = Comparator.comparing(FeedCursor::createdAt)
+        .thenComparing(FeedCursor::id)
+        .reversed();
+    
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final PostQuoteCache postQuoteCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PublicFeedCache publicFeedCache;
+    private final BookCatalogService bookCatalogService;
+    private final PostViewCounter postViewCounter;
+    private final PostStatRepository postStatRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeCounter postLikeCounter;
+    private final UserStatsService userStatsService;
     
     /**
      * 게시글 목록 조회 (필터링 및 페이징)
@@ -39,19 +68,16 @@ public class PostService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        Page<Post> postPage = postRepository.findPostsWithFilters(
+        Slice<Post> postSlice;
+        if (filter.isIncludeTotal()) {
+            postSlice = postRepository.findPostsWithFilters(
                 filter.getPostType(), filter.getVisibility(), user.getId(), pageable);
+        } else {
+            postSlice = postRepository.findSliceWithFilters(
+                filter.getPostType(), filter.getVisibility(), user.getId(), pageable);
+        }
         
-        List<PostDto.Response> posts = postPage.getContent().stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
-        
-        return PostDto.ListResponse.builder()
-            .posts(posts)
-            .totalCount((int) postPage.getTotalElements())
-            .currentPage(filter.getPage())
-            .totalPages(postPage.getTotalPages())
-            .build();
+        return toListResponse(postSlice, filter.getPage());
     }
     
     /**
@@ -62,64 +88,127 @@ public class PostService {
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
-        Page<Post> postPage;
+        Slice<Post> postSlice;
         
-        if (filter.getPostType() != null && filter.getVisibility() != null) {
+        if (!filter.isIncludeTotal()) {
+            // 전체 개수 없이 조회 (무한 스크롤)
+            postSlice = postRepository.findSliceWithFilters(
+                filter.getPostType(), filter.getVisibility(), userId, pageable);
+        } else if (filter.getPostType() != null && filter.getVisibility() != null) {
             // 타입과 공개설정 모두 필터링
-            postPage = postRepository.findPostsWithFilters(
+            postSlice = postRepository.findPostsWithFilters(
                 filter.getPostType(), filter.getVisibility(), userId, pageable);
         } else if (filter.getPostType() != null) {
             // 타입만 필터링
-            postPage = postRepository.findByUserAndPostTypeOrderByCreatedAtDesc(
+            postSlice = postRepository.findByUserAndPostTypeOrderByCreatedAtDesc(
                 user, filter.getPostType(), pageable);
         } else if (filter.getVisibility() != null) {
             // 공개설정만 필터링
-            postPage = postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
+            postSlice = postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
                 user, filter.getVisibility(), pageable);
         } else {
             // 필터링 없음
-            postPage = postRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+            postSlice = postRepository.findByUserOrderByCreatedAtDesc(user, pageable);
         }
         
-        List<PostDto.Response> posts = postPage.getContent().stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
-        
-        return PostDto.ListResponse.builder()
-            .posts(posts)
-            .totalCount((int) postPage.getTotalElements())
-            .currentPage(filter.getPage())
-            .totalPages(postPage.getTotalPages())
-            .build();
+        return toListResponse(postSlice, filter.getPage());
     }
     
     /**
      * 공개 게시글 목록 조회 (모든 사용자의 공개 게시글)
+     * 앞쪽 페이지는 PublicFeedCache 에서 응답하므로 트랜잭션을 미리 열지 않는다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostDto.ListResponse getPublicPosts(PostDto.SearchFilter filter) {
+        if (publicFeedCache.covers(filter.getPage(), filter.getSize())) {
+            PublicFeedCache.Snapshot snapshot = publicFeedCache.get(
+                filter.getPostType(),
+                () -> loadPublicFeedSnapshot(filter.getPostType()));
+            return toListResponse(snapshot, filter);
+        }
+        
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
-        Page<Post> postPage;
+        Slice<Post> postSlice;
         
         if (filter.getPostType() != null) {
             // 타입별 공개 게시글 조회
-            postPage = postRepository.findByPostTypeAndVisibilityOrderByCreatedAtDesc(
-                filter.getPostType(), PostVisibility.PUBLIC, pageable);
+            postSlice = filter.isIncludeTotal()
+                ? postRepository.findByPostTypeAndVisibilityOrderByCreatedAtDesc(
+                    filter.getPostType(), PostVisibility.PUBLIC, pageable)
+                : postRepository.findSliceByPostTypeAndVisibilityOrderByCreatedAtDesc(
+                    filter.getPostType(), PostVisibility.PUBLIC, pageable);
         } else {
             // 모든 공개 게시글 조회
+            postSlice = filter.isIncludeTotal()
+                ? postRepository.findByVisibilityOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable)
+                : postRepository.findSliceByVisibilityOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable);
+        }
+        
+        return toListResponse(postSlice, filter.getPage());
+    }
+    
+    /**
+     * 최신 공개 게시글 스냅샷 적재 (캐시 미스 시)
+     */
+    private PublicFeedCache.Snapshot loadPublicFeedSnapshot(PostType postType) {
+        Pageable pageable = PageRequest.of(0, publicFeedCache.getCapacity());
+        Page<Post> postPage;
+        
+        if (postType != null) {
+            postPage = postRepository.findByPostTypeAndVisibilityOrderByCreatedAtDesc(
+                postType, PostVisibility.PUBLIC, pageable);
+        } else {
             postPage = postRepository.findByVisibilityOrderByCreatedAtDesc(
                 PostVisibility.PUBLIC, pageable);
         }
         
+        bookCatalogService.preload(postPage.getContent());
         List<PostDto.Response> posts = postPage.getContent().stream()
+            .map(this::convertToResponse)
+            .toList();
+        
+        return new PublicFeedCache.Snapshot(posts, postPage.getTotalElements());
+    }
+    
+    /**
+     * 캐시 스냅샷에서 요청한 페이지 추출
+     */
+    private PostDto.ListResponse toListResponse(PublicFeedCache.Snapshot snapshot, PostDto.SearchFilter filter) {
+        List<PostDto.Response> cachedPosts = snapshot.posts();
+        int from = Math.min(filter.getPage() * filter.getSize(), cachedPosts.size());
+        int to = Math.min(from + filter.getSize(), cachedPosts.size());
+        
+        PostDto.ListResponse.ListResponseBuilder response = PostDto.ListResponse.builder()
+            .posts(cachedPosts.subList(from, to))
+            .currentPage(filter.getPage())
+            .hasNext(to < snapshot.totalCount());
+        
+        if (filter.isIncludeTotal()) {
+            response.totalCount((int) snapshot.totalCount())
+                .totalPages((int) Math.ceil((double) snapshot.totalCount() / filter.getSize()));
+        }
+        return response.build();
+    }
+    
+    /**
+     * 조회 결과를 목록 응답으로 변환 (Page 인 경우에만 전체 개수 포함)
+     */
+    private PostDto.ListResponse toListResponse(Slice<Post> postSlice, int currentPage) {
+        bookCatalogService.preload(postSlice.getContent());
+        List<PostDto.Response> posts = postSlice.getContent().stream()
             .map(this::convertToResponse)
             .collect(Collectors.toList());
         
-        return PostDto.ListResponse.builder()
+        PostDto.ListResponse.ListResponseBuilder response = PostDto.ListResponse.builder()
             .posts(posts)
-            .totalCount((int) postPage.getTotalElements())
-            .currentPage(filter.getPage())
-            .totalPages(postPage.getTotalPages())
-            .build();
+            .currentPage(currentPage)
+            .hasNext(postSlice.hasNext());
+        
+        if (postSlice instanceof Page<Post> postPage) {
+            response.totalCount((int) postPage.getTotalElements())
+                .totalPages(postPage.getTotalPages());
+        }
+        return response.build();
     }
     
     /**
@@ -130,59 +219,294 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
-        Page<Post> postPage;
+        Slice<Post> postSlice;
         
-        if (filter.getPostType() != null) {
+        if (!filter.isIncludeTotal()) {
+            // 전체 개수 없이 조회 (무한 스크롤)
+            postSlice = postRepository.findSliceWithFilters(
+                filter.getPostType(), PostVisibility.PUBLIC, userId, pageable);
+        } else if (filter.getPostType() != null) {
             // 타입별 공개 게시글 조회
-            postPage = postRepository.findByUserAndPostTypeAndVisibilityOrderByCreatedAtDesc(
+            postSlice = postRepository.findByUserAndPostTypeAndVisibilityOrderByCreatedAtDesc(
                 user, filter.getPostType(), PostVisibility.PUBLIC, pageable);
         } else {
             // 모든 공개 게시글 조회
-            postPage = postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
+            postSlice = postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
                 user, PostVisibility.PUBLIC, pageable);
         }
         
-        List<PostDto.Response> posts = postPage.getContent().stream()
+        return toListResponse(postSlice, filter.getPage());
+    }
+    
+    /**
+     * 통합 게시글 목록 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     * OR 조건은 인덱스 하나로 처리되지 않으므로 공개 게시글 / 내 비공개 게시글을 각각 인덱스 순서로 읽어 병합한다.
+     */
+    public PostDto.ListResponse getAllPosts(Long userId, PostDto.SearchFilter filter) {
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
+        int offset = (int) pageable.getOffset();
+        int end = offset + pageable.getPageSize();
+        
+        // 앞 페이지를 건너뛰기 위해 (createdAt, id) 키만 병합하고 (hasNext 판단을 위해 1건 더)
+        List<FeedCursor> mergedKeys = loadMergedAllPostKeys(userId, filter.getPostType(), end + 1);
+        List<FeedCursor> pageKeys = mergedKeys.subList(
+            Math.min(offset, mergedKeys.size()), Math.min(end, mergedKeys.size()));
+        
+        // 해당 페이지의 게시글만 엔티티로 로딩
+        List<Post> pageContent = loadPostsInOrder(pageKeys);
+        
+        bookCatalogService.preload(pageContent);
+        List<PostDto.Response> posts = pageContent.stream()
             .map(this::convertToResponse)
             .collect(Collectors.toList());
         
-        return PostDto.ListResponse.builder()
+        PostDto.ListResponse.ListResponseBuilder response = PostDto.ListResponse.builder()
             .posts(posts)
-            .totalCount((int) postPage.getTotalElements())
             .currentPage(filter.getPage())
-            .totalPages(postPage.getTotalPages())
-            .build();
+            .hasNext(mergedKeys.size() > end);
+        
+        if (filter.isIncludeTotal()) {
+            long totalCount = countAllPosts(userId, filter.getPostType());
+            response.totalCount((int) totalCount)
+                .totalPages((int) Math.ceil((double) totalCount / pageable.getPageSize()));
+        }
+        return response.build();
     }
     
     /**
-     * 통합 게시글 목록 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     * 통합 피드 병합 조회 (커서 이후 최신순 limit 건)
      */
-    public PostDto.ListResponse getAllPosts(Long userId, PostDto.SearchFilter filter) {
-        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
-        Page<Post> postPage;
+    private List<Post> loadMergedAllPosts(Long userId, PostType postType, FeedCursor cursor, int limit) {
+        Pageable top = PageRequest.of(0, limit);
+        List<Post> publicPosts;
+        List<Post> myPrivatePosts;
+        
+        if (postType != null) {
+            publicPosts = postRepository.findByPostTypeAndVisibilityBeforeCursor(
+                postType, PostVisibility.PUBLIC, cursor.createdAt(), cursor.id(), top);
+            myPrivatePosts = postRepository.findByUserIdAndPostTypeAndVisibilityBeforeCursor(
+                userId, postType, PostVisibility.PRIVATE, cursor.createdAt(), cursor.id(), top);
+        } else {
+            publicPosts = postRepository.findByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, cursor.createdAt(), cursor.id(), top);
+            myPrivatePosts = postRepository.findByUserIdAndVisibilityBeforeCursor(
+                userId, PostVisibility.PRIVATE, cursor.createdAt(), cursor.id(), top);
+        }
         
-        if (filter.getPostType() != null) {
-            // 타입별 통합 게시글 조회
-            postPage = postRepository.findByPostTypeAndVisibilityOrUserOrderByCreatedAtDesc(
-                filter.getPostType(), userId, pageable);
+        return mergeNewestFirst(publicPosts, myPrivatePosts, limit, POST_NEWEST_FIRST);
+    }
+    
+    /**
+     * 통합 피드 키 병합 조회 (최신순 limit 건의 createdAt, id)
+     */
+    private List<FeedCursor> loadMergedAllPostKeys(Long userId, PostType postType, int limit) {
+        FeedCursor first = FeedCursor.first();
+        Pageable top = PageRequest.of(0, limit);
+        List<FeedCursor> publicKeys;
+        List<FeedCursor> myPrivateKeys;
+        
+        if (postType != null) {
+            publicKeys = postRepository.findKeysByPostTypeAndVisibilityBeforeCursor(
+                postType, PostVisibility.PUBLIC, first.createdAt(), first.id(), top);
+            myPrivateKeys = postRepository.findKeysByUserIdAndPostTypeAndVisibilityBeforeCursor(
+                userId, postType, PostVisibility.PRIVATE, first.createdAt(), first.id(), top);
         } else {
-            // 모든 통합 게시글 조회
-            postPage = postRepository.findByVisibilityOrUserOrderByCreatedAtDesc(
-                userId, pageable);
+            publicKeys = postRepository.findKeysByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, first.createdAt(), first.id(), top);
+            myPrivateKeys = postRepository.findKeysByUserIdAndVisibilityBeforeCursor(
+                userId, PostVisibility.PRIVATE, first.createdAt(), first.id(), top);
         }
         
-        List<PostDto.Response> posts = postPage.getContent().stream()
+        return mergeNewestFirst(publicKeys, myPrivateKeys, limit, KEY_NEWEST_FIRST);
+    }
+    
+    /**
+     * 키 순서대로 게시글 로딩 (키 조회 이후 삭제된 게시글은 제외)
+     */
+    private List<Post> loadPostsInOrder(List<FeedCursor> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Post> postsById = postRepository.findByIdIn(keys.stream().map(FeedCursor::id).toList())
+            .stream()
+            .collect(Collectors.toMap(Post::getId, post -> post));
+        
+        return keys.stream()
+            .map(key -> postsById.get(key.id()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * newestFirst 순서로 정렬된 두 목록 병합
+     */
+    private <T> List<T> mergeNewestFirst(List<T> first, List<T> second, int limit, Comparator<T> newestFirst) {
+        List<T> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && newestFirst.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+    
+    /**
+     * 통합 피드 전체 개수 (공개 게시글 + 내 비공개 게시글)
+     */
+    private long countAllPosts(Long userId, PostType postType) {
+        if (postType != null) {
+            return postRepository.countByPostTypeAndVisibility(postType, PostVisibility.PUBLIC)
+                + postRepository.countByUserIdAndPostTypeAndVisibility(userId, postType, PostVisibility.PRIVATE);
+        }
+        return postRepository.countByVisibility(PostVisibility.PUBLIC)
+            + postRepository.countByUserIdAndVisibility(userId, PostVisibility.PRIVATE);
+    }
+    
+    /**
+     * 공개 게시글 커서 기반 조회 (무한 스크롤용, COUNT 없이 seek 방식)
+     */
+    public PostDto.CursorResponse getPublicPostsByCursor(PostType postType, String cursor, int size) {
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Post> postList;
+        
+        if (postType != null) {
+            postList = postRepository.findByPostTypeAndVisibilityBeforeCursor(
+                postType, PostVisibility.PUBLIC, feedCursor.createdAt(), feedCursor.id(), pageable);
+        } else {
+            postList = postRepository.findByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, feedCursor.createdAt(), feedCursor.id(), pageable);
+        }
+        
+        return toCursorResponse(postList, size);
+    }
+    
+    /**
+     * 통합 게시글 커서 기반 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     */
+    public PostDto.CursorResponse getAllPostsByCursor(Long userId, PostType postType, String cursor, int size) {
+        List<Post> postList = loadMergedAllPosts(userId, postType, FeedCursor.decode(cursor), size + 1);
+        return toCursorResponse(postList, size);
+    }
+    
+    /**
+     * size + 1 건 조회 결과로 커서 응답 생성
+     */
+    private PostDto.CursorResponse toCursorResponse(List<Post> postList, int size) {
+        boolean hasNext = postList.size() > size;
+        List<Post> pageContent = hasNext ? postList.subList(0, size) : postList;
+        
+        bookCatalogService.preload(pageContent);
+        List<PostDto.Response> posts = pageContent.stream()
             .map(this::convertToResponse)
             .collect(Collectors.toList());
         
-        return PostDto.ListResponse.builder()
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        
+        return PostDto.CursorResponse.builder()
             .posts(posts)
-            .totalCount((int) postPage.getTotalElements())
-            .currentPage(filter.getPage())
-            .totalPages(postPage.getTotalPages())
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
             .build();
     }
     
+    /**
+     * 공개 게시글 요약 목록 조회 (본문 대신 발췌본)
+     */
+    public PostDto.SummaryListResponse getPublicPostSummaries(PostDto.SearchFilter filter) {
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
+        Slice<PostRepository.SummaryView> summarySlice = filter.isIncludeTotal()
+            ? postRepository.findPublicSummaries(filter.getPostType(), pageable)
+            : postRepository.findPublicSummarySlice(filter.getPostType(), pageable);
+        
+        return toSummaryListResponse(summarySlice, filter.getPage());
+    }
+    
+    /**
+     * 통합 게시글 요약 목록 조회 (다른 사람들의 공개 게시글 + 나의 모든 게시글)
+     * getAllPosts 와 같이 공개 / 내 비공개 키를 병합한 뒤 해당 페이지의 요약만 로딩한다.
+     */
+    public PostDto.SummaryListResponse getAllPostSummaries(Long userId, PostDto.SearchFilter filter) {
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
+        int offset = (int) pageable.getOffset();
+        int end = offset + pageable.getPageSize();
+        
+        List<FeedCursor> mergedKeys = loadMergedAllPostKeys(userId, filter.getPostType(), end + 1);
+        List<FeedCursor> pageKeys = mergedKeys.subList(
+            Math.min(offset, mergedKeys.size()), Math.min(end, mergedKeys.size()));
+        List<PostRepository.SummaryView> pageContent = loadSummariesInOrder(pageKeys);
+        
+        Slice<PostRepository.SummaryView> summarySlice = filter.isIncludeTotal()
+            ? new PageImpl<>(pageContent, pageable, countAllPosts(userId, filter.getPostType()))
+            : new SliceImpl<>(pageContent, pageable, mergedKeys.size() > end);
+        
+        return toSummaryListResponse(summarySlice, filter.getPage());
+    }
+    
+    /**
+     * 키 순서대로 게시글 요약 로딩 (키 조회 이후 삭제된 게시글은 제외)
+     */
+    private List<PostRepository.SummaryView> loadSummariesInOrder(List<FeedCursor> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, PostRepository.SummaryView> summariesById = postRepository
+            .findSummariesByIdIn(keys.stream().map(FeedCursor::id).toList())
+            .stream()
+            .collect(Collectors.toMap(PostRepository.SummaryView::getId, summary -> summary));
+        
+        return keys.stream()
+            .map(key -> summariesById.get(key.id()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 사용자별 게시글 요약 목록 조회 (visibility가 null이면 전체)
+     */
+    public PostDto.SummaryListResponse getUserPostSummaries(Long userId, PostDto.SearchFilter filter) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
+        Slice<PostRepository.SummaryView> summarySlice = filter.isIncludeTotal()
+            ? postRepository.findUserSummaries(userId, filter.getVisibility(), filter.getPostType(), pageable)
+            : postRepository.findUserSummarySlice(userId, filter.getVisibility(), filter.getPostType(), pageable);
+        
+        return toSummaryListResponse(summarySlice, filter.getPage());
+    }
+    
+    /**
+     * 요약 조회 결과를 목록 응답으로 변환 (Page 인 경우에만 전체 개수 포함)
+     */
+    private PostDto.SummaryListResponse toSummaryListResponse(Slice<PostRepository.SummaryView> summarySlice, int currentPage) {
+        List<PostDto.Summary> posts = summarySlice.getContent().stream()
+            .map(this::convertToSummary)
+            .collect(Collectors.toList());
+        
+        PostDto.SummaryListResponse.SummaryListResponseBuilder response = PostDto.SummaryListResponse.builder()
+            .posts(posts)
+            .currentPage(currentPage)
+            .hasNext(summarySlice.hasNext());
+        
+        if (summarySlice instanceof Page<PostRepository.SummaryView> summaryPage) {
+            response.totalCount((int) summaryPage.getTotalElements())
+                .totalPages(summaryPage.getTotalPages());
+        }
+        return response.build();
+    }
+    
     /**
      * 게시글 상세 조회
      */
@@ -190,9 +514,36 @@ public class PostService {
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
+        postViewCounter.increment(postId);
         return convertToResponse(post);
     }
     
+    /**
+     * 최근 24시간 조회수 상위 공개 게시글
+     */
+    public List<PostDto.Response> getMostViewedPosts(int size) {
+        List<Object[]> topPosts = postStatRepository.findTopPostIdsByViewsSince(
+            LocalDateTime.now().minusHours(24), PostVisibility.PUBLIC, PageRequest.of(0, size));
+        
+        List<Long> postIds = topPosts.stream()
+            .map(row -> (Long) row[0])
+            .toList();
+        
+        Map<Long, Post> postsById = postRepository.findByIdIn(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, post -> post));
+        
+        // 조회수 순서 유지
+        List<Post> posts = postIds.stream()
+            .map(postsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+        
+        bookCatalogService.preload(posts);
+        return posts.stream()
+            .map(this::convertToResponse)
+            .collect(Collectors.toList());
+    }
+    
     /**
      * 게시글 생성
      */
@@ -204,18 +555,24 @@ public class PostService {
         // 게시글 타입별 유효성 검사
         validatePostRequest(request);
         
+        PostDto.BookInfo bookInfo = request.getBookInfo();
+        CatalogBook catalogBook = bookCatalogService.register(bookInfo.getIsbn(), bookInfo.getTitle(),
+            bookInfo.getAuthor(), bookInfo.getPublisher(), bookInfo.getCover(), bookInfo.getPubDate(),
+            bookInfo.getDescription());
+        
         Post post = Post.builder()
             .user(user)
             .postType(request.getPostType())
             .visibility(request.getVisibility())
-            // 책 정보
-            .bookIsbn(request.getBookInfo().getIsbn())
-            .bookTitle(request.getBookInfo().getTitle())
-            .bookAuthor(request.getBookInfo().getAuthor())
-            .bookPublisher(request.getBookInfo().getPublisher())
-            .bookCover(request.getBookInfo().getCover())
-            .bookPubDate(request.getBookInfo().getPubDate())
-            .bookDescription(request.getBookInfo().getDescription())
+            // 책 정보 (목록/검색에 쓰는 항목만 복사, 나머지는 카탈로그 참조)
+            .catalogBook(catalogBook)
+            .bookIsbn(bookInfo.getIsbn())
+            .bookTitle(bookInfo.getTitle())
+            .bookAuthor(bookInfo.getAuthor())
+            .bookCover(bookInfo.getCover())
+            .bookPublisher(catalogBook == null ? bookInfo.getPublisher() : null)
+            .bookPubDate(catalogBook == null ? bookInfo.getPubDate() : null)
+            .bookDescription(catalogBook == null ? bookInfo.getDescription() : null)
             // 독후감 필드
             .title(request.getTitle())
             .content(request.getContent())
@@ -229,6 +586,11 @@ public class PostService {
             .build();
         
         Post savedPost = postRepository.save(post);
+        userStatsService.postAdded(userId, savedPost.getCreatedAt());
+        TransactionUtils.afterCommit(() -> postSearchIndex.index(savedPost));
+        if (savedPost.getVisibility() == PostVisibility.PUBLIC) {
+            TransactionUtils.afterCommit(() -> publicFeedCache.invalidate(savedPost.getPostType()));
+        }
         log.info("게시글 생성 완료: postId={}, userId={}, type={}", 
             savedPost.getId(), userId, request.getPostType());
         
@@ -245,6 +607,8 @@ public class PostService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")))
             .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없거나 수정 권한이 없습니다."));
         
+        boolean wasPublic = post.getVisibility() == PostVisibility.PUBLIC;
+        
         // 게시글 타입에 따른 필드 업데이트
         if (request.getVisibility() != null) {
             post.setVisibility(request.getVisibility());
@@ -282,6 +646,10 @@ public class PostService {
         }
         
         Post updatedPost = postRepository.save(post);
+        TransactionUtils.afterCommit(() -> postSearchIndex.index(updatedPost));
+        if (wasPublic || updatedPost.getVisibility() == PostVisibility.PUBLIC) {
+            TransactionUtils.afterCommit(() -> publicFeedCache.invalidate(updatedPost.getPostType()));
+        }
         log.info("게시글 수정 완료: postId={}, userId={}", postId, userId);
         
         return convertToResponse(updatedPost);
@@ -298,6 +666,15 @@ public class PostService {
             .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없거나 삭제 권한이 없습니다."));
         
         postRepository.delete(post);
+        userStatsService.postRemoved(userId, post.getCreatedAt());
+        postQuoteCache.evict(postId);
+        postViewCounter.remove(postId);
+        postLikeRepository.deleteByPostId(postId);
+        TransactionUtils.afterCommit(() -> postLikeCounter.remove(postId));
+        TransactionUtils.afterCommit(() -> postSearchIndex.remove(postId));
+        if (post.getVisibility() == PostVisibility.PUBLIC) {
+            TransactionUtils.afterCommit(() -> publicFeedCache.invalidate(post.getPostType()));
+        }
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, userId);
     }
     
@@ -305,13 +682,78 @@ public class PostService {
      * 특정 책에 대한 게시글 조회
      */
     public List<PostDto.Response> getPostsByBook(String isbn) {
-        List<Post> posts = postRepository.findByBookIsbnOrderByCreatedAtDesc(isbn);
+        List<Post> posts = postRepository.findByBookIsbnAndVisibilityOrderByCreatedAtDesc(
+            isbn, PostVisibility.PUBLIC);
         return posts.stream()
-            .filter(post -> post.getVisibility() == PostVisibility.PUBLIC)
             .map(this::convertToResponse)
             .collect(Collectors.toList());
     }
     
+    /**
+     * 특정 책에 대한 공개 게시글 커서 조회 (첫 페이지에는 책별 통계 포함)
+     */
+    public PostDto.BookPostsResponse getPostsByBook(String isbn, String cursor, int size) {
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+        List<Post> postList = postRepository.findByBookIsbnAndVisibilityBeforeCursor(
+            isbn, PostVisibility.PUBLIC, feedCursor.createdAt(), feedCursor.id(), PageRequest.of(0, size + 1));
+        PostDto.CursorResponse page = toCursorResponse(postList, size);
+        
+        boolean firstPage = cursor == null || cursor.trim().isEmpty();
+        
+        return PostDto.BookPostsResponse.builder()
+            .posts(page.getPosts())
+            .nextCursor(page.getNextCursor())
+            .hasNext(page.isHasNext())
+            .stats(firstPage ? getBookPostStats(isbn) : null)
+            .build();
+    }
+    
+    /**
+     * 책별 공개 게시글 통계 (타입별 개수, 추천 비율)
+     */
+    private PostDto.BookPostStats getBookPostStats(String isbn) {
+        long reviewCount = 0;
+        long recommendationCount = 0;
+        long quoteCount = 0;
+        long recommendCount = 0;
+        long notRecommendCount = 0;
+        
+        for (Object[] row : postRepository.countPublicByBookIsbnGroupByType(isbn)) {
+            PostType postType = (PostType) row[0];
+            RecommendationType recommendationType = (RecommendationType) row[1];
+            long count = (Long) row[2];
+            
+            switch (postType) {
+                case REVIEW:
+                    reviewCount += count;
+                    break;
+                case RECOMMENDATION:
+                    recommendationCount += count;
+                    if (recommendationType == RecommendationType.RECOMMEND) {
+                        recommendCount += count;
+                    } else if (recommendationType == RecommendationType.NOT_RECOMMEND) {
+                        notRecommendCount += count;
+                    }
+                    break;
+                case QUOTE:
+                    quoteCount += count;
+                    break;
+            }
+        }
+        
+        long votes = recommendCount + notRecommendCount;
+        
+        return PostDto.BookPostStats.builder()
+            .totalCount(reviewCount + recommendationCount + quoteCount)
+            .reviewCount(reviewCount)
+            .recommendationCount(recommendationCount)
+            .quoteCount(quoteCount)
+            .recommendCount(recommendCount)
+            .notRecommendCount(notRecommendCount)
+            .recommendRatio(votes > 0 ? (double) recommendCount / votes : 0.0)
+            .build();
+    }
+    
     /**
      * 게시글 요청 유효성 검사
      */
@@ -362,15 +804,7 @@ public class PostService {
      * Post 엔티티를 Response DTO로 변환
      */
     private PostDto.Response convertToResponse(Post post) {
-        PostDto.BookInfo bookInfo = PostDto.BookInfo.builder()
-            .isbn(post.getBookIsbn())
-            .title(post.getBookTitle())
-            .author(post.getBookAuthor())
-            .publisher(post.getBookPublisher())
-            .cover(post.getBookCover())
-            .pubDate(post.getBookPubDate())
-            .description(post.getBookDescription())
-            .build();
+        PostDto.BookInfo bookInfo = bookCatalogService.toBookInfo(post);
         
         return PostDto.Response.builder()
             .id(post.getId())
@@ -386,66 +820,164 @@ public class PostService {
             .reason(post.getReason())
             .quote(post.getQuote())
             .pageNumber(post.getPageNumber())
-            .quotes(parseQuotes(post.getQuotes()))
+            .quotes(parseQuotes(post))
+            .commentCount(post.getActiveCommentCount())
+            .likeCount(post.getLikeCount())
             .createdAt(post.getCreatedAt())
             .updatedAt(post.getUpdatedAt())
             .build();
     }
     
-    // quotes JSON 문자열을 List<QuoteDto>로 파싱 (페이지 순으로 정렬)
-    private List<QuoteDto> parseQuotes(String quotesJson) {
+    /**
+     * 요약 프로젝션을 Summary DTO로 변환
+     */
+    private PostDto.Summary convertToSummary(PostRepository.SummaryView view) {
+        PostDto.BookInfo bookInfo = PostDto.BookInfo.builder()
+            .isbn(view.getBookIsbn())
+            .title(view.getBookTitle())
+            .author(view.getBookAuthor())
+            .cover(view.getBookCover())
+            .build();
+        
+        return PostDto.Summary.builder()
+            .id(view.getId())
+            .userId(view.getUserId())
+            .userName(view.getUserName())
+            .userProfileImage(view.getUserProfileImage())
+            .bookInfo(bookInfo)
+            .postType(view.getPostType())
+            .visibility(view.getVisibility())
+            .title(view.getTitle())
+            .recommendationType(view.getRecommendationType())
+            .excerpt(view.getExcerpt())
+            .commentCount(view.getCommentCount())
+            .likeCount(view.getLikeCount())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .build();
+    }
+    
+    // 게시글의 quotes 조회 (캐시 우선, 없으면 파싱 후 캐시에 저장)
+    private List<QuoteDto> parseQuotes(Post post) {
+        String quotesJson = post.getQuotes();
         if (quotesJson == null || quotesJson.trim().isEmpty()) {
             return new ArrayList<>();
         }
+        if (post.getId() == null) {
+            return parseQuotes(quotesJson);
+        }
+        
+        List<QuoteDto> cached = postQuoteCache.get(post.getId(), quotesJson);
+        if (cached != null) {
+            return cached;
+        }
         
+        List<QuoteDto> quotes = parseQuotes(quotesJson);
+        postQuoteCache.put(post.getId(), quotesJson, quotes);
+        return quotes;
+    }
+    
+    // quotes JSON 문자열을 List<QuoteDto>로 파싱 (페이지 순으로 정렬된 불변 목록)
+    private List<QuoteDto> parseQuotes(String quotesJson) {
         try {
             List<QuoteDto> quotes = objectMapper.readValue(quotesJson, new TypeReference<List<QuoteDto>>() {});
             
             // 페이지 번호 순으로 정렬
             return quotes.stream()
                 .sorted((q1, q2) -> Integer.compare(q1.getPage(), q2.getPage()))
-                .collect(Collectors.toList());
+                .toList();
         } catch (JsonProcessingException e) {
             log.error("quotes JSON 파싱 실패: {}", quotesJson, e);
-            return new ArrayList<>();
+            return List.of();
         }
     }
     
     /**
-     * 게시글 검색
+     * 게시글 검색 (includeTotal=false 이면 COUNT 쿼리 없이 Slice 로 응답)
      */
-    public Page<PostDto.Response> searchPosts(String bookTitle, String keyword, String postType, Pageable pageable) {
-        Page<Post> posts;
+    public Slice<PostDto.Response> searchPosts(String bookTitle, String keyword, String postType,
+                                               Pageable pageable, boolean includeTotal) {
+        Slice<Post> posts;
         
         if (bookTitle != null && !bookTitle.trim().isEmpty()) {
             // 책 제목으로 검색
             if (postType != null && !postType.trim().isEmpty()) {
                 PostType type = PostType.valueOf(postType.toUpperCase());
-                posts = postRepository.findByBookTitleContainingIgnoreCaseAndPostTypeAndVisibility(
-                    bookTitle.trim(), type, pageable);
+                posts = includeTotal
+                    ? postRepository.findByBookTitleContainingIgnoreCaseAndPostTypeAndVisibility(
+                        bookTitle.trim(), type, pageable)
+                    : postRepository.findSliceByBookTitleContainingIgnoreCaseAndPostTypeAndVisibility(
+                        bookTitle.trim(), type, pageable);
             } else {
-                posts = postRepository.findByBookTitleContainingIgnoreCaseAndVisibility(
-                    bookTitle.trim(), pageable);
+                posts = includeTotal
+                    ? postRepository.findByBookTitleContainingIgnoreCaseAndVisibility(bookTitle.trim(), pageable)
+                    : postRepository.findSliceByBookTitleContainingIgnoreCaseAndVisibility(bookTitle.trim(), pageable);
             }
         } else if (keyword != null && !keyword.trim().isEmpty()) {
-            // 키워드로 검색 (제목, 내용, 책 제목)
-            posts = postRepository.findByKeywordInTitleOrContentOrBookTitle(
-                keyword.trim(), pageable);
+            // 키워드로 검색 (제목, 내용, 책 제목) - 색인 우선, 색인 불가 시 DB 검색
+            Slice<PostDto.Response> indexed = searchPostsByIndex(keyword.trim(), pageable, includeTotal);
+            if (indexed != null) {
+                return indexed;
+            }
+            posts = includeTotal
+                ? postRepository.findByKeywordInTitleOrContentOrBookTitle(keyword.trim(), pageable)
+                : postRepository.findSliceByKeywordInTitleOrContentOrBookTitle(keyword.trim(), pageable);
         } else {
             // 검색어가 없으면 전체 공개 게시글 조회
             if (postType != null && !postType.trim().isEmpty()) {
                 PostType type = PostType.valueOf(postType.toUpperCase());
-                posts = postRepository.findByPostTypeAndVisibilityOrderByCreatedAtDesc(
-                    type, PostVisibility.PUBLIC, pageable);
+                posts = includeTotal
+                    ? postRepository.findByPostTypeAndVisibilityOrderByCreatedAtDesc(
+                        type, PostVisibility.PUBLIC, pageable)
+                    : postRepository.findSliceByPostTypeAndVisibilityOrderByCreatedAtDesc(
+                        type, PostVisibility.PUBLIC, pageable);
             } else {
-                posts = postRepository.findByVisibilityOrderByCreatedAtDesc(
-                    PostVisibility.PUBLIC, pageable);
+                posts = includeTotal
+                    ? postRepository.findByVisibilityOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable)
+                    : postRepository.findSliceByVisibilityOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable);
             }
         }
         
+        bookCatalogService.preload(posts.getContent());
         return posts.map(this::convertToResponse);
     }
     
+    /**
+     * 검색 색인으로 키워드 검색 (색인 재구축 중이거나 검색어가 1글자면 null)
+     */
+    private Slice<PostDto.Response> searchPostsByIndex(String keyword, Pageable pageable, boolean includeTotal) {
+        if (!postSearchIndex.isReady()) {
+            return null;
+        }
+        
+        Page<Long> hitIds = postSearchIndex.search(keyword, pageable);
+        if (hitIds == null) {
+            return null;
+        }
+        
+        Map<Long, Post> postsById = postRepository.findByIdIn(hitIds.getContent()).stream()
+            .filter(post -> post.getVisibility() == PostVisibility.PUBLIC)
+            .collect(Collectors.toMap(Post::getId, post -> post));
+        
+        // 다른 인스턴스에서 삭제/비공개 전환되어 아직 색인에 남은 게시글은 바로 제거하고 전체 개수에서도 뺌
+        List<Long> staleIds = hitIds.getContent().stream()
+            .filter(postId -> !postsById.containsKey(postId))
+            .toList();
+        staleIds.forEach(postSearchIndex::remove);
+        bookCatalogService.preload(postsById.values());
+        
+        // 색인 점수 순서 유지
+        List<PostDto.Response> responses = hitIds.getContent().stream()
+            .map(postsById::get)
+            .filter(Objects::nonNull)
+            .map(this::convertToResponse)
+            .collect(Collectors.toList());
+        
+        return includeTotal
+            ? new PageImpl<>(responses, pageable, hitIds.getTotalElements() - staleIds.size())
+            : new SliceImpl<>(responses, pageable, hitIds.hasNext());
+    }
+    
     // List<QuoteDto>를 JSON 문자열로 변환 (페이지 순으로 정렬)
     private String quotesToJson(List<QuoteDto> quotes) {
         if (quotes == null || quotes.isEmpty()) {
@@ -0,0 +1,119 @@
+package com.readingclub.service;
+
+import com.readingclub.repository.PostStatRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 누적기
+ * 조회마다 행을 갱신하면 인기 게시글 행에 락이 몰리므로 게시글별 LongAdder에 모아 두고,
+ * 주기적으로 post_stats 시간대 행에 증가분을 batch UPSERT 한다. (장애 시 마지막 주기분은 유실될 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+    
+    private static final String UPSERT_SQL =
+            "INSERT INTO post_stats (post_id, bucket_hour, view_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final PostStatRepository postStatRepository;
+    
+    // 게시글 ID -> 아직 반영하지 않은 조회수
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    
+    @Value("${post.view-counter.retention-days:7}")
+    private int retentionDays;
+    
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long postId) {
+        LongAdder adder = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        // flush 가 비어 있다고 보고 맵에서 뺀 adder 에 더했다면 그 조회수는 읽히지 않으므로 새 항목에 다시 더함
+        // (flush 는 sumThenReset 이 0 일 때만 빼므로 이미 반영된 조회수가 두 번 더해지지는 않는다)
+        if (pendingViews.get(postId) != adder) {
+            increment(postId);
+        }
+    }
+    
+    /**
+     * 누적된 증가분을 현재 시간대 행에 반영
+     */
+    @Scheduled(fixedDelayString = "${post.view-counter.flush-interval-ms:10000}")
+    public void flush() {
+        Timestamp bucketHour = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+        List<Object[]> batchArgs = new ArrayList<>();
+        
+        // 지난 주기 이후 조회가 없던 항목은 맵에서 빼 맵 크기를 최근 조회된 게시글 수로 유지
+        // (그 사이 increment 가 뺀 adder 에 더했다면 increment 쪽에서 다시 넣는다)
+        pendingViews.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{postId, bucketHour, delta});
+            } else {
+                pendingViews.remove(postId, adder);
+            }
+        });
+        
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+            log.debug("게시글 조회수 반영: {}건", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도
+            batchArgs.forEach(args -> pendingViews
+                    .computeIfAbsent((Long) args[0], id -> new LongAdder())
+                    .add((Long) args[2]));
+            log.warn("게시글 조회수 반영 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 보관 기간이 지난 시간대 집계 삭제 (매일 새벽)
+     */
+    @Scheduled(cron = "${post.view-counter.purge-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays).truncatedTo(ChronoUnit.HOURS);
+        int deleted = postStatRepository.deleteByBucketHourBefore(before);
+        log.info("만료된 게시글 조회수 집계 삭제: {}건", deleted);
+    }
+    
+    /**
+     * 게시글 삭제 시 누적분과 집계 제거
+     */
+    public void remove(Long postId) {
+        pendingViews.remove(postId);
+        postStatRepository.deleteByPostId(postId);
+    }
+    
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,169 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.PostDto;
+import com.readingclub.entity.PostType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 공개 게시글 피드 첫 페이지 캐시 (전체 / 게시글 타입별 최신 N건)
+ * 게시글 생성/수정/삭제 커밋 후 해당 키를 무효화하고, 다음 조회 시 다시 적재한다.
+ * 무효화는 인스턴스 안에서만 전달되므로, 다른 인스턴스의 쓰기(삭제/비공개 전환 포함)는 스냅샷 유효 시간(ttl)이 지나면 반영한다.
+ * 적중 시에는 DB 를 조회하지 않는다.
+ */
+@Component
+public class PublicFeedCache {
+    
+    private static final String ALL_TYPES = "ALL";
+    
+    private final int capacity;
+    private final long ttlNanos;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    
+    // 키 -> 스냅샷, 키 -> 무효화 세대 (this 로 동기화)
+    private final Map<String, Entry> snapshots = new HashMap<>();
+    private final Map<String, Long> generations = new HashMap<>();
+    
+    public PublicFeedCache(@Value("${post.feed-cache.size:100}") int capacity,
+                           @Value("${post.feed-cache.ttl:10s}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.ttlNanos = ttl.toNanos();
+        this.hitCounter = Counter.builder("post.feed.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("post.feed.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("post.feed.cache.entries", this, PublicFeedCache::cachedPostCount)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 캐시할 최신 게시글 수
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * 요청한 페이지가 캐시 범위 안에 있는지 확인
+     */
+    public boolean covers(int page, int size) {
+        return page >= 0 && size > 0 && (long) (page + 1) * size <= capacity;
+    }
+    
+    /**
+     * 스냅샷 조회 (없거나 유효 시간이 지났으면 loader로 적재)
+     */
+    public Snapshot get(PostType postType, Supplier<Snapshot> loader) {
+        String key = key(postType);
+        Entry cached;
+        
+        synchronized (this) {
+            cached = snapshots.get(key);
+            if (cached != null && System.nanoTime() - cached.loadedAt() >= ttlNanos) {
+                invalidateKey(key);
+                cached = null;
+            }
+        }
+        
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.snapshot();
+        }
+        
+        long generation;
+        synchronized (this) {
+            generation = generations.getOrDefault(key, 0L);
+        }
+        
+        missCounter.increment();
+        Snapshot loaded = loader.get();
+        
+        synchronized (this) {
+            // 적재 중에 무효화되었다면 오래된 스냅샷이므로 저장하지 않음
+            if (generations.getOrDefault(key, 0L) == generation) {
+                snapshots.put(key, new Entry(loaded, System.nanoTime()));
+            }
+        }
+        return loaded;
+    }
+    
+    /**
+     * 특정 타입 및 전체 피드 무효화
+     */
+    public synchronized void invalidate(PostType postType) {
+        invalidateKey(ALL_TYPES);
+        invalidateKey(key(postType));
+    }
+    
+    /**
+     * 모든 피드 무효화 (작성자 정보 변경 등)
+     */
+    public synchronized void invalidateAll() {
+        allKeys().forEach(this::invalidateKey);
+    }
+    
+    /**
+     * 게시글 수치(댓글/좋아요 수) 변경 시, 해당 게시글이 담긴 스냅샷만 무효화
+     * 스냅샷이 없는 키는 적재 중일 수 있으므로 세대만 올려 오래된 값이 저장되지 않게 한다.
+     */
+    public synchronized void invalidatePosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        for (String key : allKeys()) {
+            Entry entry = snapshots.get(key);
+            if (entry == null || entry.snapshot().posts().stream().anyMatch(post -> postIds.contains(post.getId()))) {
+                invalidateKey(key);
+            }
+        }
+    }
+    
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL_TYPES);
+        for (PostType postType : PostType.values()) {
+            keys.add(postType.name());
+        }
+        return keys;
+    }
+    
+    private void invalidateKey(String key) {
+        snapshots.remove(key);
+        generations.merge(key, 1L, Long::sum);
+    }
+    
+    private synchronized int cachedPostCount() {
+        return snapshots.values().stream()
+                .mapToInt(entry -> entry.snapshot().posts().size())
+                .sum();
+    }
+    
+    private String key(PostType postType) {
+        return postType != null ? postType.name() : ALL_TYPES;
+    }
+    
+    /**
+     * 최신 공개 게시글 스냅샷 (불변)
+     */
+    public record Snapshot(List<PostDto.Response> posts, long totalCount) {
+    }
+    
+    // 적재 시각 (System.nanoTime) 과 함께 보관
+    private record Entry(Snapshot snapshot, long loadedAt) {
+    }
+}
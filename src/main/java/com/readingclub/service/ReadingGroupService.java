@@ -6,8 +6,8 @@ import com.readingclub.entity.*;
 import com.readingclub.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +27,7 @@ public class ReadingGroupService {
     private final MonthlyBookRepository monthlyBookRepository;
     private final ReadingProgressRepository readingProgressRepository;
     private final UserRepository userRepository;
+    private final BookCatalogService bookCatalogService;
     
     private static final String INVITE_CODE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int INVITE_CODE_LENGTH = 8;
@@ -54,6 +55,11 @@ public class ReadingGroupService {
         // 초대 코드 생성
         String inviteCode = generateUniqueInviteCode();
 
+        // 모임 도서를 공용 도서 카탈로그에 등록하고 참조
+        CatalogBook catalogBook = bookCatalogService.register(request.getBookIsbn(), request.getBookTitle(),
+                request.getBookAuthor(), request.getBookPublisher(), request.getBookCoverImage(),
+                null, request.getBookDescription());
+
         // 독서 모임 엔티티 생성
         ReadingGroup group = ReadingGroup.builder()
                 .name(request.getName())
@@ -65,6 +71,8 @@ public class ReadingGroupService {
                 .status(ReadingGroup.GroupStatus.ACTIVE)
                 .hasAssignment(request.getHasAssignment())
 
+                .catalogBook(catalogBook)
+                .bookIsbn(request.getBookIsbn())
                 .bookTitle(request.getBookTitle())
                 .author(request.getBookAuthor())
                 .publisher(request.getBookPublisher())
@@ -97,16 +105,23 @@ public class ReadingGroupService {
     
     /**
      * 공개 독서 모임 목록 조회
+     * includeTotal 이 false 이면 COUNT 쿼리 없이 Slice 로 조회
      */
-    public Page<ReadingGroupDto.ListResponse> getPublicGroups(Pageable pageable, String search) {
-        Page<ReadingGroup> groups;
+    public Slice<ReadingGroupDto.ListResponse> getPublicGroups(Pageable pageable, String search, boolean includeTotal) {
+        Slice<ReadingGroup> groups;
         
         if (search != null && !search.trim().isEmpty()) {
-            groups = readingGroupRepository.findPublicGroupsByNameContaining(
-                    search.trim(), ReadingGroup.GroupStatus.ACTIVE, pageable);
+            groups = includeTotal
+                    ? readingGroupRepository.findPublicGroupsByNameContaining(
+                            search.trim(), ReadingGroup.GroupStatus.ACTIVE, pageable)
+                    : readingGroupRepository.findPublicGroupSliceByNameContaining(
+                            search.trim(), ReadingGroup.GroupStatus.ACTIVE, pageable);
         } else {
-            groups = readingGroupRepository.findByIsPublicTrueAndStatusOrderByCreatedAtDesc(
-                    ReadingGroup.GroupStatus.ACTIVE, pageable);
+            groups = includeTotal
+                    ? readingGroupRepository.findByIsPublicTrueAndStatusOrderByCreatedAtDesc(
+                            ReadingGroup.GroupStatus.ACTIVE, pageable)
+                    : readingGroupRepository.findSliceByIsPublicTrueAndStatusOrderByCreatedAtDesc(
+                            ReadingGroup.GroupStatus.ACTIVE, pageable);
         }
         
         return groups.map(this::convertToListDto);
@@ -318,10 +333,15 @@ public class ReadingGroupService {
                 .meetingType(group.getMeetingType())
                 .meetingUrl(group.getMeetingUrl())
 
-                // 도서 관련 필드
+                // 도서 관련 필드 (도서 소개는 카탈로그에 있으면 카탈로그 값)
+                .bookIsbn(group.getBookIsbn())
                 .bookTitle(group.getBookTitle())
                 .bookAuthor(group.getAuthor())
-                .bookDescription(group.getDescription())
+                .bookDescription(group.getCatalogBook() != null
+                        ? bookCatalogService.find(group.getBookIsbn())
+                                .map(CatalogBook::getDescription)
+                                .orElse(group.getDescription())
+                        : group.getDescription())
                 .bookCoverImage(group.getBookCoverImage())
                 .bookPublisher(group.getPublisher())
                 .build();
@@ -8,20 +8,16 @@ import com.readingclub.dto.QuoteDto;
 import com.readingclub.entity.User;
 import com.readingclub.entity.Post;
 import com.readingclub.entity.PostVisibility;
-import com.readingclub.repository.BookRepository;
 import com.readingclub.repository.UserRepository;
 import com.readingclub.repository.PostRepository;
 import com.readingclub.repository.CurrentlyReadingRepository;
-import com.readingclub.repository.WishlistRepository;
-import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,11 +28,11 @@ import java.util.stream.Collectors;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final BookRepository bookRepository;
     private final PostRepository postRepository;
     private final CurrentlyReadingRepository currentlyReadingRepository;
-    private final WishlistRepository wishlistRepository;
-    private final DroppedBookRepository droppedBookRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final BookCatalogService bookCatalogService;
+    private final UserStatsService userStatsService;
     
     /**
      * 사용자 ID로 조회
@@ -107,6 +103,8 @@ public class UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        // 캐시된 피드의 작성자 닉네임/프로필 이미지 갱신
+        TransactionUtils.afterCommit(publicFeedCache::invalidateAll);
         log.info("사용자 정보 수정: {}", updatedUser.getId());
         
         return convertToDto(updatedUser);
@@ -121,39 +119,20 @@ public class UserService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
-        // 총 책 수
-        long totalBooks = bookRepository.countByUserId(userId);
+        // 전체/올해/이번 달 집계 행 조회
+        UserStatsService.Snapshot stats = userStatsService.getCurrent(userId);
         
         // 평균 별점
-        Double averageRating = bookRepository.findAverageRatingByUserId(userId);
-        if (averageRating == null) {
-            averageRating = 0.0;
-        }
-        
-        // 이번 달 읽은 책 수
-        LocalDate thisMonthStart = LocalDate.now().withDayOfMonth(1);
-        LocalDate thisMonthEnd = thisMonthStart.plusMonths(1).minusDays(1);
-        long booksThisMonth = bookRepository.findByUserIdAndFinishedDateBetween(
-                userId, thisMonthStart, thisMonthEnd).size();
-        
-        // 올해 읽은 책 수
-        LocalDate thisYearStart = LocalDate.now().withDayOfYear(1);
-        LocalDate thisYearEnd = LocalDate.now().withMonth(12).withDayOfMonth(31);
-        long booksThisYear = bookRepository.findByUserIdAndFinishedDateBetween(
-                userId, thisYearStart, thisYearEnd).size();
-        
-        // 읽다 만 책 통계
-        long droppedBooksCount = droppedBookRepository.countByUserId(userId);
-        long thisMonthDroppedBooks = droppedBookRepository.countByUserIdAndDroppedDateBetween(
-                userId, thisMonthStart, thisMonthEnd);
+        long totalBooks = stats.total().getFinishedBooks();
+        double averageRating = totalBooks > 0 ? (double) stats.total().getRatingSum() / totalBooks : 0.0;
         
         return UserDto.Statistics.builder()
                 .totalBooks(totalBooks)
                 .averageRating(Math.round(averageRating * 10) / 10.0) // 소수점 첫째자리까지
-                .booksThisMonth(booksThisMonth)
-                .booksThisYear(booksThisYear)
-                .droppedBooksCount(droppedBooksCount)
-                .thisMonthDroppedBooks(thisMonthDroppedBooks)
+                .booksThisMonth(stats.thisMonth().getFinishedBooks())
+                .booksThisYear(stats.thisYear().getFinishedBooks())
+                .droppedBooksCount(stats.total().getDroppedBooks())
+                .thisMonthDroppedBooks(stats.thisMonth().getDroppedBooks())
                 .build();
     }
     
@@ -178,7 +157,7 @@ public class UserService {
         List<CurrentlyReadingDto.Response> currentlyReading = getCurrentlyReadingBooks(userId);
         
         // 최근 공개 게시글 정보 (최대 5개)
-        List<PostDto.Response> recentPublicPosts = getRecentPublicPosts(userId);
+        List<PostDto.Response> recentPublicPosts = getRecentPublicPosts(user);
         
         return UserProfileDto.Response.builder()
                 .id(user.getId())
@@ -196,44 +175,17 @@ public class UserService {
      * 타사용자 프로필 통계 조회
      */
     private UserProfileDto.UserStatistics getUserProfileStatistics(Long userId) {
-        // 총 완독한 책 권수
-        long totalBooks = bookRepository.countByUserId(userId);
-        
-        // 읽고 있는 책 권수
-        long currentlyReadingCount = currentlyReadingRepository.countByUserId(userId);
-        
-        // 읽고 싶은 책 권수
-        long wishlistCount = wishlistRepository.countByUserId(userId);
-        
-        // 읽다 만 책 권수
-        long droppedBooksCount = droppedBookRepository.countByUserId(userId);
-        
-        // 총 게시글 개수
-        long totalPosts = postRepository.countByUser(userRepository.findById(userId).orElse(null));
-        
-        // 이번 달 게시글 개수
-        LocalDateTime startOfMonth = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfMonth = LocalDateTime.now().withDayOfMonth(LocalDate.now().lengthOfMonth()).withHour(23).withMinute(59).withSecond(59);
-        long thisMonthPosts = postRepository.countByUserAndCreatedAtBetween(
-                userRepository.findById(userId).orElse(null), startOfMonth, endOfMonth);
-        
-        // 이번 달 완독한 책 권수
-        LocalDate startOfMonthDate = LocalDate.now().withDayOfMonth(1);
-        LocalDate endOfMonthDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
-        long thisMonthBooks = bookRepository.countByUserIdAndFinishedDateBetween(userId, startOfMonthDate, endOfMonthDate);
-        
-        // 이번 달 읽다 만 책 권수
-        long thisMonthDroppedBooks = droppedBookRepository.countByUserIdAndDroppedDateBetween(userId, startOfMonthDate, endOfMonthDate);
+        UserStatsService.Snapshot stats = userStatsService.getCurrent(userId);
         
         return UserProfileDto.UserStatistics.builder()
-                .totalBooks(totalBooks)
-                .currentlyReadingCount(currentlyReadingCount)
-                .wishlistCount(wishlistCount)
-                .droppedBooksCount(droppedBooksCount)
-                .totalPosts(totalPosts)
-                .thisMonthPosts(thisMonthPosts)
-                .thisMonthBooks(thisMonthBooks)
-                .thisMonthDroppedBooks(thisMonthDroppedBooks)
+                .totalBooks(stats.total().getFinishedBooks())
+                .currentlyReadingCount(stats.total().getCurrentlyReadingCount())
+                .wishlistCount(stats.total().getWishlistCount())
+                .droppedBooksCount(stats.total().getDroppedBooks())
+                .totalPosts(stats.total().getPosts())
+                .thisMonthPosts(stats.thisMonth().getPosts())
+                .thisMonthBooks(stats.thisMonth().getFinishedBooks())
+                .thisMonthDroppedBooks(stats.thisMonth().getDroppedBooks())
                 .build();
     }
     
@@ -251,9 +203,9 @@ public class UserService {
     /**
      * 최근 공개 게시글 조회
      */
-    private List<PostDto.Response> getRecentPublicPosts(Long userId) {
+    private List<PostDto.Response> getRecentPublicPosts(User user) {
         return postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
-                userRepository.findById(userId).orElse(null), PostVisibility.PUBLIC, PageRequest.of(0, 5))
+                user, PostVisibility.PUBLIC, PageRequest.of(0, 5))
                 .stream()
                 .map(this::convertToPostDto)
                 .collect(Collectors.toList());
@@ -306,15 +258,7 @@ public class UserService {
                 .userId(post.getUser().getId())
                 .userName(post.getUser().getNickname())
                 .userProfileImage(post.getUser().getProfileImage())
-                .bookInfo(PostDto.BookInfo.builder()
-                        .isbn(post.getBookIsbn())
-                        .title(post.getBookTitle())
-                        .author(post.getBookAuthor())
-                        .publisher(post.getBookPublisher())
-                        .cover(post.getBookCover())
-                        .pubDate(post.getBookPubDate())
-                        .description(post.getBookDescription())
-                        .build())
+                .bookInfo(bookCatalogService.toBookInfo(post))
                 .postType(post.getPostType())
                 .visibility(post.getVisibility())
                 .title(post.getTitle())
@@ -324,6 +268,8 @@ public class UserService {
                 .quotes(null) // JSON 파싱은 복잡하므로 여기서는 생략
                 .quote(post.getQuote())
                 .pageNumber(post.getPageNumber())
+                .commentCount(post.getActiveCommentCount())
+                .likeCount(post.getLikeCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -0,0 +1,398 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Book;
+import com.readingclub.entity.UserStats;
+import com.readingclub.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 독서 통계 (user_stats) 관리
+ * 서재/게시글 서비스가 쓰기 트랜잭션 안에서 증감분을 UPSERT 하고, 조회는 기본 키로 집계 행만 읽는다.
+ * 누락/중복 반영으로 생기는 오차는 주기적인 재구축으로 원본 테이블 기준으로 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsService {
+    
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final int REBUILD_BATCH_SIZE = 500;
+    
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_stats (user_id, period, finished_books, rating_sum, dropped_books, posts, " +
+            "currently_reading_count, wishlist_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "finished_books = finished_books + VALUES(finished_books), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "dropped_books = dropped_books + VALUES(dropped_books), " +
+            "posts = posts + VALUES(posts), " +
+            "currently_reading_count = currently_reading_count + VALUES(currently_reading_count), " +
+            "wishlist_count = wishlist_count + VALUES(wishlist_count)";
+    
+    // 재구축 값으로 덮어쓰기 (구간 삭제 후 증감분 UPSERT 가 먼저 행을 만들어도 키 중복으로 실패하지 않음)
+    private static final String REPLACE_SQL =
+            "INSERT INTO user_stats (user_id, period, finished_books, rating_sum, dropped_books, posts, " +
+            "currently_reading_count, wishlist_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "finished_books = VALUES(finished_books), " +
+            "rating_sum = VALUES(rating_sum), " +
+            "dropped_books = VALUES(dropped_books), " +
+            "posts = VALUES(posts), " +
+            "currently_reading_count = VALUES(currently_reading_count), " +
+            "wishlist_count = VALUES(wishlist_count)";
+    
+    // 여러 인스턴스 중 하나만 재구축하도록 잡는 MySQL 네임드 락
+    private static final String REBUILD_LOCK_NAME = "user_stats_rebuild";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final UserStatsRepository userStatsRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    // 시작 시 전체 재구축 (집계 행이 없는 사용자는 설정과 관계없이 시작 시 채움)
+    @Value("${user.stats.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+    
+    /**
+     * 전체/올해/이번 달 집계 조회 (행이 없으면 0으로 채움)
+     */
+    @Transactional(readOnly = true)
+    public Snapshot getCurrent(Long userId) {
+        YearMonth thisMonth = YearMonth.now();
+        String yearPeriod = String.valueOf(thisMonth.getYear());
+        String monthPeriod = thisMonth.format(MONTH_FORMAT);
+        
+        Map<String, UserStats> rows = userStatsRepository
+                .findByUserIdAndPeriodIn(userId, List.of(UserStats.ALL_PERIOD, yearPeriod, monthPeriod))
+                .stream()
+                .collect(Collectors.toMap(UserStats::getPeriod, Function.identity()));
+        
+        return new Snapshot(
+                rows.getOrDefault(UserStats.ALL_PERIOD, UserStats.empty(userId, UserStats.ALL_PERIOD)),
+                rows.getOrDefault(yearPeriod, UserStats.empty(userId, yearPeriod)),
+                rows.getOrDefault(monthPeriod, UserStats.empty(userId, monthPeriod)));
+    }
+    
+    /**
+     * 완독한 책 추가 반영
+     */
+    @Transactional
+    public void bookAdded(Long userId, LocalDate finishedDate, int rating) {
+        applyDated(userId, finishedDate, new Delta(1, rating, 0, 0, 0, 0));
+    }
+    
+    /**
+     * 완독한 책 여러 권 추가 반영 (기간별로 합산해 한 번의 배치로 UPSERT)
+     */
+    @Transactional
+    public void booksAdded(Long userId, List<Book> books) {
+        Map<String, Delta> deltas = new LinkedHashMap<>();
+        for (Book book : books) {
+            Delta delta = new Delta(1, book.getRating(), 0, 0, 0, 0);
+            datedPeriods(book.getFinishedDate()).forEach(period -> deltas.merge(period, delta, Delta::plus));
+        }
+        apply(userId, deltas);
+    }
+    
+    /**
+     * 완독한 책 삭제 반영
+     */
+    @Transactional
+    public void bookRemoved(Long userId, LocalDate finishedDate, int rating) {
+        applyDated(userId, finishedDate, new Delta(-1, -rating, 0, 0, 0, 0));
+    }
+    
+    /**
+     * 읽다 만 책 추가 반영
+     */
+    @Transactional
+    public void droppedBookAdded(Long userId, LocalDate droppedDate) {
+        applyDated(userId, droppedDate, new Delta(0, 0, 1, 0, 0, 0));
+    }
+    
+    /**
+     * 읽다 만 책 삭제 반영
+     */
+    @Transactional
+    public void droppedBookRemoved(Long userId, LocalDate droppedDate) {
+        applyDated(userId, droppedDate, new Delta(0, 0, -1, 0, 0, 0));
+    }
+    
+    /**
+     * 게시글 작성 반영
+     */
+    @Transactional
+    public void postAdded(Long userId, LocalDateTime createdAt) {
+        applyDated(userId, createdAt != null ? createdAt.toLocalDate() : LocalDate.now(), new Delta(0, 0, 0, 1, 0, 0));
+    }
+    
+    /**
+     * 게시글 삭제 반영
+     */
+    @Transactional
+    public void postRemoved(Long userId, LocalDateTime createdAt) {
+        applyDated(userId, createdAt != null ? createdAt.toLocalDate() : LocalDate.now(), new Delta(0, 0, 0, -1, 0, 0));
+    }
+    
+    /**
+     * 읽고 있는 책 권수 증감 반영
+     */
+    @Transactional
+    public void currentlyReadingChanged(Long userId, int delta) {
+        apply(userId, List.of(UserStats.ALL_PERIOD), new Delta(0, 0, 0, 0, delta, 0));
+    }
+    
+    /**
+     * 위시리스트 권수 증감 반영
+     */
+    @Transactional
+    public void wishlistChanged(Long userId, int delta) {
+        apply(userId, List.of(UserStats.ALL_PERIOD), new Delta(0, 0, 0, 0, 0, delta));
+    }
+    
+    /**
+     * 애플리케이션 시작 시 집계 채우기
+     * 테이블 추가 이전 사용자처럼 전체(ALL) 행이 없는 사용자는 항상 채우고 (한 번 채우면 다시 대상이 되지 않음),
+     * 전체 재구축은 설정을 켰을 때만 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+            return;
+        }
+        backfillMissing();
+    }
+    
+    /**
+     * 원본 테이블 기준으로 전체 사용자 집계 재구축 (매일 새벽, 사용자 ID 묶음 단위 트랜잭션)
+     * 묶음을 재구축하는 사이에 커밋된 쓰기는 빠질 수 있으며 다음 재구축에서 보정된다.
+     */
+    @Scheduled(cron = "${user.stats.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        withRebuildLock(() -> rebuildInBatches("재구축", lastUserId -> jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                Long.class, lastUserId, REBUILD_BATCH_SIZE)));
+    }
+    
+    /**
+     * 전체(ALL) 집계 행이 없는 사용자만 원본 테이블 기준으로 채움
+     */
+    public void backfillMissing() {
+        withRebuildLock(() -> rebuildInBatches("채우기", lastUserId -> jdbcTemplate.queryForList(
+                "SELECT u.id FROM users u WHERE u.id > ? AND NOT EXISTS (" +
+                "SELECT 1 FROM user_stats s WHERE s.user_id = u.id AND s.period = ?) ORDER BY u.id LIMIT ?",
+                Long.class, lastUserId, UserStats.ALL_PERIOD, REBUILD_BATCH_SIZE)));
+    }
+    
+    /**
+     * 네임드 락을 잡은 인스턴스만 실행 (락은 잡은 커넥션에 묶이므로 같은 커넥션에서 해제)
+     */
+    private void withRebuildLock(Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)")) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)");
+            }
+        });
+        
+        if (!Boolean.TRUE.equals(ran)) {
+            log.info("다른 인스턴스가 사용자 통계를 재구축 중이므로 건너뜀");
+        }
+    }
+    
+    private boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, REBUILD_LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+    
+    /**
+     * 다음 사용자 ID 묶음을 받아 묶음 단위 트랜잭션으로 재구축
+     */
+    private void rebuildInBatches(String label, Function<Long, List<Long>> nextUserIds) {
+        long startedAt = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long lastUserId = 0L;
+        int userCount = 0;
+        
+        while (true) {
+            List<Long> userIds = nextUserIds.apply(lastUserId);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuildUsers(userIds));
+            } catch (RuntimeException e) {
+                // 한 묶음이 실패해도 나머지 묶음은 계속 진행
+                log.warn("사용자 통계 {} 실패: userId {}~{}, {}", label,
+                        userIds.get(0), userIds.get(userIds.size() - 1), e.getMessage());
+            }
+            
+            userCount += userIds.size();
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        
+        log.info("사용자 통계 {} 완료: {}명, {}ms", label, userCount, System.currentTimeMillis() - startedAt);
+    }
+    
+    private void rebuildUsers(List<Long> userIds) {
+        Map<UserStats.Key, UserStats> rows = new HashMap<>();
+        String inUsers = userIds.stream().map(id -> "?").collect(Collectors.joining(", ", "(", ")"));
+        Object[] args = userIds.toArray();
+        
+        // 기록이 하나도 없는 사용자도 전체 행을 남겨 다음 채우기 대상에서 빠지게 한다
+        userIds.forEach(userId -> row(rows, userId, UserStats.ALL_PERIOD));
+        
+        // 날짜가 있는 집계는 월 단위로 읽어 전체/연도/월 행에 나눠 담는다
+        jdbcTemplate.query(
+                "SELECT user_id, DATE_FORMAT(finished_date, '%Y-%m') AS period, COUNT(*), SUM(rating) " +
+                "FROM books WHERE user_id IN " + inUsers + " GROUP BY user_id, period",
+                (RowCallbackHandler) rs -> {
+                    for (UserStats stats : datedRows(rows, rs.getLong(1), rs.getString(2))) {
+                        stats.setFinishedBooks(stats.getFinishedBooks() + rs.getLong(3));
+                        stats.setRatingSum(stats.getRatingSum() + rs.getLong(4));
+                    }
+                },
+                args);
+        
+        jdbcTemplate.query(
+                "SELECT user_id, DATE_FORMAT(dropped_date, '%Y-%m') AS period, COUNT(*) " +
+                "FROM dropped_books WHERE user_id IN " + inUsers + " GROUP BY user_id, period",
+                (RowCallbackHandler) rs -> {
+                    for (UserStats stats : datedRows(rows, rs.getLong(1), rs.getString(2))) {
+                        stats.setDroppedBooks(stats.getDroppedBooks() + rs.getLong(3));
+                    }
+                },
+                args);
+        
+        jdbcTemplate.query(
+                "SELECT user_id, DATE_FORMAT(created_at, '%Y-%m') AS period, COUNT(*) " +
+                "FROM posts WHERE user_id IN " + inUsers + " GROUP BY user_id, period",
+                (RowCallbackHandler) rs -> {
+                    for (UserStats stats : datedRows(rows, rs.getLong(1), rs.getString(2))) {
+                        stats.setPosts(stats.getPosts() + rs.getLong(3));
+                    }
+                },
+                args);
+        
+        jdbcTemplate.query(
+                "SELECT user_id, COUNT(*) FROM currently_reading WHERE user_id IN " + inUsers + " GROUP BY user_id",
+                (RowCallbackHandler) rs -> row(rows, rs.getLong(1), UserStats.ALL_PERIOD)
+                        .setCurrentlyReadingCount(rs.getLong(2)),
+                args);
+        
+        jdbcTemplate.query(
+                "SELECT user_id, COUNT(*) FROM wishlists WHERE user_id IN " + inUsers + " GROUP BY user_id",
+                (RowCallbackHandler) rs -> row(rows, rs.getLong(1), UserStats.ALL_PERIOD)
+                        .setWishlistCount(rs.getLong(2)),
+                args);
+        
+        jdbcTemplate.update("DELETE FROM user_stats WHERE user_id IN " + inUsers, args);
+        
+        List<Object[]> batchArgs = rows.values().stream()
+                .map(stats -> new Object[]{
+                        stats.getUserId(), stats.getPeriod(),
+                        stats.getFinishedBooks(), stats.getRatingSum(),
+                        stats.getDroppedBooks(), stats.getPosts(),
+                        stats.getCurrentlyReadingCount(), stats.getWishlistCount()})
+                .collect(Collectors.toList());
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(REPLACE_SQL, batchArgs);
+        }
+    }
+    
+    private List<UserStats> datedRows(Map<UserStats.Key, UserStats> rows, Long userId, String monthPeriod) {
+        return List.of(
+                row(rows, userId, UserStats.ALL_PERIOD),
+                row(rows, userId, monthPeriod.substring(0, 4)),
+                row(rows, userId, monthPeriod));
+    }
+    
+    private UserStats row(Map<UserStats.Key, UserStats> rows, Long userId, String period) {
+        return rows.computeIfAbsent(new UserStats.Key(userId, period), key -> UserStats.empty(userId, period));
+    }
+    
+    private List<String> datedPeriods(LocalDate date) {
+        return List.of(
+                UserStats.ALL_PERIOD,
+                String.valueOf(date.getYear()),
+                YearMonth.from(date).format(MONTH_FORMAT));
+    }
+    
+    private void applyDated(Long userId, LocalDate date, Delta delta) {
+        apply(userId, datedPeriods(date), delta);
+    }
+    
+    private void apply(Long userId, List<String> periods, Delta delta) {
+        Map<String, Delta> deltas = new LinkedHashMap<>();
+        periods.forEach(period -> deltas.put(period, delta));
+        apply(userId, deltas);
+    }
+    
+    private void apply(Long userId, Map<String, Delta> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((period, delta) -> {
+            batchArgs.add(new Object[]{
+                    userId, period,
+                    delta.finishedBooks(), delta.ratingSum(),
+                    delta.droppedBooks(), delta.posts(),
+                    delta.currentlyReading(), delta.wishlist()});
+        });
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+        }
+    }
+    
+    /**
+     * 전체/올해/이번 달 집계
+     */
+    public record Snapshot(UserStats total, UserStats thisYear, UserStats thisMonth) {
+    }
+    
+    private record Delta(long finishedBooks, long ratingSum, long droppedBooks, long posts,
+                         long currentlyReading, long wishlist) {
+        
+        Delta plus(Delta other) {
+            return new Delta(finishedBooks + other.finishedBooks, ratingSum + other.ratingSum,
+                    droppedBooks + other.droppedBooks, posts + other.posts,
+                    currentlyReading + other.currentlyReading, wishlist + other.wishlist);
+        }
+    }
+}
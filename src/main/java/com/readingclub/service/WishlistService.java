@@ -2,18 +2,22 @@ package com.readingclub.service;
 
 import com.readingclub.dto.UserDto;
 import com.readingclub.dto.WishlistDto;
+import com.readingclub.entity.CatalogBook;
 import com.readingclub.entity.User;
 import com.readingclub.entity.Wishlist;
 import com.readingclub.repository.UserRepository;
 import com.readingclub.repository.WishlistRepository;
+import com.readingclub.util.BookFingerprint;
+import com.readingclub.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,19 +28,25 @@ public class WishlistService {
     
     private final WishlistRepository wishlistRepository;
     private final UserRepository userRepository;
+    private final MonthlyCoverCache monthlyCoverCache;
+    private final UserStatsService userStatsService;
+    private final BookCatalogService bookCatalogService;
     
     /**
      * 사용자별 위시리스트 조회 (페이징)
+     * includeTotal 이 false 이면 COUNT 쿼리 없이 Slice 로 조회
      */
-    public Page<WishlistDto.Response> getUserWishlists(Long userId, Pageable pageable, 
-                                                      Integer priority, String search) {
+    public Slice<WishlistDto.Response> getUserWishlists(Long userId, Pageable pageable, 
+                                                       Integer priority, String search, boolean includeTotal) {
         // 사용자 존재 확인
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
         // TODO: 필터링 로직 구현 (현재는 기본 페이징만)
-        Page<Wishlist> wishlists = wishlistRepository.findByUserIdOrderByPriorityAscCreatedAtDesc(userId, pageable);
+        Slice<Wishlist> wishlists = includeTotal
+                ? wishlistRepository.findByUserIdOrderByPriorityAscCreatedAtDesc(userId, pageable)
+                : wishlistRepository.findSliceByUserIdOrderByPriorityAscCreatedAtDesc(userId, pageable);
         
         return wishlists.map(this::convertToDto);
     }
@@ -59,10 +69,17 @@ public class WishlistService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
+        // 공용 도서 카탈로그에 등록하고 참조 (검색 결과에서 고른 책이면 ISBN이 있음)
+        CatalogBook catalogBook = bookCatalogService.register(request.getIsbn(), request.getTitle(),
+                request.getAuthor(), request.getPublisher(), request.getCoverImage(),
+                request.getPublishedDate(), request.getDescription());
+        
         Wishlist wishlist = Wishlist.builder()
                 .user(user)
+                .catalogBook(catalogBook)
                 .title(request.getTitle())
                 .author(request.getAuthor())
+                .isbn(request.getIsbn())
                 .coverImage(request.getCoverImage())
                 .publisher(request.getPublisher())
                 .publishedDate(request.getPublishedDate())
@@ -72,6 +89,8 @@ public class WishlistService {
                 .build();
         
         Wishlist savedWishlist = wishlistRepository.save(wishlist);
+        userStatsService.wishlistChanged(userId, 1);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("새 위시리스트 추가: {} (사용자: {})", savedWishlist.getTitle(), userId);
         
         return convertToDto(savedWishlist);
@@ -93,8 +112,16 @@ public class WishlistService {
         wishlist.setDescription(request.getDescription());
         wishlist.setMemo(request.getMemo());
         wishlist.setPriority(request.getPriority());
+        if (!Objects.equals(request.getIsbn(), wishlist.getIsbn())) {
+            wishlist.setIsbn(request.getIsbn());
+            // ISBN이 바뀌면 카탈로그 참조도 다시 연결
+            wishlist.setCatalogBook(bookCatalogService.register(wishlist.getIsbn(), wishlist.getTitle(),
+                    wishlist.getAuthor(), wishlist.getPublisher(), wishlist.getCoverImage(),
+                    wishlist.getPublishedDate(), wishlist.getDescription()));
+        }
         
         Wishlist updatedWishlist = wishlistRepository.save(wishlist);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("위시리스트 수정: {} (ID: {})", updatedWishlist.getTitle(), wishlistId);
         
         return convertToDto(updatedWishlist);
@@ -109,6 +136,8 @@ public class WishlistService {
                 .orElseThrow(() -> new IllegalArgumentException("위시리스트를 찾을 수 없거나 접근 권한이 없습니다."));
         
         wishlistRepository.delete(wishlist);
+        userStatsService.wishlistChanged(userId, -1);
+        TransactionUtils.afterCommit(() -> monthlyCoverCache.evict(userId));
         log.info("위시리스트 삭제: {} (ID: {})", wishlist.getTitle(), wishlistId);
     }
     
@@ -121,15 +150,19 @@ public class WishlistService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
-        List<Wishlist> duplicateWishlists;
-        
-        if (author != null && !author.trim().isEmpty()) {
-            // 제목과 저자로 검색
-            duplicateWishlists = wishlistRepository.findByUserIdAndTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(
-                    userId, title.trim(), author.trim());
-        } else {
-            // 제목만으로 검색
-            duplicateWishlists = wishlistRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
+        // 정규화 지문으로 먼저 조회하고, 없을 때만 부분 일치 검색
+        List<Wishlist> duplicateWishlists = wishlistRepository.findByUserIdAndFingerprintLike(
+                userId, BookFingerprint.lookupPattern(title, author));
+        
+        if (duplicateWishlists.isEmpty()) {
+            if (author != null && !author.trim().isEmpty()) {
+                // 제목과 저자로 검색
+                duplicateWishlists = wishlistRepository.findByUserIdAndTitleContainingIgnoreCaseAndAuthorContainingIgnoreCase(
+                        userId, title.trim(), author.trim());
+            } else {
+                // 제목만으로 검색
+                duplicateWishlists = wishlistRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title.trim());
+            }
         }
         
         List<WishlistDto.DuplicateCheckResponse.DuplicateWishlist> duplicateWishlistDtos = duplicateWishlists.stream()
@@ -184,6 +217,7 @@ public class WishlistService {
                 .id(wishlist.getId())
                 .title(wishlist.getTitle())
                 .author(wishlist.getAuthor())
+                .isbn(wishlist.getIsbn())
                 .coverImage(wishlist.getCoverImage())
                 .publisher(wishlist.getPublisher())
                 .publishedDate(wishlist.getPublishedDate())
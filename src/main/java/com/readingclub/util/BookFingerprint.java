@@ -0,0 +1,101 @@
+package com.readingclub.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 서재 중복 체크용 책 지문 (제목|저자)
+ * 공백/문장부호를 제거하고 대소문자를 통일해 "해리 포터"와 "해리포터!"를 같은 책으로 본다.
+ * 제목이 앞에 오므로 "제목|%" 접두 LIKE 로 제목만 같은 책도 (user_id, fingerprint) 인덱스로 찾을 수 있다.
+ */
+public final class BookFingerprint {
+    
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_AUTHOR_LENGTH = 100;
+    private static final char SEPARATOR = '|';
+    
+    // 지문 컬럼 길이 (제목 + 구분자 + 저자)
+    public static final int MAX_LENGTH = MAX_TITLE_LENGTH + 1 + MAX_AUTHOR_LENGTH;
+    
+    // 요청 검증용: 지문에 남는 글자나 숫자가 하나 이상 있는 제목 (@Pattern 에서 사용)
+    public static final String TITLE_REGEXP = "(?s).*[\\p{L}\\p{N}].*";
+    public static final String EMPTY_TITLE_MESSAGE = "책 제목에는 글자나 숫자가 하나 이상 있어야 합니다.";
+    
+    private BookFingerprint() {
+    }
+    
+    /**
+     * 제목과 저자로 지문 생성 (저자가 없으면 "제목|")
+     * 정규화 후 제목이 비면 모든 문장부호 제목이 한 책으로 묶이므로 IllegalArgumentException
+     */
+    public static String of(String title, String author) {
+        return normalizeTitle(title) + SEPARATOR + normalize(author, MAX_AUTHOR_LENGTH);
+    }
+    
+    /**
+     * 엔티티 저장 시점의 지문 (정규화 후 제목이 비면 예외 대신 null, 중복 체크 대상에서만 빠짐)
+     * 빈 제목은 요청 검증(TITLE_REGEXP)에서 먼저 거른다.
+     */
+    public static String ofOrNull(String title, String author) {
+        String normalizedTitle = normalize(title, MAX_TITLE_LENGTH);
+        if (normalizedTitle.isEmpty()) {
+            return null;
+        }
+        return normalizedTitle + SEPARATOR + normalize(author, MAX_AUTHOR_LENGTH);
+    }
+    
+    /**
+     * 제목이 같은 책을 찾기 위한 LIKE 패턴 (문장부호를 지우므로 %, _ 는 남지 않음)
+     */
+    public static String titlePattern(String title) {
+        return normalizeTitle(title) + SEPARATOR + "%";
+    }
+    
+    /**
+     * 저자가 있으면 정확한 지문, 없으면 제목 접두 패턴
+     */
+    public static String lookupPattern(String title, String author) {
+        return author != null && !author.isBlank() ? of(title, author) : titlePattern(title);
+    }
+    
+    /**
+     * ISBN-10/13을 ISBN-13으로 통일 (형식이 맞지 않으면 null)
+     */
+    public static String isbn13(String isbn) {
+        if (isbn == null) {
+            return null;
+        }
+        String digits = isbn.replaceAll("[^0-9Xx]", "").toUpperCase(Locale.ROOT);
+        
+        if (digits.length() == 13 && digits.chars().allMatch(Character::isDigit)) {
+            return digits;
+        }
+        if (digits.length() == 10 && digits.substring(0, 9).chars().allMatch(Character::isDigit)) {
+            String body = "978" + digits.substring(0, 9);
+            int sum = 0;
+            for (int i = 0; i < body.length(); i++) {
+                sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+            }
+            return body + (10 - sum % 10) % 10;
+        }
+        return null;
+    }
+    
+    private static String normalizeTitle(String title) {
+        String normalized = normalize(title, MAX_TITLE_LENGTH);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_TITLE_MESSAGE);
+        }
+        return normalized;
+    }
+    
+    private static String normalize(String text, int maxLength) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", "");
+        return normalized.length() > maxLength ? normalized.substring(0, maxLength) : normalized;
+    }
+}
@@ -0,0 +1,87 @@
+package com.readingclub.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV를 한 레코드씩 읽기 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원)
+ * 입력 전체를 메모리에 올리지 않으며, 형식 오류는 IllegalArgumentException으로 알린다.
+ */
+public class CsvReader {
+    
+    // 필드 하나의 최대 길이 (닫히지 않은 따옴표로 입력 전체를 한 필드로 읽는 것을 막음)
+    private static final int MAX_FIELD_LENGTH = 65_536;
+    
+    private final BufferedReader reader;
+    private boolean started;
+    
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+    
+    /**
+     * 다음 레코드의 필드 목록 (입력 끝이면 null, 빈 줄은 빈 필드 하나)
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            // UTF-8 BOM 건너뛰기
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("CSV 형식 오류: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        // 따옴표 구간 종료, 다음 문자는 따옴표 밖에서 다시 처리
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                append(field, c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+    }
+    
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("CSV 형식 오류: 필드가 너무 깁니다.");
+        }
+        field.append((char) c);
+    }
+}
@@ -0,0 +1,76 @@
+package com.readingclub.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징용 커서 (createdAt + id)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ */
+public record FeedCursor(LocalDateTime createdAt, Long id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    // 첫 페이지 조회용 커서 (모든 게시글보다 뒤에 위치)
+    private static final FeedCursor FIRST = new FeedCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    
+    // 오래된 순 조회의 첫 페이지 커서 (모든 항목보다 앞에 위치)
+    private static final FeedCursor OLDEST = new FeedCursor(
+            LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    
+    /**
+     * 첫 페이지 커서
+     */
+    public static FeedCursor first() {
+        return FIRST;
+    }
+    
+    /**
+     * 오래된 순 조회의 첫 페이지 커서 (댓글 등)
+     */
+    public static FeedCursor oldest() {
+        return OLDEST;
+    }
+    
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static FeedCursor decode(String cursor) {
+        return decode(cursor, FIRST);
+    }
+    
+    /**
+     * 커서 문자열 해석 (비어 있으면 ifEmpty)
+     */
+    public static FeedCursor decode(String cursor, FeedCursor ifEmpty) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return ifEmpty;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new FeedCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+    
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.readingclub.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    
+    private TransactionUtils() {
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션이 없으면 즉시 실행)
+     * 인메모리 인덱스/캐시처럼 롤백되면 안 되는 후처리에 사용한다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
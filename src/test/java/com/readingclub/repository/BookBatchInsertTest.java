@@ -0,0 +1,74 @@
+package com.readingclub.repository;
+
+import com.readingclub.config.IdGeneratorInitializer;
+import com.readingclub.entity.Book;
+import com.readingclub.entity.User;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 책 대량 저장이 배치 INSERT 로 나가고, ID 는 id_generators 에서 50개 단위로 받아오는지 확인
+ */
+@Import(IdGeneratorInitializer.class)
+class BookBatchInsertTest extends MySqlJpaTest {
+
+    private static final int BOOKS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    void 만_권을_50건_단위_배치로_저장한다() {
+        User user = persistUser("다독가");
+        startCounting();
+
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(Book.builder()
+                    .user(user)
+                    .title("책 " + i)
+                    .author("저자")
+                    .rating(i % 5 + 1)
+                    .finishedDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+
+        bookRepository.saveAll(books);
+        entityManager.flush();
+
+        assertBatchedInserts("books", BOOKS, BATCH_SIZE);
+
+        Set<Long> ids = new HashSet<>();
+        books.forEach(book -> ids.add(book.getId()));
+        assertEquals(BOOKS, ids.size());
+        assertEquals(BOOKS, bookRepository.count());
+    }
+
+    @Test
+    void 생성기_행은_책_테이블_최대_ID_이후를_가리킨다() {
+        User user = persistUser("다독가");
+        Book book = bookRepository.save(Book.builder()
+                .user(user)
+                .title("첫 책")
+                .rating(5)
+                .finishedDate(LocalDate.of(2024, 1, 1))
+                .build());
+        entityManager.flush();
+
+        Long nextVal = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'books'", Long.class);
+        assertTrue(nextVal > book.getId(), () -> "next_val=" + nextVal + ", id=" + book.getId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.Comment;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 댓글 변경 폴링 조회가 (post_id, updated_at) 인덱스로 구독 중인 게시글의 최근 변경분만 읽는지 실행 계획으로 확인
+ */
+class CommentChangeQueryPlanTest extends MySqlJpaTest {
+
+    private static final int POSTS = 20;
+    private static final int COMMENTS_PER_POST = 300;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Long userId = persistUser("댓글러").getId();
+        entityManager.flush();
+
+        for (int p = 0; p < POSTS; p++) {
+            jdbcTemplate.update("INSERT INTO posts (user_id, post_type, visibility, book_isbn, book_title, " +
+                    "book_author, comment_count, active_comment_count, like_count, created_at, updated_at) " +
+                    "VALUES (?, 'REVIEW', 'PUBLIC', ?, ?, '저자', 0, 0, 0, NOW(), NOW())", userId, "978" + p, "책 " + p);
+            postIds.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class));
+        }
+
+        // 게시글마다 댓글을 1분 간격으로 쌓아 둔다
+        List<Object[]> rows = new ArrayList<>();
+        for (Long postId : postIds) {
+            for (int i = 0; i < COMMENTS_PER_POST; i++) {
+                Timestamp at = Timestamp.valueOf(BASE.plusMinutes(i));
+                rows.add(new Object[]{postId, userId, "댓글 " + i, at, at});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (post_id, user_id, content, is_deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, false, ?, ?)", rows);
+        startCounting();
+    }
+
+    @Test
+    void 구독_중인_게시글의_최근_변경분만_인덱스_구간으로_읽는다() {
+        List<Long> watched = postIds.subList(0, 3);
+        LocalDateTime since = BASE.plusMinutes(COMMENTS_PER_POST - 11);
+
+        List<Comment> changed = commentRepository.findChangedSince(watched, since);
+
+        assertEquals(10 * watched.size(), changed.size());
+        List<Map<String, Object>> plan = explain(sqlLog.lastSelectFrom("comments"));
+        assertEquals("idx_comments_post_updated_at", String.valueOf(plan.get(0).get("key")), () -> "실행 계획: " + plan);
+        assertEquals("range", String.valueOf(plan.get(0).get("type")), () -> "실행 계획: " + plan);
+    }
+}
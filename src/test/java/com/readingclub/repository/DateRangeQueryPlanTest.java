@@ -0,0 +1,105 @@
+package com.readingclub.repository;
+
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 네 서재의 연월 조회가 (user_id, 날짜) 인덱스를 [시작, 끝) 구간으로 읽는지 실행 계획으로 확인
+ */
+class DateRangeQueryPlanTest extends MySqlJpaTest {
+
+    // 사용자마다 2020-01-01 부터 하루 간격으로 쌓아 약 5년치
+    private static final int ROWS_PER_USER = 1800;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private DroppedBookRepository droppedBookRepository;
+
+    @Autowired
+    private CurrentlyReadingRepository currentlyReadingRepository;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = persistUser("다독가").getId();
+        Long otherUserId = persistUser("다른 사용자").getId();
+        entityManager.flush();
+
+        seedShelves(userId, 0);
+        seedShelves(otherUserId, ROWS_PER_USER);
+        startCounting();
+    }
+
+    @Test
+    void 완독_연월_조회는_완독일_인덱스를_filesort_없이_읽는다() {
+        assertEquals(29, bookRepository.findByUserIdAndYearAndMonth(userId, 2024, 2).size());
+
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("books"), "idx_books_user_finished_date");
+    }
+
+    @Test
+    void 하차_연월_조회는_하차일_인덱스를_filesort_없이_읽는다() {
+        assertEquals(29, droppedBookRepository.findByUserIdAndYearAndMonth(userId, 2024, 2).size());
+
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("dropped_books"), "idx_dropped_books_user_dropped_date");
+    }
+
+    @Test
+    void 읽고_있는_책_연월_조회는_등록일_인덱스를_filesort_없이_읽는다() {
+        assertEquals(29, currentlyReadingRepository
+                .findByUserIdAndCreatedAtYearAndCreatedAtMonth(userId, 2024, 2).size());
+
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("currently_reading"), "idx_currently_reading_user_created_at");
+    }
+
+    @Test
+    void 위시리스트_연월_조회는_등록일_인덱스를_구간으로_읽는다() {
+        assertEquals(29, wishlistRepository.findByUserIdAndCreatedAtYearAndCreatedAtMonth(userId, 2024, 2).size());
+
+        // 우선순위 정렬은 구간으로 좁힌 한 달치 행에서만 한다
+        List<Map<String, Object>> plan = explain(sqlLog.lastSelectFrom("wishlists"));
+        assertEquals("idx_wishlists_user_created_at", String.valueOf(plan.get(0).get("key")), () -> "실행 계획: " + plan);
+        assertEquals("range", String.valueOf(plan.get(0).get("type")), () -> "실행 계획: " + plan);
+    }
+
+    private void seedShelves(Long ownerId, long bookIdOffset) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> droppedBooks = new ArrayList<>();
+        List<Object[]> timestamped = new ArrayList<>();
+        for (int i = 0; i < ROWS_PER_USER; i++) {
+            LocalDate day = FIRST_DAY.plusDays(i);
+            Timestamp noon = Timestamp.valueOf(day.atTime(12, 0));
+            books.add(new Object[]{bookIdOffset + i + 1, ownerId, "책 " + i, Date.valueOf(day), now});
+            droppedBooks.add(new Object[]{ownerId, "그만 읽은 책 " + i, Date.valueOf(day)});
+            timestamped.add(new Object[]{ownerId, "책 " + i, noon, noon});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, user_id, title, rating, finished_date, created_at) " +
+                "VALUES (?, ?, ?, 4, ?, ?)", books);
+        jdbcTemplate.batchUpdate("INSERT INTO dropped_books (user_id, title, reading_type, dropped_date, " +
+                "created_at, updated_at) VALUES (?, ?, 'PAPER_BOOK', ?, NOW(), NOW())", droppedBooks);
+        jdbcTemplate.batchUpdate("INSERT INTO currently_reading (user_id, title, reading_type, progress_percentage, " +
+                "created_at, updated_at) VALUES (?, ?, 'PAPER_BOOK', 0, ?, ?)", timestamped);
+        jdbcTemplate.batchUpdate("INSERT INTO wishlists (user_id, title, priority, created_at, updated_at) " +
+                "VALUES (?, ?, 3, ?, ?)", timestamped);
+    }
+}
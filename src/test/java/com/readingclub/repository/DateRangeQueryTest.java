@@ -0,0 +1,47 @@
+package com.readingclub.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 연도/연월 조회가 인덱스를 쓰는 [시작, 끝) 구간 조회로 위임되는지 확인
+ */
+class DateRangeQueryTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Test
+    void 연도_조회는_다음_해_1월_1일_전까지() {
+        BookRepository bookRepository = mock(BookRepository.class, CALLS_REAL_METHODS);
+
+        bookRepository.findByUserIdAndYear(USER_ID, 2024);
+
+        verify(bookRepository).findByUserIdAndFinishedDateRange(
+                USER_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    void 연월_조회는_다음_달_1일_전까지() {
+        BookRepository bookRepository = mock(BookRepository.class, CALLS_REAL_METHODS);
+
+        bookRepository.findByUserIdAndYearAndMonth(USER_ID, 2024, 2);
+
+        verify(bookRepository).findByUserIdAndFinishedDateRange(
+                USER_ID, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void 십이월_조회는_다음_해로_넘어간다() {
+        DroppedBookRepository droppedBookRepository = mock(DroppedBookRepository.class, CALLS_REAL_METHODS);
+
+        droppedBookRepository.findByUserIdAndYearAndMonth(USER_ID, 2024, 12);
+
+        verify(droppedBookRepository).findByUserIdAndDroppedDateRange(
+                USER_ID, LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 1));
+    }
+}
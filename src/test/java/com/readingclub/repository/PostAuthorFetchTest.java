@@ -0,0 +1,129 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.support.SqlLog;
+import com.readingclub.util.FeedCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 목록 조회가 작성자를 같은 SELECT 로 읽는지 확인 (페이지 크기만큼 사용자 조회가 늘지 않아야 함)
+ */
+class PostAuthorFetchTest extends MySqlJpaTest {
+
+    private static final int AUTHORS = 5;
+    private static final int POSTS = 30;
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final FeedCursor FIRST = FeedCursor.first();
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final List<User> authors = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(persistUser("작성자" + i));
+        }
+        for (int i = 0; i < POSTS; i++) {
+            Post post = Post.builder()
+                    .user(authors.get(i % AUTHORS))
+                    .postType(PostType.REVIEW)
+                    .visibility(PostVisibility.PUBLIC)
+                    .bookIsbn("9780000000001")
+                    .bookTitle("같은 책")
+                    .bookAuthor("저자")
+                    .title("독후감 " + i)
+                    .content("내용 " + i)
+                    .build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        startCounting();
+    }
+
+    @Test
+    void 필터_조회는_게시글과_작성자를_한_번에_읽는다() {
+        List<Post> posts = postRepository.findSliceWithFilters(null, PostVisibility.PUBLIC, null, PAGE).getContent();
+
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    @Test
+    void 전체_개수를_세는_조회는_COUNT_하나만_더한다() {
+        List<Post> posts = postRepository.findPostsWithFilters(null, PostVisibility.PUBLIC, null, PAGE).getContent();
+
+        assertAuthorsLoadedWith(posts, 2);
+    }
+
+    @Test
+    void 커서_조회는_게시글과_작성자를_한_번에_읽는다() {
+        List<Post> posts = postRepository.findByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), PAGE);
+
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    @Test
+    void 책별_커서_조회는_게시글과_작성자를_한_번에_읽는다() {
+        List<Post> posts = postRepository.findByBookIsbnAndVisibilityBeforeCursor(
+                "9780000000001", PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), PAGE);
+
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    @Test
+    void 검색_조회는_게시글과_작성자를_한_번에_읽는다() {
+        List<Post> posts = postRepository.findSliceByKeywordInTitleOrContentOrBookTitle("독후감", PAGE).getContent();
+
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    @Test
+    void 내_게시글_조회는_게시글과_작성자를_한_번에_읽는다() {
+        User author = entityManager.getReference(User.class, authors.get(0).getId());
+        sqlLog.clear();
+
+        List<Post> posts = postRepository.findByUserAndVisibilityOrderByCreatedAtDesc(
+                author, PostVisibility.PUBLIC, PageRequest.of(0, POSTS)).getContent();
+
+        assertEquals(POSTS / AUTHORS, posts.size());
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    @Test
+    void ID_목록_조회는_게시글과_작성자를_한_번에_읽는다() {
+        List<Post> posts = postRepository.findByIdIn(postIds);
+
+        assertEquals(POSTS, posts.size());
+        assertAuthorsLoadedWith(posts, 1);
+    }
+
+    // 응답 변환처럼 작성자 필드를 모두 읽은 뒤에도 SELECT 수가 그대로인지 확인
+    private void assertAuthorsLoadedWith(List<Post> posts, int expectedSelects) {
+        assertTrue(!posts.isEmpty());
+        for (Post post : posts) {
+            post.getUser().getNickname();
+            post.getUser().getProfileImage();
+        }
+
+        List<SqlLog.Statement> selects = sqlLog.selects();
+        assertEquals(expectedSelects, selects.size(), () -> "실행된 SELECT: " + selects);
+        assertTrue(selects.get(0).touches("users"), () -> "작성자를 조인하지 않음: " + selects.get(0).sql());
+    }
+}
@@ -0,0 +1,118 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.util.FeedCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 통합 피드 첫 페이지의 지연 시간을 게시글 수에 따라 비교
+ * 이전: "공개 OR 내 글" 한 번의 조회 (어느 인덱스로도 순서대로 읽을 수 없어 후보 전체를 filesort)
+ * 이후: 공개 / 내 비공개 두 스트림의 키를 인덱스 순서대로 읽어 병합한 뒤 한 페이지 요약만 로딩
+ * 측정값(중앙값)은 테스트 리포트에 남기고, 가장 큰 크기에서 병합 쪽이 더 빠른지만 확인한다.
+ */
+class PostFeedLatencyTest extends MySqlJpaTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int RUNS = 15;
+    private static final List<Integer> TABLE_SIZES = List.of(5_000, 50_000);
+    private static final Comparator<FeedCursor> NEWEST_FIRST = Comparator.comparing(FeedCursor::createdAt)
+            .thenComparing(FeedCursor::id)
+            .reversed();
+
+    // 삭제된 통합 피드 조회와 같은 모양 (작성자 함께 로딩, 최신순)
+    private static final String OR_QUERY =
+            "SELECT p.*, u.nickname FROM posts p JOIN users u ON u.id = p.user_id " +
+            "WHERE (p.visibility = 'PUBLIC' OR p.user_id = ?) " +
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT ?";
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private User me;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        me = persistUser("나");
+        other = persistUser("다른 사용자");
+        entityManager.flush();
+    }
+
+    @Test
+    void 게시글이_늘어도_병합_스트림은_전체를_정렬하지_않는다(TestReporter reporter) {
+        Map<String, String> timings = new LinkedHashMap<>();
+        Duration orAtLargest = null;
+        Duration mergedAtLargest = null;
+
+        int seeded = 0;
+        for (int size : TABLE_SIZES) {
+            seedPosts(seeded, size);
+            seeded = size;
+            startCounting();
+
+            assertEquals(orQueryIds(), mergedStreamIds(), "두 방식의 첫 페이지가 같아야 함");
+
+            Duration orQuery = medianTime(RUNS, this::orQueryIds);
+            Duration merged = medianTime(RUNS, this::mergedStreamIds);
+            timings.put("posts=" + size, "OR " + orQuery.toMillis() + "ms, 병합 " + merged.toMillis() + "ms");
+            orAtLargest = orQuery;
+            mergedAtLargest = merged;
+        }
+
+        reporter.publishEntry(timings);
+        Duration or = orAtLargest;
+        Duration merged = mergedAtLargest;
+        assertTrue(merged.compareTo(or) < 0, () -> "지연 시간: " + timings);
+    }
+
+    private List<Long> orQueryIds() {
+        return jdbcTemplate.query(OR_QUERY, (rs, rowNum) -> rs.getLong("id"), me.getId(), PAGE_SIZE);
+    }
+
+    private List<Long> mergedStreamIds() {
+        FeedCursor first = FeedCursor.first();
+        Pageable top = PageRequest.of(0, PAGE_SIZE);
+        List<FeedCursor> publicKeys = postRepository.findKeysByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, first.createdAt(), first.id(), top);
+        List<FeedCursor> myPrivateKeys = postRepository.findKeysByUserIdAndVisibilityBeforeCursor(
+                me.getId(), PostVisibility.PRIVATE, first.createdAt(), first.id(), top);
+
+        List<Long> ids = Stream.concat(publicKeys.stream(), myPrivateKeys.stream())
+                .sorted(NEWEST_FIRST)
+                .limit(PAGE_SIZE)
+                .map(FeedCursor::id)
+                .toList();
+        assertEquals(ids.size(), postRepository.findSummariesByIdIn(ids).size());
+        return ids;
+    }
+
+    // from 번째 다음부터 to 번째 게시글까지 추가 (절반은 공개, 10건 중 2건은 내 글이고 그중 하나는 비공개)
+    private void seedPosts(int from, int to) {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + to);
+        jdbcTemplate.update("INSERT INTO posts (user_id, post_type, visibility, book_isbn, book_title, " +
+                "book_author, comment_count, active_comment_count, like_count, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT ? UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT IF(n % 10 IN (0, 5), ?, ?), 'REVIEW', IF(n % 2 = 0, 'PUBLIC', 'PRIVATE'), " +
+                "CONCAT('978', n), CONCAT('책 ', n), '저자', 0, 0, 0, " +
+                "TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, TIMESTAMP('2024-01-01') + INTERVAL n MINUTE FROM seq",
+                from + 1, to, me.getId(), other.getId());
+        assertEquals(to, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Integer.class));
+    }
+}
@@ -0,0 +1,132 @@
+package com.readingclub.repository;
+
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.util.FeedCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 통합 피드의 두 스트림(공개 / 내 비공개)이 각자의 인덱스를 최신순으로 읽는지 실행 계획으로 확인
+ */
+class PostFeedQueryPlanTest extends MySqlJpaTest {
+
+    private static final int POSTS_PER_USER = 1500;
+    private static final Pageable TOP = PageRequest.of(0, 21);
+    private static final FeedCursor FIRST = FeedCursor.first();
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private User me;
+
+    @BeforeEach
+    void setUp() {
+        me = persistUser("나");
+        User other = persistUser("다른 사용자");
+        entityManager.flush();
+
+        seedPosts(me.getId());
+        seedPosts(other.getId());
+        startCounting();
+    }
+
+    @Test
+    void 공개_스트림은_공개설정_인덱스를_filesort_없이_읽는다() {
+        List<FeedCursor> keys = postRepository.findKeysByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), TOP);
+
+        assertNewestFirst(keys);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_visibility_created_at_id");
+    }
+
+    @Test
+    void 내_비공개_스트림은_사용자_인덱스를_filesort_없이_읽는다() {
+        List<FeedCursor> keys = postRepository.findKeysByUserIdAndVisibilityBeforeCursor(
+                me.getId(), PostVisibility.PRIVATE, FIRST.createdAt(), FIRST.id(), TOP);
+
+        assertNewestFirst(keys);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_user_visibility_created_at_id");
+    }
+
+    @Test
+    void 타입별_스트림도_인덱스를_filesort_없이_읽는다() {
+        postRepository.findKeysByPostTypeAndVisibilityBeforeCursor(
+                PostType.REVIEW, PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), TOP);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_type_visibility_created_at_id");
+
+        postRepository.findKeysByUserIdAndPostTypeAndVisibilityBeforeCursor(
+                me.getId(), PostType.REVIEW, PostVisibility.PRIVATE, FIRST.createdAt(), FIRST.id(), TOP);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_user_visibility_created_at_id");
+    }
+
+    @Test
+    void 작성자를_함께_읽는_커서_조회도_게시글_인덱스가_조회를_이끈다() {
+        postRepository.findByVisibilityBeforeCursor(
+                PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), TOP);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_visibility_created_at_id");
+
+        postRepository.findByUserIdAndVisibilityBeforeCursor(
+                me.getId(), PostVisibility.PRIVATE, FIRST.createdAt(), FIRST.id(), TOP);
+        assertIndexOrderedScan(sqlLog.lastSelectFrom("posts"), "idx_posts_user_visibility_created_at_id");
+    }
+
+    @Test
+    void 병합된_키로_요약을_한_번에_읽는다() {
+        List<Long> ids = postRepository.findKeysByVisibilityBeforeCursor(
+                        PostVisibility.PUBLIC, FIRST.createdAt(), FIRST.id(), TOP).stream()
+                .map(FeedCursor::id)
+                .toList();
+        sqlLog.clear();
+
+        List<PostRepository.SummaryView> summaries = postRepository.findSummariesByIdIn(ids);
+
+        assertEquals(ids.size(), summaries.size());
+        assertEquals(1, sqlLog.selects().size());
+        assertTrue(summaries.stream().allMatch(summary -> summary.getVisibility() == PostVisibility.PUBLIC));
+    }
+
+    // 게시글 절반은 공개, 절반은 비공개 (타입은 돌아가며, 작성 시각은 분 단위로 흩어 놓음)
+    private void seedPosts(Long userId) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PostType[] types = PostType.values();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < POSTS_PER_USER; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i * 7L + userId));
+            rows.add(new Object[]{
+                    userId,
+                    types[i % types.length].name(),
+                    (i % 2 == 0 ? PostVisibility.PUBLIC : PostVisibility.PRIVATE).name(),
+                    "978" + i,
+                    "책 " + i,
+                    createdAt,
+                    createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (user_id, post_type, visibility, book_isbn, book_title, " +
+                "book_author, comment_count, active_comment_count, like_count, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, '저자', 0, 0, 0, ?, ?)", rows);
+    }
+
+    private void assertNewestFirst(List<FeedCursor> keys) {
+        assertEquals(TOP.getPageSize(), keys.size());
+        Comparator<FeedCursor> newestFirst = Comparator.comparing(FeedCursor::createdAt)
+                .thenComparing(FeedCursor::id)
+                .reversed();
+        assertEquals(keys.stream().sorted(newestFirst).toList(), keys);
+    }
+}
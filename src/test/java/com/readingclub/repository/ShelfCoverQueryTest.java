@@ -0,0 +1,95 @@
+package com.readingclub.repository;
+
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 이번 달 표지 조회가 한 번의 UNION ALL 로 네 서재를 [1일, 다음 달 1일) 구간에서 읽고 서재 순서대로 돌려주는지 확인
+ */
+class ShelfCoverQueryTest extends MySqlJpaTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userId = persistUser("다독가").getId();
+        otherUserId = persistUser("다른 사용자").getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void 달_경계_안의_표지만_서재별로_정렬해_읽는다() {
+        insertBook(1L, userId, LocalDate.of(2024, 2, 29), "c-february");
+        insertBook(2L, userId, LocalDate.of(2024, 3, 1), "c-first");
+        insertBook(3L, userId, LocalDate.of(2024, 3, 31), "c-last");
+        insertBook(4L, userId, LocalDate.of(2024, 4, 1), "c-april");
+        insertBook(5L, userId, LocalDate.of(2024, 3, 10), " ");
+        insertBook(6L, otherUserId, LocalDate.of(2024, 3, 10), "c-other");
+
+        insertCurrentlyReading(LocalDateTime.of(2024, 2, 29, 23, 59, 59), "r-february");
+        insertCurrentlyReading(LocalDateTime.of(2024, 3, 31, 23, 59, 59), "r-march");
+        insertCurrentlyReading(LocalDateTime.of(2024, 4, 1, 0, 0), "r-april");
+
+        insertDroppedBook(LocalDate.of(2024, 3, 15), "d-march");
+        insertDroppedBook(LocalDate.of(2024, 4, 15), "d-april");
+
+        insertWishlist(3, LocalDateTime.of(2024, 3, 20, 12, 0), "w-low");
+        insertWishlist(1, LocalDateTime.of(2024, 3, 5, 12, 0), "w-high-old");
+        insertWishlist(1, LocalDateTime.of(2024, 3, 10, 12, 0), "w-high");
+        insertWishlist(1, LocalDateTime.of(2024, 4, 1, 0, 0), "w-april");
+
+        startCounting();
+        LocalDate start = MARCH.atDay(1);
+        LocalDate end = MARCH.plusMonths(1).atDay(1);
+        List<BookRepository.ShelfCoverView> covers = bookRepository.findShelfCoversBetween(
+                userId, start, end, start.atStartOfDay(), end.atStartOfDay());
+
+        assertEquals(List.of(
+                "COMPLETED:c-last", "COMPLETED:c-first",
+                "READING:r-march",
+                "DROPPED:d-march",
+                "WISHLIST:w-high", "WISHLIST:w-high-old", "WISHLIST:w-low"),
+                covers.stream().map(cover -> cover.getShelf() + ":" + cover.getCoverImage()).toList());
+        assertEquals(1, sqlLog.selects().size());
+    }
+
+    private void insertBook(Long id, Long ownerId, LocalDate finishedDate, String coverImage) {
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, rating, finished_date, cover_image, created_at) " +
+                "VALUES (?, ?, ?, 4, ?, ?, NOW())", id, ownerId, "책 " + id, Date.valueOf(finishedDate), coverImage);
+    }
+
+    private void insertCurrentlyReading(LocalDateTime createdAt, String coverImage) {
+        jdbcTemplate.update("INSERT INTO currently_reading (user_id, title, reading_type, progress_percentage, " +
+                "cover_image, created_at, updated_at) VALUES (?, '읽는 책', 'PAPER_BOOK', 0, ?, ?, ?)",
+                userId, coverImage, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private void insertDroppedBook(LocalDate droppedDate, String coverImage) {
+        jdbcTemplate.update("INSERT INTO dropped_books (user_id, title, reading_type, dropped_date, cover_image, " +
+                "created_at, updated_at) VALUES (?, '그만 읽은 책', 'PAPER_BOOK', ?, ?, NOW(), NOW())",
+                userId, Date.valueOf(droppedDate), coverImage);
+    }
+
+    private void insertWishlist(int priority, LocalDateTime createdAt, String coverImage) {
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, title, priority, cover_image, created_at, updated_at) " +
+                "VALUES (?, '읽고 싶은 책', ?, ?, ?, ?)",
+                userId, priority, coverImage, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+}
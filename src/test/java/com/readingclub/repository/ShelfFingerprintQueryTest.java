@@ -0,0 +1,55 @@
+package com.readingclub.repository;
+
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일괄 가져오기 중복 제외용 지문을 한 번의 UNION 으로 네 서재에서 모두 읽고, 다른 사용자의 지문은 섞이지 않는지 확인
+ */
+class ShelfFingerprintQueryTest extends MySqlJpaTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userId = persistUser("다독가").getId();
+        otherUserId = persistUser("다른 사용자").getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void 네_서재의_지문을_중복_없이_한_번에_읽는다() {
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, rating, finished_date, fingerprint, created_at) " +
+                "VALUES (1, ?, '완독', 4, CURDATE(), '완독|저자', NOW()), " +
+                "(2, ?, '다시 읽은 책', 4, CURDATE(), '다시읽은책|저자', NOW()), " +
+                "(3, ?, '남의 책', 4, CURDATE(), '남의책|저자', NOW())", userId, userId, otherUserId);
+        jdbcTemplate.update("INSERT INTO currently_reading (user_id, title, reading_type, progress_percentage, " +
+                "fingerprint, created_at, updated_at) VALUES (?, '읽는 책', 'PAPER_BOOK', 0, '읽는책|저자', NOW(), NOW()), " +
+                "(?, '다시 읽은 책', 'PAPER_BOOK', 0, '다시읽은책|저자', NOW(), NOW())", userId, userId);
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, title, priority, fingerprint, created_at, updated_at) " +
+                "VALUES (?, '읽고 싶은 책', 3, '읽고싶은책|저자', NOW(), NOW()), " +
+                "(?, '지문 없는 책', 3, NULL, NOW(), NOW())", userId, userId);
+        jdbcTemplate.update("INSERT INTO dropped_books (user_id, title, reading_type, dropped_date, fingerprint, " +
+                "created_at, updated_at) VALUES (?, '그만 읽은 책', 'PAPER_BOOK', CURDATE(), '그만읽은책|저자', NOW(), NOW())",
+                userId);
+
+        startCounting();
+        List<String> fingerprints = bookRepository.findShelfFingerprintsByUserId(userId);
+
+        assertEquals(5, fingerprints.size());
+        assertEquals(Set.of("완독|저자", "다시읽은책|저자", "읽는책|저자", "읽고싶은책|저자", "그만읽은책|저자"),
+                Set.copyOf(fingerprints));
+        assertEquals(1, sqlLog.selects().size());
+    }
+}
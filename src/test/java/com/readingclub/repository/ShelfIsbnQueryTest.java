@@ -0,0 +1,81 @@
+package com.readingclub.repository;
+
+import com.readingclub.config.ShelfFingerprintInitializer;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.util.BookFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 네 서재의 ISBN 이 ISBN-10/13 어느 형식으로 들어와도 같은 키로 채워지고,
+ * 제목 표기가 달라도 ISBN 조회 한 번으로 (user_id, isbn_key) 인덱스에서 찾는지 확인
+ */
+class ShelfIsbnQueryTest extends MySqlJpaTest {
+
+    // 같은 책의 ISBN-10 / 하이픈 있는 ISBN-13 / ISBN-13 표기
+    private static final String ISBN10 = "89-374-6001-7";
+    private static final String ISBN13_HYPHENATED = "978-89-374-6001-2";
+    private static final String ISBN13 = "9788937460012";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = persistUser("다독가").getId();
+        Long otherUserId = persistUser("다른 사용자").getId();
+        entityManager.flush();
+
+        // 컬럼 추가 이전 행처럼 지문/ISBN 키 없이 넣는다
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, author, isbn, rating, finished_date, created_at) " +
+                "VALUES (1, ?, '데미안', '헤르만 헤세', ?, 4, CURDATE(), NOW()), " +
+                "(2, ?, '데미안', '헤르만 헤세', ?, 4, CURDATE(), NOW())", userId, ISBN10, otherUserId, ISBN10);
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, title, author, isbn, priority, created_at, updated_at) " +
+                "VALUES (?, '데미안 (민음사 세계문학전집 44)', '헤세', ?, 3, NOW(), NOW())", userId, ISBN13);
+        jdbcTemplate.update("INSERT INTO currently_reading (user_id, title, isbn, reading_type, progress_percentage, " +
+                "created_at, updated_at) VALUES (?, '수레바퀴 아래서', '9788937460050', 'PAPER_BOOK', 0, NOW(), NOW())",
+                userId);
+        jdbcTemplate.update("INSERT INTO dropped_books (user_id, title, isbn, reading_type, dropped_date, " +
+                "created_at, updated_at) VALUES (?, 'Demian', ?, 'PAPER_BOOK', CURDATE(), NOW(), NOW())",
+                userId, ISBN13_HYPHENATED);
+
+        new ShelfFingerprintInitializer(jdbcTemplate).backfill();
+        startCounting();
+    }
+
+    @Test
+    void 제목이_달라도_같은_ISBN이면_네_서재에서_찾는다() {
+        List<BookRepository.ShelfEntryView> entries = bookRepository.findShelfEntriesByIsbnKey(userId, ISBN13);
+
+        assertEquals(List.of("COMPLETED:데미안", "DROPPED:Demian", "WISHLIST:데미안 (민음사 세계문학전집 44)"),
+                entries.stream().map(entry -> entry.getShelf() + ":" + entry.getTitle()).sorted().toList());
+
+        // 지문으로는 표기가 다른 위시리스트와 읽다 만 책을 찾지 못한다
+        assertEquals(1, bookRepository.findShelfEntriesByFingerprint(
+                userId, BookFingerprint.lookupPattern("데미안", "헤르만 헤세")).size());
+    }
+
+    @Test
+    void ISBN_조회는_서재마다_ISBN_키_인덱스를_쓴다() {
+        bookRepository.findShelfEntriesByIsbnKey(userId, ISBN13);
+
+        List<Map<String, Object>> plan = explain(sqlLog.lastSelectFrom("books"));
+        List<String> keys = plan.stream()
+                .map(row -> row.get("key"))
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .toList();
+        assertEquals(4, keys.size(), () -> "실행 계획: " + plan);
+        assertTrue(keys.stream().allMatch(key -> key.endsWith("_user_isbn_key")), () -> "실행 계획: " + plan);
+    }
+}
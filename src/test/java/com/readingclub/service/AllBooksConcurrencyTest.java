@@ -0,0 +1,165 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.config.ExecutorConfig;
+import com.readingclub.dto.BookDto;
+import com.readingclub.entity.User;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import com.readingclub.support.MySqlJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 모든 책 상태 조회를 커넥션 풀보다 많은 요청이 동시에 호출해도, 요청 스레드가 커넥션을 잡고 기다리지 않아
+ * 서재 조회가 풀을 나눠 쓰고 모두 끝나는지 확인 (open-in-view 와 같이 요청 스레드마다 EntityManager 를 열어 둠)
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + AllBooksConcurrencyTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class AllBooksConcurrencyTest extends MySqlJpaTest {
+
+    static final int POOL_SIZE = 4;
+    private static final int CALLERS = POOL_SIZE * 3;
+    private static final int CALLS_PER_CALLER = 5;
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Autowired
+    private DroppedBookRepository droppedBookRepository;
+    @Autowired
+    private WishlistRepository wishlistRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ThreadPoolTaskExecutor shelfLoadExecutor;
+    private BookService bookService;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        shelfLoadExecutor = new ExecutorConfig().shelfLoadExecutor(8, 100);
+        shelfLoadExecutor.initialize();
+        bookService = new BookService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, userRepository, transactionManager, mock(MonthlyCoverCache.class),
+                mock(UserStatsService.class), new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                mock(BookCatalogService.class), shelfLoadExecutor);
+
+        // 서재 조회 스레드에서 읽어야 하므로 테스트 트랜잭션 없이 커밋해 둔다
+        userId = userRepository.save(User.builder()
+                .kakaoId(UUID.randomUUID().toString())
+                .nickname("다독가")
+                .build()).getId();
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO books (id, user_id, title, rating, finished_date, created_at) " +
+                    "VALUES (?, ?, ?, 4, CURDATE(), NOW())", 900_000L + userId * 10 + i, userId, "책 " + i);
+        }
+        jdbcTemplate.update("INSERT INTO currently_reading (user_id, title, reading_type, progress_percentage, " +
+                "created_at, updated_at) VALUES (?, '읽는 책', 'PAPER_BOOK', 0, NOW(), NOW())", userId);
+        jdbcTemplate.update("INSERT INTO dropped_books (user_id, title, reading_type, dropped_date, " +
+                "created_at, updated_at) VALUES (?, '그만 읽은 책', 'PAPER_BOOK', CURDATE(), NOW(), NOW())", userId);
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, title, priority, created_at, updated_at) " +
+                "VALUES (?, '읽고 싶은 책', 3, NOW(), NOW())", userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shelfLoadExecutor.shutdown();
+        for (String table : List.of("books", "currently_reading", "dropped_books", "wishlists")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE user_id = ?", userId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void 풀보다_많은_요청이_동시에_조회해도_모두_끝난다() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<BookDto.AllBooksResponse>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(inRequestScope(() -> {
+                    start.await();
+                    List<BookDto.AllBooksResponse> responses = new ArrayList<>();
+                    for (int call = 0; call < CALLS_PER_CALLER; call++) {
+                        responses.add(bookService.getAllUserBooks(userId, PageRequest.of(0, 10), 20,
+                                null, null, null, null));
+                    }
+                    return responses;
+                })));
+            }
+            start.countDown();
+
+            for (Future<List<BookDto.AllBooksResponse>> result : results) {
+                for (BookDto.AllBooksResponse response : result.get(30, TimeUnit.SECONDS)) {
+                    assertEquals(3, response.getTotalFinishedBooks());
+                    assertEquals(1, response.getTotalCurrentlyReading());
+                    assertEquals(1, response.getTotalDroppedBooks());
+                    assertEquals(1, response.getTotalWishlistBooks());
+                }
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void 없는_사용자는_서재_조회_안에서_거절한다() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.getAllUserBooks(
+                -1L, PageRequest.of(0, 10), 20, null, null, null, null));
+    }
+
+    /**
+     * OpenEntityManagerInViewInterceptor 처럼 요청 스레드에 EntityManager 를 열어 두고 실행
+     */
+    private <T> Callable<T> inRequestScope(Callable<T> request) {
+        return () -> {
+            EntityManagerHolder holder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+            try {
+                return request.call();
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+                holder.getEntityManager().close();
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.dto.BookDto;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.support.SqlLog;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 책 1만 권 사용자의 내 서재 필터 조합이 올바른 결과를 (user_id, finished_date) 인덱스로 읽는지 확인
+ */
+class BookFilterQueryTest extends MySqlJpaTest {
+
+    private static final int BOOKS = 10_000;
+    private static final int OTHER_USER_BOOKS = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDate FIRST_FINISHED = LocalDate.of(2015, 1, 1);
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private BookService bookService;
+    private Long userId;
+    private final List<Row> rows = new ArrayList<>();
+
+    // 시드 데이터 한 행 (기대 결과 계산용)
+    private record Row(long id, String title, String author, int rating, LocalDate finishedDate) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookService = new BookService(bookRepository, mock(CurrentlyReadingRepository.class),
+                mock(DroppedBookRepository.class), mock(WishlistRepository.class), userRepository,
+                mock(PlatformTransactionManager.class), mock(MonthlyCoverCache.class), mock(UserStatsService.class),
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                mock(BookCatalogService.class), Runnable::run);
+
+        userId = persistUser("다독가").getId();
+        Long otherUserId = persistUser("다른 사용자").getId();
+        entityManager.flush();
+
+        for (int i = 0; i < BOOKS; i++) {
+            rows.add(new Row(i + 1, "책 " + i, i % 10 == 0 ? "Han Kang" : "저자 " + (i % 50),
+                    i % 5 + 1, FIRST_FINISHED.plusDays((i * 7L) % 3650)));
+        }
+        insertBooks(userId, rows);
+
+        List<Row> otherRows = new ArrayList<>();
+        for (int i = 0; i < OTHER_USER_BOOKS; i++) {
+            otherRows.add(new Row(BOOKS + i + 1, "책 " + i, "Han Kang", 5, FIRST_FINISHED.plusDays(i)));
+        }
+        insertBooks(otherUserId, otherRows);
+        startCounting();
+    }
+
+    @Test
+    void 조건이_없으면_완독일_최신순_전체() {
+        assertFilter(null, null, null, null, row -> true);
+    }
+
+    @Test
+    void 연도_조건() {
+        assertFilter(2020, null, null, null, row -> row.finishedDate().getYear() == 2020);
+    }
+
+    @Test
+    void 연월_조건() {
+        assertFilter(2020, 2, null, null,
+                row -> row.finishedDate().getYear() == 2020 && row.finishedDate().getMonthValue() == 2);
+    }
+
+    @Test
+    void 별점_조건() {
+        assertFilter(null, null, 4, null, row -> row.rating() == 4);
+    }
+
+    @Test
+    void 검색_조건은_제목과_저자를_대소문자_없이_찾는다() {
+        assertFilter(null, null, null, "han kang", row -> row.author().equals("Han Kang"));
+    }
+
+    @Test
+    void 연도와_별점_조건() {
+        assertFilter(2018, null, 5, null, row -> row.finishedDate().getYear() == 2018 && row.rating() == 5);
+    }
+
+    @Test
+    void 모든_조건_조합() {
+        assertFilter(2019, 6, 1, "Han", row -> row.finishedDate().getYear() == 2019
+                && row.finishedDate().getMonthValue() == 6
+                && row.rating() == 1
+                && row.author().equals("Han Kang"));
+    }
+
+    private void assertFilter(Integer year, Integer month, Integer rating, String search, Predicate<Row> expected) {
+        List<Row> matching = rows.stream()
+                .filter(expected)
+                .sorted(Comparator.comparing(Row::finishedDate).thenComparing(Row::id).reversed())
+                .toList();
+
+        sqlLog.clear();
+        Page<BookDto.Response> page = bookService.getUserBooks(userId, PageRequest.of(0, PAGE_SIZE),
+                year, month, rating, search);
+
+        assertEquals(matching.size(), page.getTotalElements());
+        assertEquals(matching.stream().limit(PAGE_SIZE).map(Row::id).toList(),
+                page.getContent().stream().map(BookDto.Response::getId).toList());
+
+        SqlLog.Statement contentQuery = sqlLog.selects().stream()
+                .filter(statement -> statement.touches("books") && statement.sql().toLowerCase().contains("order by"))
+                .findFirst()
+                .orElseThrow();
+        assertIndexOrderedScan(contentQuery, "idx_books_user_finished_date");
+
+        // 완독일 조건이 있으면 인덱스에서 그 구간만 읽는다
+        if (year != null) {
+            List<Map<String, Object>> plan = explain(contentQuery);
+            long estimatedRows = ((Number) plan.get(0).get("rows")).longValue();
+            assertEquals("range", String.valueOf(plan.get(0).get("type")), () -> "실행 계획: " + plan);
+            assertTrue(estimatedRows < BOOKS / 5, () -> "예상 읽기 행 수: " + estimatedRows);
+        }
+    }
+
+    private void insertBooks(Long ownerId, List<Row> books) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = books.stream()
+                .map(row -> new Object[]{row.id(), ownerId, row.title(), row.author(), row.rating(),
+                        Date.valueOf(row.finishedDate()), now})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, user_id, title, author, rating, finished_date, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", args);
+    }
+}
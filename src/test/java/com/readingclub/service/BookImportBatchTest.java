@@ -0,0 +1,105 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.config.IdGeneratorInitializer;
+import com.readingclub.dto.BookDto;
+import com.readingclub.entity.User;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CatalogBookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import com.readingclub.support.MySqlJpaTest;
+import com.readingclub.support.SqlLog;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 오천 행 가져오기가 구간마다 카탈로그 batch UPSERT 한 번과 책 배치 INSERT 로 저장되는지 실제 MySQL 에서 확인하고 시간을 기록
+ */
+@Import(IdGeneratorInitializer.class)
+class BookImportBatchTest extends MySqlJpaTest {
+
+    private static final int ROWS = 5_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Autowired
+    private DroppedBookRepository droppedBookRepository;
+    @Autowired
+    private WishlistRepository wishlistRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CatalogBookRepository catalogBookRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookService = new BookService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, userRepository, transactionManager, new MonthlyCoverCache(100),
+                mock(UserStatsService.class), new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager, new BookCatalogService(catalogBookRepository, jdbcTemplate, 10_000), Runnable::run);
+        ReflectionTestUtils.setField(bookService, "importMaxRows", 10_000);
+    }
+
+    @Test
+    void 오천_행은_구간마다_카탈로그를_한_번에_등록하고_배치로_저장한다(TestReporter reporter) {
+        User user = persistUser("다독가");
+        // 두 행씩 같은 ISBN (같은 책의 다른 판본을 따로 기록한 경우)
+        StringBuilder csv = new StringBuilder("title,author,isbn,rating,finished_date\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("책 ").append(i).append(",저자,").append(String.format("979%010d", i / 2))
+                    .append(",4,2024-02-01\n");
+        }
+        startCounting();
+
+        long startedAt = System.nanoTime();
+        BookDto.ImportResponse response = assertTimeout(Duration.ofSeconds(30), () -> bookService.importBooks(
+                user.getId(), BookService.ImportFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))));
+        reporter.publishEntry("import." + ROWS, Duration.ofNanos(System.nanoTime() - startedAt).toMillis() + "ms");
+
+        assertEquals(ROWS, response.getImported());
+        assertEquals(0, response.getFailed());
+
+        // 구간마다 서로 다른 ISBN 250개를 batch UPSERT 한 번, IN 조회 한 번
+        List<SqlLog.Statement> catalogUpserts = insertsInto("catalog_books");
+        assertEquals(ROWS / CHUNK_SIZE, catalogUpserts.size());
+        assertTrue(catalogUpserts.stream().allMatch(upsert -> upsert.batch() && upsert.batchSize() == CHUNK_SIZE / 2));
+        assertEquals(ROWS / CHUNK_SIZE, sqlLog.selects().stream()
+                .filter(statement -> statement.touches("catalog_books"))
+                .count());
+
+        assertBatchedInserts("books", ROWS, BATCH_SIZE);
+
+        assertEquals(ROWS / 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM catalog_books", Long.class));
+        assertEquals(ROWS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books b JOIN catalog_books c ON c.id = b.catalog_book_id AND c.isbn = b.isbn",
+                Long.class));
+    }
+}
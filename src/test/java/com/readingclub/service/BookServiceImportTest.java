@@ -0,0 +1,221 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.dto.BookDto;
+import com.readingclub.entity.Book;
+import com.readingclub.entity.CatalogBook;
+import com.readingclub.entity.User;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookServiceImportTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String HEADER = "title,author,rating,finished_date,type\n";
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Mock
+    private DroppedBookRepository droppedBookRepository;
+    @Mock
+    private WishlistRepository wishlistRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private MonthlyCoverCache monthlyCoverCache;
+    @Mock
+    private UserStatsService userStatsService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BookCatalogService bookCatalogService;
+
+    @Captor
+    private ArgumentCaptor<List<Book>> savedBooks;
+
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookService = new BookService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, userRepository, transactionManager, monthlyCoverCache, userStatsService,
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                bookCatalogService, Runnable::run);
+        ReflectionTestUtils.setField(bookService, "importMaxRows", 10_000);
+
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        // 완독 서재와 읽고 있는 책 서재에 하나씩 있는 책
+        when(bookRepository.findShelfFingerprintsByUserId(USER_ID)).thenReturn(List.of("기존책|저자", "읽는책|저자"));
+    }
+
+    @Test
+    void 다른_서재에_있는_책과_파일_안에서_반복된_책은_중복으로_건너뛴다() throws IOException {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+
+        BookDto.ImportResponse response = importCsv(HEADER +
+                "기존 책,저자,5,2024-01-10,\n" +
+                "읽는 책,저자,4,2024-01-20,\n" +
+                "새 책,저자,4,2024-02-01,COMPLETED\n" +
+                "새 책!,저자,3,2024-02-02,\n" +
+                "읽는 중,저자,,,READING\n");
+
+        assertEquals(5, response.getTotalRows());
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getDuplicates());
+        assertEquals(1, response.getSkipped());
+        assertEquals(0, response.getFailed());
+
+        verify(bookRepository).saveAll(savedBooks.capture());
+        List<Book> books = savedBooks.getValue();
+        assertEquals(1, books.size());
+        assertEquals("새 책", books.get(0).getTitle());
+        assertEquals(USER_ID, books.get(0).getUser().getId());
+        verify(userStatsService).booksAdded(eq(USER_ID), any());
+    }
+
+    @Test
+    void 구간마다_카탈로그를_한_번에_등록하고_참조를_연결한다() throws IOException {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+        CatalogBook catalogBook = CatalogBook.builder().id(7L).isbn("9788937460012").title("책 하나").build();
+        when(bookCatalogService.registerAll(any())).thenReturn(Map.of("9788937460012", catalogBook));
+
+        BookDto.ImportResponse response = importCsv("title,author,isbn,rating,finished_date\n" +
+                "책 하나,저자,9788937460012,4,2024-02-01\n" +
+                "책 둘,저자,,4,2024-02-02\n");
+
+        assertEquals(2, response.getImported());
+        verify(bookCatalogService).registerAll(any());
+        verify(bookCatalogService, never()).register(anyString(), any(), any(), any(), any(), any(), any());
+
+        verify(bookRepository).saveAll(savedBooks.capture());
+        List<Book> books = savedBooks.getValue();
+        assertSame(catalogBook, books.get(0).getCatalogBook());
+        assertNull(books.get(1).getCatalogBook());
+    }
+
+    @Test
+    void 검증에_실패한_행은_행_번호와_사유를_알린다() throws IOException {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+
+        BookDto.ImportResponse response = importCsv(HEADER +
+                "별점 오류,저자,9,2024-02-03,\n" +
+                "!!!,저자,4,2024-02-04,\n" +
+                ",저자,4,2024-02-05,\n" +
+                "날짜 오류,저자,4,2024/13/01,\n" +
+                "정상,저자,4,2024.02.06,\n");
+
+        assertEquals(5, response.getTotalRows());
+        assertEquals(1, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertEquals(Map.of(
+                1, "별점은 1-5 사이의 값이어야 합니다.",
+                2, "책 제목에는 글자나 숫자가 하나 이상 있어야 합니다.",
+                3, "책 제목은 필수입니다",
+                4, "완독일 형식이 올바르지 않습니다 (yyyy-MM-dd): 2024/13/01"), errorsByRow(response));
+    }
+
+    @Test
+    void 닫히지_않은_따옴표_이전_행은_저장하고_오류_행을_알린다() throws IOException {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+
+        BookDto.ImportResponse response = importCsv(HEADER +
+                "정상,저자,4,2024-02-06,\n" +
+                "\"깨진 행,저자,4,2024-02-07,\n");
+
+        assertEquals(1, response.getImported());
+        assertEquals(Map.of(2, "CSV 형식 오류: 닫히지 않은 따옴표가 있습니다."), errorsByRow(response));
+    }
+
+    @Test
+    void 저장에_실패하면_해당_구간의_행을_실패로_알린다() throws IOException {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+        when(bookRepository.saveAll(anyIterable())).thenThrow(new IllegalStateException("connection lost"));
+
+        BookDto.ImportResponse response = importCsv(HEADER +
+                "새 책,저자,4,2024-02-01,\n" +
+                "다른 책,저자,5,2024-02-02,\n");
+
+        assertEquals(0, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(Map.of(1, "저장에 실패했습니다.", 2, "저장에 실패했습니다."), errorsByRow(response));
+        verify(userStatsService, never()).booksAdded(any(), any());
+    }
+
+    @Test
+    void 오천_행은_500건씩_열_번의_트랜잭션으로_나눠_저장한다() {
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 5_000; i++) {
+            csv.append("책 ").append(i).append(",저자,4,2024-02-01,\n");
+        }
+
+        BookDto.ImportResponse response = assertTimeout(Duration.ofSeconds(10), () -> importCsv(csv.toString()));
+
+        assertEquals(5_000, response.getImported());
+        assertEquals(0, response.getFailed());
+        verify(transactionManager, times(10)).getTransaction(any());
+        verify(transactionManager, times(10)).commit(any());
+        verify(userStatsService, times(10)).booksAdded(eq(USER_ID), any());
+        verify(bookCatalogService, times(10)).registerAll(any());
+        verify(entityManager, times(10)).clear();
+
+        verify(bookRepository, times(10)).saveAll(savedBooks.capture());
+        List<List<Book>> chunks = savedBooks.getAllValues();
+        for (int chunk = 0; chunk < chunks.size(); chunk++) {
+            assertEquals(500, chunks.get(chunk).size());
+            assertEquals("책 " + chunk * 500, chunks.get(chunk).get(0).getTitle());
+            assertEquals("책 " + (chunk * 500 + 499), chunks.get(chunk).get(499).getTitle());
+        }
+    }
+
+    private BookDto.ImportResponse importCsv(String csv) throws IOException {
+        return bookService.importBooks(USER_ID, BookService.ImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Map<Integer, String> errorsByRow(BookDto.ImportResponse response) {
+        return response.getErrors().stream()
+                .collect(Collectors.toMap(BookDto.ImportResponse.RowError::getRow,
+                        BookDto.ImportResponse.RowError::getMessage));
+    }
+}
@@ -0,0 +1,98 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Comment;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.repository.CommentRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 설정 없이도 시작 시 댓글 수가 채워지지 않은 게시글만 한 번 채우고, 이미 채워진 게시글은 건드리지 않는지 확인
+ */
+class CommentCountBackfillTest extends MySqlJpaTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private CommentService commentService;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, postRepository, userRepository,
+                mock(PublicFeedCache.class), mock(CommentEventHub.class));
+        author = persistUser("댓글러");
+    }
+
+    @Test
+    void 댓글_수가_채워지지_않은_게시글만_채운다() {
+        // 컬럼 추가 이전 게시글: 댓글 3개 중 1개 삭제, 카운터는 0
+        Post legacy = persistPost(0, 0);
+        persistComment(legacy, false);
+        persistComment(legacy, false);
+        persistComment(legacy, true);
+        // 카운터를 유지해 온 게시글: 일부러 실제와 다르게 두어 건드리지 않는지 확인
+        Post maintained = persistPost(5, 4);
+        persistComment(maintained, false);
+        // 댓글이 없는 게시글
+        Post empty = persistPost(0, 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        commentService.recalculateCommentCountsOnStartup();
+
+        assertEquals(Map.of("total", 3, "active", 2), counts(legacy));
+        assertEquals(Map.of("total", 5, "active", 4), counts(maintained));
+        assertEquals(Map.of("total", 0, "active", 0), counts(empty));
+
+        // 다시 시작해도 더 채울 게시글이 없다
+        assertEquals(0, postRepository.backfillUninitializedCommentCounts());
+    }
+
+    private Post persistPost(int commentCount, int activeCommentCount) {
+        Post post = Post.builder()
+                .user(author)
+                .postType(PostType.REVIEW)
+                .visibility(PostVisibility.PUBLIC)
+                .bookIsbn("9780000000001")
+                .bookTitle("책")
+                .content("내용")
+                .commentCount(commentCount)
+                .activeCommentCount(activeCommentCount)
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private void persistComment(Post post, boolean deleted) {
+        entityManager.persist(Comment.builder()
+                .post(post)
+                .user(author)
+                .content("댓글")
+                .isDeleted(deleted)
+                .build());
+    }
+
+    private Map<String, Integer> counts(Post post) {
+        return jdbcTemplate.queryForObject(
+                "SELECT comment_count, active_comment_count FROM posts WHERE id = ?",
+                (rs, rowNum) -> Map.of("total", rs.getInt(1), "active", rs.getInt(2)),
+                post.getId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Comment;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.repository.CommentRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 댓글 삭제가 조건부 UPDATE 로 한 번만 반영되어 활성 댓글 수를 한 번만 줄이는지 확인
+ */
+class CommentDeleteTest extends MySqlJpaTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private CommentService commentService;
+    private User author;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, postRepository, userRepository,
+                mock(PublicFeedCache.class), mock(CommentEventHub.class));
+        author = persistUser("댓글러");
+        post = Post.builder()
+                .user(author)
+                .postType(PostType.REVIEW)
+                .visibility(PostVisibility.PUBLIC)
+                .bookIsbn("9780000000001")
+                .bookTitle("책")
+                .content("내용")
+                .activeCommentCount(2)
+                .build();
+        entityManager.persist(post);
+        comment = Comment.builder().post(post).user(author).content("댓글").build();
+        entityManager.persist(comment);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 두_번째_삭제는_거부하고_활성_댓글_수를_다시_줄이지_않는다() {
+        commentService.deleteComment(comment.getId(), author.getId());
+        entityManager.clear();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> commentService.deleteComment(comment.getId(), author.getId()));
+
+        assertEquals("이미 삭제된 댓글입니다.", error.getMessage());
+        assertEquals(1, activeCommentCount());
+        Comment deleted = commentRepository.findById(comment.getId()).orElseThrow();
+        assertTrue(deleted.getIsDeleted());
+        assertEquals(Comment.DELETED_CONTENT, deleted.getContent());
+    }
+
+    @Test
+    void 다른_요청이_먼저_삭제했으면_활성_댓글_수를_줄이지_않는다() {
+        // 다른 요청이 삭제 여부 확인 이후 먼저 커밋한 상황
+        assertEquals(1, commentRepository.softDeleteIfActive(
+                comment.getId(), author.getId(), Comment.DELETED_CONTENT, LocalDateTime.now()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> commentService.deleteComment(comment.getId(), author.getId()));
+        assertEquals(2, activeCommentCount());
+    }
+
+    @Test
+    void 작성자가_아니면_삭제하지_않는다() {
+        User other = persistUser("다른 사용자");
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> commentService.deleteComment(comment.getId(), other.getId()));
+
+        assertEquals("댓글을 삭제할 권한이 없습니다.", error.getMessage());
+        assertEquals(2, activeCommentCount());
+    }
+
+    private int activeCommentCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT active_comment_count FROM posts WHERE id = ?", Integer.class, post.getId());
+    }
+}
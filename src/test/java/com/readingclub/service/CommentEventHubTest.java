@@ -0,0 +1,131 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.CommentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 수신하지 않는 구독자가 하나뿐인 전송 스레드를 막고 있어도, 제한 시간이 지나면 끊기고 다른 구독자가 이벤트를 받는지 확인
+ */
+class CommentEventHubTest {
+
+    private static final Long POST_ID = 1L;
+    private static final long SEND_TIMEOUT_MS = 100;
+
+    // subscribe 가 차례로 꺼내 쓰는 emitter
+    private final Queue<SseEmitter> nextEmitters = new ConcurrentLinkedQueue<>();
+
+    private CommentEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new CommentEventHub(60_000, 100, 1, SEND_TIMEOUT_MS) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                return nextEmitters.poll();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void 수신하지_않는_구독자가_전송_스레드를_막아도_다른_구독자는_이벤트를_받는다() throws Exception {
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter recording = new RecordingEmitter();
+
+        nextEmitters.add(stalled);
+        hub.subscribe(POST_ID);
+        assertTrue(stalled.entered.await(5, TimeUnit.SECONDS));
+
+        nextEmitters.add(recording);
+        hub.subscribe(POST_ID);
+        hub.publish(POST_ID, created(10L));
+
+        // 전송 스레드가 막혀 있는 동안에는 받지 못한다
+        assertNull(recording.received.poll(SEND_TIMEOUT_MS * 2, TimeUnit.MILLISECONDS));
+
+        hub.abandonStalledSends();
+
+        assertTrue(stalled.interrupted.await(5, TimeUnit.SECONDS));
+        assertNotNull(recording.received.poll(5, TimeUnit.SECONDS), "connected 이벤트");
+        assertNotNull(recording.received.poll(5, TimeUnit.SECONDS), "댓글 이벤트");
+
+        // 끊긴 구독자를 빼고 계속 전송한다
+        hub.publish(POST_ID, created(11L));
+        assertNotNull(recording.received.poll(5, TimeUnit.SECONDS), "이후 댓글 이벤트");
+        assertTrue(hub.getSubscribedPostIds().contains(POST_ID));
+    }
+
+    @Test
+    void 제한_시간_안의_전송은_끊지_않는다() throws Exception {
+        RecordingEmitter recording = new RecordingEmitter();
+        nextEmitters.add(recording);
+        hub.subscribe(POST_ID);
+        assertNotNull(recording.received.poll(5, TimeUnit.SECONDS));
+
+        hub.abandonStalledSends();
+        hub.publish(POST_ID, created(10L));
+
+        assertNotNull(recording.received.poll(5, TimeUnit.SECONDS));
+        assertTrue(hub.getSubscribedPostIds().contains(POST_ID));
+    }
+
+    private CommentDto.StreamEvent created(Long commentId) {
+        return CommentDto.StreamEvent.builder()
+                .type(CommentDto.StreamEventType.CREATED)
+                .postId(POST_ID)
+                .comment(CommentDto.Response.builder().id(commentId).build())
+                .build();
+    }
+
+    /**
+     * TCP 창이 가득 찬 클라이언트처럼 첫 전송에서 멈추는 emitter (인터럽트되면 전송 실패)
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("전송 중단", e);
+            }
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 모아 두는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<SseEventBuilder> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.add(builder);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.CommentDto;
+import com.readingclub.entity.Comment;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.repository.CommentRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 댓글 트리 조회의 SELECT 수가 댓글 수와 트리 깊이 모두와 무관한지 확인
+ */
+class CommentTreeQueryCountTest extends MySqlJpaTest {
+
+    private static final int REPLIES_PER_ROOT = 3;
+    private static final int REPLIES_PER_REPLY = 2;
+    private static final int DEEP_THREAD_DEPTH = 12;
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private CommentService commentService;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, postRepository, userRepository,
+                mock(PublicFeedCache.class), mock(CommentEventHub.class));
+        for (int i = 0; i < 3; i++) {
+            users.add(persistUser("댓글러" + i));
+        }
+    }
+
+    @Test
+    void 전체_트리_조회는_깊이와_무관하게_일정한_쿼리로_읽는다() {
+        Long smallPostId = persistPostWithComments(2);
+        Long largePostId = persistPostWithComments(15);
+        Long deepPostId = persistPostWithThread(DEEP_THREAD_DEPTH);
+
+        int smallSelects = countSelects(() -> commentService.getCommentsByPostId(smallPostId, null, PageRequest.of(0, 20)));
+        int largeSelects = countSelects(() -> commentService.getCommentsByPostId(largePostId, null, PageRequest.of(0, 20)));
+        int deepSelects = countSelects(() -> commentService.getCommentsByPostId(deepPostId, null, PageRequest.of(0, 20)));
+
+        // 게시글 1 + 루트 댓글 1 + 하위 대댓글 ID(재귀 CTE) 1 + 대댓글과 작성자 1
+        assertEquals(4, smallSelects);
+        assertEquals(smallSelects, largeSelects);
+        assertEquals(smallSelects, deepSelects);
+
+        CommentDto.CommentListResponse large = commentService.getCommentsByPostId(largePostId, null, PageRequest.of(0, 20));
+        assertTreeShape(large.getComments().getContent(), 15);
+
+        CommentDto.CommentListResponse deep = commentService.getCommentsByPostId(deepPostId, null, PageRequest.of(0, 20));
+        assertEquals(DEEP_THREAD_DEPTH, threadDepth(deep.getComments().getContent().get(0)));
+    }
+
+    @Test
+    void 미리보기_트리_조회도_댓글_수와_깊이와_무관하다() {
+        Long smallPostId = persistPostWithComments(2);
+        Long largePostId = persistPostWithComments(15);
+        Long deepPostId = persistPostWithThread(DEEP_THREAD_DEPTH);
+
+        int smallSelects = countSelects(() -> commentService.getCommentsByCursor(smallPostId, null, null, 20, 2));
+        int largeSelects = countSelects(() -> commentService.getCommentsByCursor(largePostId, null, null, 20, 2));
+        int deepSelects = countSelects(() -> commentService.getCommentsByCursor(deepPostId, null, null, 20, 2));
+
+        // 게시글 1 + 루트 댓글 1 + 미리보기 행(재귀 CTE) 1 + 대댓글과 작성자 1
+        assertEquals(4, smallSelects);
+        assertEquals(smallSelects, largeSelects);
+        assertEquals(smallSelects, deepSelects);
+
+        // 부모마다 앞쪽 2건과 전체 대댓글 수
+        CommentDto.CursorListResponse small = commentService.getCommentsByCursor(smallPostId, null, null, 20, 2);
+        for (CommentDto.Response root : small.getComments()) {
+            assertEquals(2, root.getReplies().size());
+            assertEquals(REPLIES_PER_ROOT, root.getReplyCount());
+            assertTrue(root.getHasMoreReplies());
+            for (CommentDto.Response reply : root.getReplies()) {
+                assertEquals(REPLIES_PER_REPLY, reply.getReplies().size());
+                assertFalse(reply.getHasMoreReplies());
+            }
+        }
+
+        CommentDto.CursorListResponse deep = commentService.getCommentsByCursor(deepPostId, null, null, 20, 2);
+        assertEquals(DEEP_THREAD_DEPTH, threadDepth(deep.getComments().get(0)));
+    }
+
+    private int countSelects(Runnable call) {
+        startCounting();
+        call.run();
+        return sqlLog.selects().size();
+    }
+
+    // 루트 댓글 하나 아래로 대댓글이 한 줄로 depth 단계 이어진 스레드
+    private Long persistPostWithThread(int depth) {
+        Post post = persistPost();
+        Comment parent = persistComment(post, null, 0);
+        for (int d = 1; d <= depth; d++) {
+            parent = persistComment(post, parent, d);
+        }
+        return post.getId();
+    }
+
+    // 루트 댓글마다 대댓글 3개, 대댓글마다 다시 대댓글 2개 (깊이 3)
+    private Long persistPostWithComments(int roots) {
+        Post post = persistPost();
+
+        int sequence = 0;
+        for (int r = 0; r < roots; r++) {
+            Comment root = persistComment(post, null, sequence++);
+            for (int i = 0; i < REPLIES_PER_ROOT; i++) {
+                Comment reply = persistComment(post, root, sequence++);
+                for (int j = 0; j < REPLIES_PER_REPLY; j++) {
+                    persistComment(post, reply, sequence++);
+                }
+            }
+        }
+        return post.getId();
+    }
+
+    private Post persistPost() {
+        Post post = Post.builder()
+                .user(users.get(0))
+                .postType(PostType.REVIEW)
+                .visibility(PostVisibility.PUBLIC)
+                .bookIsbn("9780000000001")
+                .bookTitle("책")
+                .bookAuthor("저자")
+                .content("내용")
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private Comment persistComment(Post post, Comment parent, int sequence) {
+        Comment comment = Comment.builder()
+                .post(post)
+                .user(users.get(sequence % users.size()))
+                .parent(parent)
+                .content("댓글 " + sequence)
+                .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+
+    private int threadDepth(CommentDto.Response comment) {
+        int depth = 0;
+        while (!comment.getReplies().isEmpty()) {
+            comment = comment.getReplies().get(0);
+            depth++;
+        }
+        return depth;
+    }
+
+    private void assertTreeShape(List<CommentDto.Response> roots, int expectedRoots) {
+        assertEquals(expectedRoots, roots.size());
+        for (CommentDto.Response root : roots) {
+            assertEquals(REPLIES_PER_ROOT, root.getReplies().size());
+            for (CommentDto.Response reply : root.getReplies()) {
+                assertEquals(REPLIES_PER_REPLY, reply.getReplies().size());
+            }
+        }
+    }
+}
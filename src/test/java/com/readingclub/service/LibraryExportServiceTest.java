@@ -0,0 +1,172 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.entity.Book;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.WishlistRepository;
+import com.readingclub.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LibraryExportServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Mock
+    private DroppedBookRepository droppedBookRepository;
+    @Mock
+    private WishlistRepository wishlistRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LibraryExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new LibraryExportService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, postRepository, entityManager, objectMapper);
+
+        when(currentlyReadingRepository.streamByUserId(USER_ID)).thenReturn(Stream.empty());
+        when(droppedBookRepository.streamByUserId(USER_ID)).thenReturn(Stream.empty());
+        when(wishlistRepository.streamByUserId(USER_ID)).thenReturn(Stream.empty());
+        when(postRepository.streamByUserId(USER_ID)).thenReturn(Stream.empty());
+    }
+
+    @Test
+    void 한_행씩_읽어_쓰고_떼어_낸_뒤_다음_행을_읽는다() throws IOException {
+        int total = 2_000;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<Book> detached = new ArrayList<>();
+        List<Integer> bytesWhenRead = new ArrayList<>();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        doAnswer(invocation -> detached.add(invocation.getArgument(0))).when(entityManager).detach(any());
+        // 다음 행을 꺼낼 때마다 직전 행까지 모두 떼어 냈는지 확인 (목록으로 모아 두지 않음)
+        Stream<Book> books = IntStream.range(0, total)
+                .mapToObj(i -> {
+                    assertEquals(i, detached.size());
+                    bytesWhenRead.add(output.size());
+                    return book(i, "책 " + i, "저자", null);
+                })
+                .onClose(() -> closed.set(true));
+        when(bookRepository.streamByUserId(USER_ID)).thenReturn(books);
+
+        long count = exportService.export(USER_ID, LibraryExportService.Format.NDJSON, output);
+
+        assertEquals(total, count);
+        assertTrue(closed.get());
+        // 500 건마다 출력 버퍼를 내보내므로 마지막 행을 읽기 전에 이미 상당 부분이 출력돼 있어야 함
+        int linesBeforeLastRead = countLines(output.toByteArray(), bytesWhenRead.get(total - 1));
+        assertTrue(linesBeforeLastRead >= total - 500, () -> "마지막 행 읽기 전 출력된 행: " + linesBeforeLastRead);
+        verify(entityManager, times(total / 500)).clear();
+        assertEquals(total, output.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    void CSV는_쉼표_따옴표_줄바꿈과_수식_시작_문자를_이스케이프한다() throws IOException {
+        when(bookRepository.streamByUserId(USER_ID)).thenReturn(Stream.of(
+                book(1, "쉼표, 있는 제목", "\"따옴표\" 저자", "첫 줄\n둘째 줄"),
+                book(2, "=HYPERLINK(\"x\")", "-저자", "평범한 감상")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(USER_ID, LibraryExportService.Format.CSV, output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFFtype,id,title,author,"));
+        assertTrue(csv.contains("\"쉼표, 있는 제목\",\"\"\"따옴표\"\" 저자\""));
+
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<String> header = reader.readRecord();
+        List<String> first = reader.readRecord();
+        List<String> second = reader.readRecord();
+
+        assertEquals("쉼표, 있는 제목", first.get(header.indexOf("title")));
+        assertEquals("\"따옴표\" 저자", first.get(header.indexOf("author")));
+        assertEquals("첫 줄\n둘째 줄", first.get(header.indexOf("content")));
+        assertEquals("'=HYPERLINK(\"x\")", second.get(header.indexOf("title")));
+        assertEquals("'-저자", second.get(header.indexOf("author")));
+        assertEquals(header.size(), second.size());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void NDJSON은_한_줄에_한_행이고_값이_있는_컬럼만_쓴다() throws IOException {
+        when(bookRepository.streamByUserId(USER_ID)).thenReturn(Stream.of(
+                book(1, "쉼표, \"따옴표\"", "저자", "첫 줄\n둘째 줄"),
+                book(2, "=수식 아님", null, null)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(USER_ID, LibraryExportService.Format.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("COMPLETED", first.get("type").asText());
+        assertEquals("쉼표, \"따옴표\"", first.get("title").asText());
+        assertEquals("첫 줄\n둘째 줄", first.get("content").asText());
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals("=수식 아님", second.get("title").asText());
+        assertFalse(second.has("author"));
+        assertFalse(second.has("isbn"));
+    }
+
+    private Book book(long id, String title, String author, String review) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .author(author)
+                .rating(4)
+                .review(review)
+                .finishedDate(LocalDate.of(2024, 3, 1))
+                .build();
+    }
+
+    private int countLines(byte[] bytes, int length) {
+        int lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
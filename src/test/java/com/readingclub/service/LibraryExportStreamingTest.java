@@ -0,0 +1,119 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.entity.Book;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.WishlistRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실제 MySQL 에서 내보내기 스트림이 드라이버 단에서 한 행씩 읽히고, 10만 행을 내보내도 영속성 컨텍스트에 쌓이지 않는지 확인
+ */
+class LibraryExportStreamingTest extends MySqlJpaTest {
+
+    private static final int BOOKS = 100_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Autowired
+    private DroppedBookRepository droppedBookRepository;
+    @Autowired
+    private WishlistRepository wishlistRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private LibraryExportService exportService;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new LibraryExportService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, postRepository, entityManager, new ObjectMapper());
+        userId = persistUser("다독가").getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void 스트림이_열려_있는_동안_결과는_드라이버에_한꺼번에_올라오지_않는다() {
+        seedBooks(1_000);
+        startCounting();
+
+        try (Stream<Book> books = bookRepository.streamByUserId(userId)) {
+            Iterator<Book> iterator = books.iterator();
+            assertEquals(1L, iterator.next().getId());
+
+            // MySQL 드라이버는 스트리밍 결과 집합이 열려 있는 커넥션에서 다른 문장을 실행하지 못한다
+            assertThrows(DataAccessException.class, () -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        }
+    }
+
+    @Test
+    void 십만_행을_내보내도_영속성_컨텍스트에_쌓이지_않는다() throws IOException {
+        seedBooks(BOOKS);
+        startCounting();
+
+        Session session = entityManager.unwrap(Session.class);
+        LineCountingOutputStream output = new LineCountingOutputStream(session);
+        long exported = exportService.export(userId, LibraryExportService.Format.CSV, output);
+
+        assertEquals(BOOKS, exported);
+        // 머리글 한 줄 + 행마다 한 줄
+        assertEquals(BOOKS + 1, output.lines);
+        assertTrue(output.maxManagedEntities <= 1, () -> "영속성 컨텍스트 최대 엔티티 수: " + output.maxManagedEntities);
+    }
+
+    private void seedBooks(int count) {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + count);
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, author, rating, finished_date, created_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT n, ?, CONCAT('책 ', n), '저자', n % 5 + 1, '2024-01-01', NOW() FROM seq", count, userId);
+    }
+
+    /**
+     * 내보낸 줄 수를 세고, 출력이 나갈 때마다 영속성 컨텍스트에 남은 엔티티 수를 기록
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private final Session session;
+        private long lines;
+        private int maxManagedEntities;
+
+        LineCountingOutputStream(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+            maxManagedEntities = Math.max(maxManagedEntities, session.getStatistics().getEntityCount());
+        }
+    }
+}
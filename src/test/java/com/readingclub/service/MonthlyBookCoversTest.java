@@ -0,0 +1,169 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.dto.BookDto;
+import com.readingclub.entity.Book;
+import com.readingclub.entity.Wishlist;
+import com.readingclub.repository.BookRepository;
+import com.readingclub.repository.CurrentlyReadingRepository;
+import com.readingclub.repository.DroppedBookRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이번 달 표지 조회가 한 번의 쿼리 결과를 서재별로 나누고, 서재 쓰기 후에만 다시 읽는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class MonthlyBookCoversTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CurrentlyReadingRepository currentlyReadingRepository;
+    @Mock
+    private DroppedBookRepository droppedBookRepository;
+    @Mock
+    private WishlistRepository wishlistRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private UserStatsService userStatsService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BookCatalogService bookCatalogService;
+
+    private BookService bookService;
+    private WishlistService wishlistService;
+
+    @BeforeEach
+    void setUp() {
+        MonthlyCoverCache monthlyCoverCache = new MonthlyCoverCache(100);
+        bookService = new BookService(bookRepository, currentlyReadingRepository, droppedBookRepository,
+                wishlistRepository, userRepository, transactionManager, monthlyCoverCache, userStatsService,
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                bookCatalogService, Runnable::run);
+        wishlistService = new WishlistService(wishlistRepository, userRepository, monthlyCoverCache, userStatsService,
+                bookCatalogService);
+
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+    }
+
+    @Test
+    void 한_번의_조회_결과를_서재별로_나눈다() {
+        stubCovers(
+                cover("COMPLETED", "c1"), cover("COMPLETED", "c2"),
+                cover("READING", "r1"),
+                cover("DROPPED", "d1"),
+                cover("WISHLIST", "w1"), cover("WISHLIST", "w2"), cover("WISHLIST", "w3"));
+
+        BookDto.MonthlyBookCoversResponse response = bookService.getMonthlyBookCovers(USER_ID);
+
+        assertEquals(List.of("c1", "c2"), response.getCompletedBookCovers());
+        assertEquals(List.of("r1"), response.getCurrentlyReadingCovers());
+        assertEquals(List.of("d1"), response.getDroppedBookCovers());
+        assertEquals(List.of("w1", "w2", "w3"), response.getWishlistCovers());
+        assertEquals(7, response.getTotalCount());
+
+        // 이번 달 [1일, 다음 달 1일) 구간으로 한 번만 조회
+        YearMonth thisMonth = YearMonth.now();
+        LocalDate start = thisMonth.atDay(1);
+        LocalDate end = thisMonth.plusMonths(1).atDay(1);
+        verify(bookRepository).findShelfCoversBetween(USER_ID, start, end, start.atStartOfDay(), end.atStartOfDay());
+    }
+
+    @Test
+    void 두_번째_조회는_캐시에서_반환한다() {
+        stubCovers(cover("COMPLETED", "c1"));
+
+        bookService.getMonthlyBookCovers(USER_ID);
+        BookDto.MonthlyBookCoversResponse cached = bookService.getMonthlyBookCovers(USER_ID);
+
+        assertEquals(List.of("c1"), cached.getCompletedBookCovers());
+        verify(bookRepository, times(1)).findShelfCoversBetween(eq(USER_ID), any(), any(), any(), any());
+        verify(userRepository, times(1)).existsById(USER_ID);
+    }
+
+    @Test
+    void 완독_책을_지우면_다시_조회한다() {
+        stubCovers(cover("COMPLETED", "c1"));
+        Book book = Book.builder().id(10L).title("책").rating(4).finishedDate(LocalDate.now()).build();
+        when(bookRepository.findByIdAndUserId(10L, USER_ID)).thenReturn(Optional.of(book));
+
+        bookService.getMonthlyBookCovers(USER_ID);
+        bookService.deleteBook(10L, USER_ID);
+        bookService.getMonthlyBookCovers(USER_ID);
+
+        verify(bookRepository, times(2)).findShelfCoversBetween(eq(USER_ID), any(), any(), any(), any());
+    }
+
+    @Test
+    void 위시리스트를_지우면_다시_조회한다() {
+        stubCovers(cover("WISHLIST", "w1"));
+        Wishlist wishlist = Wishlist.builder().id(20L).title("읽고 싶은 책").build();
+        when(wishlistRepository.findByIdAndUserId(20L, USER_ID)).thenReturn(Optional.of(wishlist));
+
+        bookService.getMonthlyBookCovers(USER_ID);
+        wishlistService.deleteWishlist(20L, USER_ID);
+        bookService.getMonthlyBookCovers(USER_ID);
+
+        verify(bookRepository, times(2)).findShelfCoversBetween(eq(USER_ID), any(), any(), any(), any());
+    }
+
+    @Test
+    void 다른_사용자의_쓰기는_캐시를_지우지_않는다() {
+        stubCovers(cover("COMPLETED", "c1"));
+        Long otherUserId = 2L;
+        Wishlist wishlist = Wishlist.builder().id(30L).title("다른 사람 책").build();
+        when(wishlistRepository.findByIdAndUserId(30L, otherUserId)).thenReturn(Optional.of(wishlist));
+
+        bookService.getMonthlyBookCovers(USER_ID);
+        wishlistService.deleteWishlist(30L, otherUserId);
+        bookService.getMonthlyBookCovers(USER_ID);
+
+        verify(bookRepository, times(1)).findShelfCoversBetween(eq(USER_ID), any(), any(), any(), any());
+    }
+
+    private void stubCovers(BookRepository.ShelfCoverView... covers) {
+        when(bookRepository.findShelfCoversBetween(eq(USER_ID), any(), any(), any(), any()))
+                .thenReturn(List.of(covers));
+    }
+
+    private BookRepository.ShelfCoverView cover(String shelf, String coverImage) {
+        return new BookRepository.ShelfCoverView() {
+            @Override
+            public String getShelf() {
+                return shelf;
+            }
+
+            @Override
+            public String getCoverImage() {
+                return coverImage;
+            }
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.BookDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MonthlyCoverCacheTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final YearMonth APRIL = YearMonth.of(2024, 4);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 같은_달이면_다시_적재하지_않는다() {
+        MonthlyCoverCache cache = new MonthlyCoverCache(10);
+
+        BookDto.MonthlyBookCoversResponse first = cache.get(1L, MARCH, loader("a"));
+        BookDto.MonthlyBookCoversResponse second = cache.get(1L, MARCH, loader("b"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 달이_바뀌면_다시_적재한다() {
+        MonthlyCoverCache cache = new MonthlyCoverCache(10);
+
+        cache.get(1L, MARCH, loader("march"));
+        BookDto.MonthlyBookCoversResponse april = cache.get(1L, APRIL, loader("april"));
+
+        assertEquals(List.of("april"), april.getCompletedBookCovers());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 무효화하면_해당_사용자만_다시_적재한다() {
+        MonthlyCoverCache cache = new MonthlyCoverCache(10);
+        cache.get(1L, MARCH, loader("a"));
+        cache.get(2L, MARCH, loader("b"));
+
+        cache.evict(1L);
+        BookDto.MonthlyBookCoversResponse reloaded = cache.get(1L, MARCH, loader("a2"));
+        cache.get(2L, MARCH, loader("b2"));
+
+        assertEquals(List.of("a2"), reloaded.getCompletedBookCovers());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_안_쓴_사용자를_내보낸다() {
+        MonthlyCoverCache cache = new MonthlyCoverCache(2);
+        cache.get(1L, MARCH, loader("1"));
+        cache.get(2L, MARCH, loader("2"));
+        cache.get(1L, MARCH, loader("1"));
+
+        cache.get(3L, MARCH, loader("3"));
+        cache.get(1L, MARCH, loader("1"));
+        cache.get(2L, MARCH, loader("2"));
+
+        // 1, 2, 3 적재 후 2 가 밀려나 다시 적재됨 (1 은 최근에 읽어 남아 있음)
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void 적재_중에_무효화되면_결과를_보관하지_않는다() {
+        MonthlyCoverCache cache = new MonthlyCoverCache(10);
+
+        BookDto.MonthlyBookCoversResponse stale = cache.get(1L, MARCH, () -> {
+            // 적재하는 사이 다른 요청이 서재를 바꾸고 커밋한 상황
+            cache.evict(1L);
+            return loader("stale").get();
+        });
+        BookDto.MonthlyBookCoversResponse fresh = cache.get(1L, MARCH, loader("fresh"));
+
+        assertEquals(List.of("stale"), stale.getCompletedBookCovers());
+        assertEquals(List.of("fresh"), fresh.getCompletedBookCovers());
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<BookDto.MonthlyBookCoversResponse> loader(String cover) {
+        return () -> {
+            loads.incrementAndGet();
+            return BookDto.MonthlyBookCoversResponse.builder()
+                    .completedBookCovers(List.of(cover))
+                    .currentlyReadingCovers(List.of())
+                    .droppedBookCovers(List.of())
+                    .wishlistCovers(List.of())
+                    .totalCount(1)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.readingclub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readingclub.dto.PostDto;
+import com.readingclub.entity.CatalogBook;
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostType;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.entity.User;
+import com.readingclub.repository.CatalogBookRepository;
+import com.readingclub.repository.PostLikeRepository;
+import com.readingclub.repository.PostRepository;
+import com.readingclub.repository.PostStatRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 목록 서비스가 페이지 크기와 무관하게 일정한 수의 SELECT 로 응답하는지 확인
+ * (작성자는 게시글과 함께, 카탈로그 도서는 페이지마다 IN 조회 한 번으로 읽어 toBookInfo 가 캐시 미스로 행마다 조회하지 않아야 함)
+ */
+class PostListQueryCountTest extends MySqlJpaTest {
+
+    private static final int AUTHORS = 5;
+    private static final int PUBLIC_POSTS = 30;
+    private static final int MY_PRIVATE_POSTS = 5;
+    private static final int SMALL_PAGE = 5;
+    private static final int PAGE = 20;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CatalogBookRepository catalogBookRepository;
+    @Autowired
+    private PostStatRepository postStatRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    private final List<User> authors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(persistUser("작성자" + i));
+        }
+        // 게시글마다 다른 책 (카탈로그 캐시가 비어 있으면 책마다 조회가 생길 수 있는 조건)
+        for (int i = 0; i < PUBLIC_POSTS + MY_PRIVATE_POSTS; i++) {
+            boolean mine = i >= PUBLIC_POSTS;
+            String isbn = String.format("9790000%06d", i);
+            CatalogBook catalogBook = CatalogBook.builder()
+                    .isbn(isbn)
+                    .title("함께 읽는 책 " + i)
+                    .publisher("출판사")
+                    .build();
+            entityManager.persist(catalogBook);
+            entityManager.persist(Post.builder()
+                    .user(mine ? authors.get(0) : authors.get(i % AUTHORS))
+                    .postType(PostType.REVIEW)
+                    .visibility(mine ? PostVisibility.PRIVATE : PostVisibility.PUBLIC)
+                    .bookIsbn(isbn)
+                    .bookTitle("함께 읽는 책 " + i)
+                    .bookAuthor("저자")
+                    .catalogBook(catalogBook)
+                    .title("독후감 " + i)
+                    .content("내용 " + i)
+                    .build());
+        }
+    }
+
+    @Test
+    void 공개_게시글_목록은_페이지_크기와_무관하다() {
+        assertConstantSelects((postService, size) -> {
+            PostDto.ListResponse response = postService.getPublicPosts(filter(size));
+            assertEquals(size, response.getPosts().size());
+        });
+    }
+
+    @Test
+    void 통합_게시글_목록은_페이지_크기와_무관하다() {
+        Long myId = authors.get(0).getId();
+        assertConstantSelects((postService, size) -> {
+            PostDto.ListResponse response = postService.getAllPosts(myId, filter(size));
+            assertEquals(size, response.getPosts().size());
+        });
+    }
+
+    @Test
+    void 책_제목_검색은_페이지_크기와_무관하다() {
+        assertConstantSelects((postService, size) -> assertEquals(size,
+                postService.searchPosts("함께 읽는", null, null, PageRequest.of(0, size), true).getNumberOfElements()));
+    }
+
+    @Test
+    void 키워드_검색은_페이지_크기와_무관하다() {
+        assertConstantSelects((postService, size) -> assertEquals(size,
+                postService.searchPosts(null, "독후감", null, PageRequest.of(0, size), false).getNumberOfElements()));
+    }
+
+    /**
+     * 카탈로그 캐시가 빈 새 서비스로 작은 페이지와 20건 페이지를 조회해 SELECT 수가 같고, 카탈로그는 한 번만 읽는지 확인
+     */
+    private void assertConstantSelects(BiConsumer<PostService, Integer> call) {
+        int smallSelects = countSelects(call, SMALL_PAGE);
+        int selects = countSelects(call, PAGE);
+
+        assertEquals(smallSelects, selects, () -> "실행된 SELECT: " + sqlLog.selects());
+        assertEquals(1, sqlLog.selects().stream()
+                .filter(statement -> statement.touches("catalog_books"))
+                .count(), () -> "카탈로그 조회: " + sqlLog.selects());
+    }
+
+    private int countSelects(BiConsumer<PostService, Integer> call, int size) {
+        PostService postService = newPostService();
+        startCounting();
+        call.accept(postService, size);
+        return sqlLog.selects().size();
+    }
+
+    private PostService newPostService() {
+        return new PostService(postRepository, userRepository, new ObjectMapper(), new PostQuoteCache(100),
+                mock(PostSearchIndex.class), mock(PublicFeedCache.class),
+                new BookCatalogService(catalogBookRepository, jdbcTemplate, 100), mock(PostViewCounter.class),
+                postStatRepository, postLikeRepository, mock(PostLikeCounter.class), mock(UserStatsService.class));
+    }
+
+    private PostDto.SearchFilter filter(int size) {
+        return PostDto.SearchFilter.builder()
+                .page(0)
+                .size(size)
+                .includeTotal(true)
+                .build();
+    }
+}
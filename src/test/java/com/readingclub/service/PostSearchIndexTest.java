@@ -0,0 +1,88 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Post;
+import com.readingclub.entity.PostVisibility;
+import com.readingclub.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다른 인스턴스에서 바뀐 게시글을 주기 작업으로 색인에 반영하는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(postRepository);
+        when(postRepository.findByVisibilityBeforeCursor(eq(PostVisibility.PUBLIC), any(), any(), any()))
+                .thenReturn(List.of(
+                        post(1L, "데미안 독후감", PostVisibility.PUBLIC),
+                        post(2L, "데미안 다시 읽기", PostVisibility.PUBLIC)))
+                .thenReturn(List.of());
+        postSearchIndex.rebuild();
+    }
+
+    @Test
+    void 수정된_게시글을_다시_색인하고_비공개로_바뀐_게시글은_뺀다() {
+        when(postRepository.findUpdatedAfter(any(), any(), any()))
+                .thenReturn(List.of(
+                        post(2L, "데미안 다시 읽기", PostVisibility.PRIVATE),
+                        post(3L, "데미안 세 번째", PostVisibility.PUBLIC)))
+                .thenReturn(List.of());
+        when(postRepository.findIdsByIdInAndVisibility(anyCollection(), eq(PostVisibility.PUBLIC)))
+                .thenReturn(List.of(1L, 3L));
+
+        postSearchIndex.catchUp();
+
+        assertEquals(List.of(1L, 3L), searchIds("데미안"));
+    }
+
+    @Test
+    void 삭제된_게시글은_DB와_대조해_뺀다() {
+        when(postRepository.findUpdatedAfter(any(), any(), any())).thenReturn(List.of());
+        when(postRepository.findIdsByIdInAndVisibility(anyCollection(), eq(PostVisibility.PUBLIC)))
+                .thenReturn(List.of(2L));
+
+        postSearchIndex.catchUp();
+
+        assertEquals(List.of(2L), searchIds("데미안"));
+        assertEquals(1, postSearchIndex.search("데미안", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    private List<Long> searchIds(String keyword) {
+        return postSearchIndex.search(keyword, PageRequest.of(0, 10)).getContent().stream()
+                .sorted()
+                .toList();
+    }
+
+    private Post post(Long id, String title, PostVisibility visibility) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .visibility(visibility)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT.plusDays(id))
+                .build();
+    }
+}
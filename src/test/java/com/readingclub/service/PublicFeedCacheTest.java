@@ -0,0 +1,74 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.PostDto;
+import com.readingclub.entity.PostType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 공개 피드 캐시가 유효 시간 안에는 스냅샷을 그대로 돌려주고, 만료/무효화 후에만 다시 적재하는지 확인
+ */
+class PublicFeedCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 유효_시간_안에는_다시_적재하지_않는다() {
+        PublicFeedCache cache = cache(Duration.ofHours(1));
+
+        PublicFeedCache.Snapshot first = cache.get(null, loader(1L, 2L));
+        PublicFeedCache.Snapshot second = cache.get(null, loader(1L, 2L));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 유효_시간이_지나면_다시_적재한다() {
+        PublicFeedCache cache = cache(Duration.ZERO);
+
+        cache.get(null, loader(1L));
+        PublicFeedCache.Snapshot reloaded = cache.get(null, loader(1L, 3L));
+
+        assertEquals(2, reloaded.posts().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 게시글_수치가_바뀌면_그_게시글이_담긴_스냅샷만_무효화한다() {
+        PublicFeedCache cache = cache(Duration.ofHours(1));
+        cache.get(null, loader(1L, 2L));
+        cache.get(PostType.REVIEW, loader(3L));
+
+        cache.invalidatePosts(Set.of(2L));
+        cache.get(null, loader(1L, 2L));
+        cache.get(PostType.REVIEW, loader(3L));
+
+        assertEquals(3, loads.get());
+    }
+
+    private PublicFeedCache cache(Duration ttl) {
+        return new PublicFeedCache(100, ttl, new SimpleMeterRegistry());
+    }
+
+    private Supplier<PublicFeedCache.Snapshot> loader(Long... postIds) {
+        return () -> {
+            loads.incrementAndGet();
+            List<PostDto.Response> posts = new ArrayList<>();
+            for (Long postId : postIds) {
+                posts.add(PostDto.Response.builder().id(postId).build());
+            }
+            return new PublicFeedCache.Snapshot(posts, posts.size());
+        };
+    }
+}
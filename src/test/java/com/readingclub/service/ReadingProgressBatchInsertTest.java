@@ -0,0 +1,116 @@
+package com.readingclub.service;
+
+import com.readingclub.config.IdGeneratorInitializer;
+import com.readingclub.dto.MonthlyBookDto;
+import com.readingclub.entity.GroupMember;
+import com.readingclub.entity.MeetingType;
+import com.readingclub.entity.ReadingGroup;
+import com.readingclub.entity.User;
+import com.readingclub.repository.GroupMemberRepository;
+import com.readingclub.repository.MonthlyBookRepository;
+import com.readingclub.repository.ReadingGroupRepository;
+import com.readingclub.repository.ReadingProgressRepository;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * 이달의 책을 선정하면 멤버 1만 명의 진행 상황 행이 50건 단위 배치 INSERT 로 나가는지 확인하고 시간을 기록
+ */
+@Import(IdGeneratorInitializer.class)
+class ReadingProgressBatchInsertTest extends MySqlJpaTest {
+
+    private static final int MEMBERS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private MonthlyBookRepository monthlyBookRepository;
+    @Autowired
+    private ReadingGroupRepository readingGroupRepository;
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+    @Autowired
+    private ReadingProgressRepository readingProgressRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private MonthlyBookService monthlyBookService;
+    private User leader;
+    private ReadingGroup group;
+
+    @BeforeEach
+    void setUp() {
+        monthlyBookService = new MonthlyBookService(monthlyBookRepository, readingGroupRepository,
+                groupMemberRepository, readingProgressRepository, userRepository);
+
+        leader = persistUser("모임장");
+        group = ReadingGroup.builder()
+                .name("만 명 모임")
+                .creator(leader)
+                .maxMembers(MEMBERS)
+                .isPublic(true)
+                .inviteCode("BATCH10K")
+                .status(ReadingGroup.GroupStatus.ACTIVE)
+                .bookTitle("데미안")
+                .author("헤르만 헤세")
+                .publisher("민음사")
+                .meetingDateTime(LocalDateTime.of(2024, 3, 30, 19, 0))
+                .durationHours(2)
+                .meetingType(MeetingType.ONLINE)
+                .build();
+        entityManager.persist(group);
+        entityManager.persist(GroupMember.builder()
+                .group(group)
+                .user(leader)
+                .role(GroupMember.MemberRole.CREATOR)
+                .status(GroupMember.MemberStatus.ACTIVE)
+                .build());
+        entityManager.flush();
+
+        // 모임장과 합쳐 MEMBERS 명
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + MEMBERS);
+        jdbcTemplate.update("INSERT INTO users (kakao_id, nickname, created_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT CONCAT('member-', n), CONCAT('멤버', n), NOW() FROM seq", MEMBERS - 1);
+        jdbcTemplate.update("INSERT INTO group_members (group_id, user_id, role, status, joined_at, updated_at) " +
+                "SELECT ?, id, 'MEMBER', 'ACTIVE', NOW(), NOW() FROM users WHERE kakao_id LIKE 'member-%'",
+                group.getId());
+    }
+
+    @Test
+    void 이달의_책을_선정하면_멤버_전원의_진행_상황을_50건_단위_배치로_저장한다(TestReporter reporter) {
+        MonthlyBookDto.CreateRequest request = MonthlyBookDto.CreateRequest.builder()
+                .year(2024)
+                .month(3)
+                .bookTitle("데미안")
+                .startDate(LocalDate.of(2024, 3, 1))
+                .endDate(LocalDate.of(2024, 3, 31))
+                .build();
+        startCounting();
+
+        long startedAt = System.nanoTime();
+        MonthlyBookDto.Response selected = assertTimeout(Duration.ofSeconds(30), () -> {
+            MonthlyBookDto.Response response = monthlyBookService.selectMonthlyBook(group.getId(), leader.getId(), request);
+            entityManager.flush();
+            return response;
+        });
+        reporter.publishEntry("selectMonthlyBook." + MEMBERS,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis() + "ms");
+
+        assertBatchedInserts("reading_progresses", MEMBERS, BATCH_SIZE);
+        assertEquals(MEMBERS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT id) FROM reading_progresses WHERE monthly_book_id = ?", Long.class,
+                selected.getId()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.User;
+import com.readingclub.repository.UserStatsRepository;
+import com.readingclub.support.MySqlJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * user_stats 가 생기기 전에 서재 기록이 있던 사용자를 시작 시 원본 기준으로 채우고,
+ * 이미 집계 행이 있는 사용자는 건드리지 않으며 다시 시작해도 더 채우지 않는지 확인
+ */
+class UserStatsBackfillTest extends MySqlJpaTest {
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserStatsService userStatsService;
+    private User veteran;
+    private User tracked;
+    private User newcomer;
+
+    @BeforeEach
+    void setUp() {
+        userStatsService = new UserStatsService(jdbcTemplate, userStatsRepository, transactionManager);
+        veteran = persistUser("오래된 회원");
+        tracked = persistUser("집계된 회원");
+        newcomer = persistUser("기록 없는 회원");
+        entityManager.flush();
+
+        // 집계 테이블 추가 이전에 쌓인 기록
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, rating, finished_date, created_at) " +
+                "VALUES (1, ?, '책 1', 4, '2023-12-31', NOW()), (2, ?, '책 2', 5, '2024-03-01', NOW())",
+                veteran.getId(), veteran.getId());
+        jdbcTemplate.update("INSERT INTO dropped_books (user_id, title, reading_type, dropped_date, " +
+                "created_at, updated_at) VALUES (?, '그만 읽은 책', 'PAPER_BOOK', '2024-03-02', NOW(), NOW())",
+                veteran.getId());
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, title, priority, created_at, updated_at) " +
+                "VALUES (?, '읽고 싶은 책', 3, NOW(), NOW())", veteran.getId());
+
+        // 이미 증감분이 반영되고 있는 사용자 (원본과 일부러 다르게 두어 덮어쓰지 않는지 확인)
+        jdbcTemplate.update("INSERT INTO books (id, user_id, title, rating, finished_date, created_at) " +
+                "VALUES (3, ?, '책 3', 3, '2024-03-05', NOW())", tracked.getId());
+        userStatsService.bookAdded(tracked.getId(), LocalDate.of(2024, 3, 5), 3);
+        userStatsService.bookAdded(tracked.getId(), LocalDate.of(2024, 3, 6), 3);
+    }
+
+    @Test
+    void 집계_행이_없는_사용자만_원본_기록으로_채운다() {
+        userStatsService.rebuildOnStartup();
+
+        assertEquals(Map.of(
+                "ALL", List.of(2L, 9L, 1L, 1L),
+                "2023", List.of(1L, 4L, 0L, 0L),
+                "2023-12", List.of(1L, 4L, 0L, 0L),
+                "2024", List.of(1L, 5L, 1L, 0L),
+                "2024-03", List.of(1L, 5L, 1L, 0L)), stats(veteran));
+        assertEquals(List.of(2L, 6L, 0L, 0L), stats(tracked).get("ALL"));
+        assertEquals(Map.of("ALL", List.of(0L, 0L, 0L, 0L)), stats(newcomer));
+
+        // 예전 기록을 지워도 음수가 되지 않는다
+        userStatsService.bookRemoved(veteran.getId(), LocalDate.of(2023, 12, 31), 4);
+        assertEquals(List.of(1L, 5L, 1L, 1L), stats(veteran).get("ALL"));
+
+        // 다시 시작하면 채울 사용자가 없다
+        startCounting();
+        userStatsService.rebuildOnStartup();
+        assertEquals(0, sqlLog.statements().stream()
+                .filter(statement -> statement.sql().startsWith("DELETE FROM user_stats"))
+                .count());
+    }
+
+    @Test
+    void 통계_조회는_채운_집계를_읽는다() {
+        userStatsService.rebuildOnStartup();
+
+        UserStatsService.Snapshot snapshot = userStatsService.getCurrent(veteran.getId());
+        assertEquals(2, snapshot.total().getFinishedBooks());
+        assertEquals(1, snapshot.total().getDroppedBooks());
+        assertEquals(YearMonth.now().toString(), snapshot.thisMonth().getPeriod());
+    }
+
+    // 기간 -> [완독, 별점 합, 하차, 위시리스트]
+    private Map<String, List<Long>> stats(User user) {
+        return jdbcTemplate.query(
+                "SELECT period, finished_books, rating_sum, dropped_books, wishlist_count " +
+                "FROM user_stats WHERE user_id = ?",
+                rs -> {
+                    Map<String, List<Long>> rows = new HashMap<>();
+                    while (rs.next()) {
+                        rows.put(rs.getString(1), List.of(rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+                    }
+                    return rows;
+                },
+                user.getId());
+    }
+}
@@ -0,0 +1,258 @@
+package com.readingclub.service;
+
+import com.readingclub.entity.Book;
+import com.readingclub.repository.UserStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private UserStatsRepository userStatsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgs;
+
+    private UserStatsService userStatsService;
+
+    @BeforeEach
+    void setUp() {
+        userStatsService = new UserStatsService(jdbcTemplate, userStatsRepository, transactionManager);
+    }
+
+    @Test
+    void 완독_추가는_전체_연도_월_행에_더한다() {
+        userStatsService.bookAdded(USER_ID, LocalDate.of(2024, 3, 15), 4);
+
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 1, 4, 0, 0, 0, 0),
+                row(USER_ID, "2024", 1, 4, 0, 0, 0, 0),
+                row(USER_ID, "2024-03", 1, 4, 0, 0, 0, 0)), singleUpsert());
+    }
+
+    @Test
+    void 완독일이_바뀌면_이전_기간에서_빼고_새_기간에_더한다() {
+        // BookService.updateBook 이 완독일/별점 변경 시 호출하는 순서
+        userStatsService.bookRemoved(USER_ID, LocalDate.of(2023, 12, 31), 5);
+        userStatsService.bookAdded(USER_ID, LocalDate.of(2024, 1, 1), 3);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(sql.capture(), batchArgs.capture());
+        sql.getAllValues().forEach(this::assertIncrementalUpsert);
+        assertEquals(List.of(
+                row(USER_ID, "ALL", -1, -5, 0, 0, 0, 0),
+                row(USER_ID, "2023", -1, -5, 0, 0, 0, 0),
+                row(USER_ID, "2023-12", -1, -5, 0, 0, 0, 0)), rows(batchArgs.getAllValues().get(0)));
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 1, 3, 0, 0, 0, 0),
+                row(USER_ID, "2024", 1, 3, 0, 0, 0, 0),
+                row(USER_ID, "2024-01", 1, 3, 0, 0, 0, 0)), rows(batchArgs.getAllValues().get(1)));
+    }
+
+    @Test
+    void 여러_권_추가는_기간별로_합산해_한_번에_반영한다() {
+        userStatsService.booksAdded(USER_ID, List.of(
+                book(LocalDate.of(2024, 3, 1), 4),
+                book(LocalDate.of(2024, 3, 15), 5),
+                book(LocalDate.of(2024, 4, 1), 3),
+                book(LocalDate.of(2023, 4, 1), 1)));
+
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 4, 13, 0, 0, 0, 0),
+                row(USER_ID, "2024", 3, 12, 0, 0, 0, 0),
+                row(USER_ID, "2024-03", 2, 9, 0, 0, 0, 0),
+                row(USER_ID, "2024-04", 1, 3, 0, 0, 0, 0),
+                row(USER_ID, "2023", 1, 1, 0, 0, 0, 0),
+                row(USER_ID, "2023-04", 1, 1, 0, 0, 0, 0)), singleUpsert());
+    }
+
+    @Test
+    void 빈_목록이면_쓰지_않는다() {
+        userStatsService.booksAdded(USER_ID, List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    @Test
+    void 읽다_만_책은_하차일_기간에_반영한다() {
+        userStatsService.droppedBookRemoved(USER_ID, LocalDate.of(2024, 2, 29));
+
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 0, 0, -1, 0, 0, 0),
+                row(USER_ID, "2024", 0, 0, -1, 0, 0, 0),
+                row(USER_ID, "2024-02", 0, 0, -1, 0, 0, 0)), singleUpsert());
+    }
+
+    @Test
+    void 작성일이_없는_게시글은_이번_달에_반영한다() {
+        YearMonth thisMonth = YearMonth.now();
+        userStatsService.postAdded(USER_ID, null);
+
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 0, 0, 0, 1, 0, 0),
+                row(USER_ID, String.valueOf(thisMonth.getYear()), 0, 0, 0, 1, 0, 0),
+                row(USER_ID, thisMonth.toString(), 0, 0, 0, 1, 0, 0)), singleUpsert());
+    }
+
+    @Test
+    void 게시글_삭제는_작성일_기간에서_뺀다() {
+        userStatsService.postRemoved(USER_ID, LocalDateTime.of(2022, 11, 30, 23, 59));
+
+        assertEquals(List.of(
+                row(USER_ID, "ALL", 0, 0, 0, -1, 0, 0),
+                row(USER_ID, "2022", 0, 0, 0, -1, 0, 0),
+                row(USER_ID, "2022-11", 0, 0, 0, -1, 0, 0)), singleUpsert());
+    }
+
+    @Test
+    void 읽고_있는_책과_위시리스트는_전체_행에만_반영한다() {
+        userStatsService.currentlyReadingChanged(USER_ID, -1);
+        userStatsService.wishlistChanged(USER_ID, 1);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(sql.capture(), batchArgs.capture());
+        assertEquals(List.of(row(USER_ID, "ALL", 0, 0, 0, 0, -1, 0)), rows(batchArgs.getAllValues().get(0)));
+        assertEquals(List.of(row(USER_ID, "ALL", 0, 0, 0, 0, 0, 1)), rows(batchArgs.getAllValues().get(1)));
+    }
+
+    @Test
+    void 재구축은_구간을_지우고_원본_집계로_덮어쓴다() throws Exception {
+        holdRebuildLock(true);
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM users"), eq(Long.class), eq(0L), eq(500)))
+                .thenReturn(List.of(USER_ID, OTHER_USER_ID));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM users"), eq(Long.class), eq(OTHER_USER_ID), eq(500)))
+                .thenReturn(List.of());
+        answerRows("FROM books",
+                new Object[]{USER_ID, "2024-03", 2L, 9L},
+                new Object[]{USER_ID, "2023-12", 1L, 5L},
+                new Object[]{OTHER_USER_ID, "2024-03", 1L, 4L});
+        answerRows("FROM dropped_books", new Object[]{USER_ID, "2024-03", 1L});
+        answerRows("FROM posts");
+        answerRows("FROM currently_reading", new Object[]{OTHER_USER_ID, 3L});
+        answerRows("FROM wishlists");
+
+        userStatsService.rebuild();
+
+        verify(jdbcTemplate).update("DELETE FROM user_stats WHERE user_id IN (?, ?)", USER_ID, OTHER_USER_ID);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), batchArgs.capture());
+        assertTrue(sql.getValue().contains("finished_books = VALUES(finished_books)"), sql.getValue());
+        assertEquals(Set.of(
+                row(USER_ID, "ALL", 3, 14, 1, 0, 0, 0),
+                row(USER_ID, "2024", 2, 9, 1, 0, 0, 0),
+                row(USER_ID, "2024-03", 2, 9, 1, 0, 0, 0),
+                row(USER_ID, "2023", 1, 5, 0, 0, 0, 0),
+                row(USER_ID, "2023-12", 1, 5, 0, 0, 0, 0),
+                row(OTHER_USER_ID, "ALL", 1, 4, 0, 0, 3, 0),
+                row(OTHER_USER_ID, "2024", 1, 4, 0, 0, 0, 0),
+                row(OTHER_USER_ID, "2024-03", 1, 4, 0, 0, 0, 0)), Set.copyOf(rows(batchArgs.getValue())));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void 다른_인스턴스가_락을_잡고_있으면_재구축하지_않는다() throws Exception {
+        holdRebuildLock(false);
+
+        userStatsService.rebuild();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(), any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    private void assertIncrementalUpsert(String statement) {
+        assertTrue(statement.contains("finished_books = finished_books + VALUES(finished_books)"), statement);
+    }
+
+    private List<List<Object>> singleUpsert() {
+        verify(jdbcTemplate).batchUpdate(sql.capture(), batchArgs.capture());
+        assertIncrementalUpsert(sql.getValue());
+        return rows(batchArgs.getValue());
+    }
+
+    private List<List<Object>> rows(List<Object[]> args) {
+        return args.stream().map(Arrays::asList).collect(Collectors.toList());
+    }
+
+    private List<Object> row(Long userId, String period, long finishedBooks, long ratingSum, long droppedBooks,
+                             long posts, long currentlyReading, long wishlist) {
+        return List.of(userId, period, finishedBooks, ratingSum, droppedBooks, posts, currentlyReading, wishlist);
+    }
+
+    private Book book(LocalDate finishedDate, int rating) {
+        return Book.builder().title("책").rating(rating).finishedDate(finishedDate).build();
+    }
+
+    // GET_LOCK 결과를 흉내 내고, 재구축 본문은 락을 잡은 같은 커넥션 콜백 안에서 실행
+    @SuppressWarnings("unchecked")
+    private void holdRebuildLock(boolean acquired) throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet lockResult = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getInt(1)).thenReturn(acquired ? 1 : 0);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<Boolean>>getArgument(0).doInConnection(connection));
+    }
+
+    private void answerRows(String from, Object[]... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                handler.processRow(resultRow(row));
+            }
+            return null;
+        }).when(jdbcTemplate).query(contains(from + " WHERE"), any(RowCallbackHandler.class), eq(USER_ID), eq(OTHER_USER_ID));
+    }
+
+    private ResultSet resultRow(Object[] values) {
+        return mock(ResultSet.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getLong" -> ((Number) values[invocation.<Integer>getArgument(0) - 1]).longValue();
+            case "getString" -> values[invocation.<Integer>getArgument(0) - 1].toString();
+            default -> Mockito.RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.readingclub.service;
+
+import com.readingclub.dto.WishlistDto;
+import com.readingclub.entity.CatalogBook;
+import com.readingclub.entity.User;
+import com.readingclub.entity.Wishlist;
+import com.readingclub.repository.UserRepository;
+import com.readingclub.repository.WishlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 위시리스트가 ISBN으로 공용 도서 카탈로그를 참조하고, ISBN이 바뀔 때만 다시 연결하는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class WishlistCatalogTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String ISBN = "9788937460449";
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserStatsService userStatsService;
+    @Mock
+    private BookCatalogService bookCatalogService;
+
+    private WishlistService wishlistService;
+    private final User user = User.builder().id(USER_ID).nickname("다독가").build();
+
+    @BeforeEach
+    void setUp() {
+        wishlistService = new WishlistService(wishlistRepository, userRepository, new MonthlyCoverCache(10),
+                userStatsService, bookCatalogService);
+    }
+
+    @Test
+    void 추가할_때_카탈로그에_등록하고_참조한다() {
+        CatalogBook catalogBook = CatalogBook.builder().id(10L).isbn(ISBN).title("데미안").build();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(bookCatalogService.register(ISBN, "데미안", "헤르만 헤세", "민음사", null, "2000-12-20", "소개"))
+                .thenReturn(catalogBook);
+        when(wishlistRepository.save(any(Wishlist.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WishlistDto.Response response = wishlistService.createWishlist(USER_ID, WishlistDto.CreateRequest.builder()
+                .title("데미안")
+                .author("헤르만 헤세")
+                .isbn(ISBN)
+                .publisher("민음사")
+                .publishedDate("2000-12-20")
+                .description("소개")
+                .priority(3)
+                .build());
+
+        assertEquals(ISBN, response.getIsbn());
+        verify(wishlistRepository).save(argThat(saved -> saved.getCatalogBook() == catalogBook));
+    }
+
+    @Test
+    void ISBN이_그대로면_카탈로그를_다시_조회하지_않는다() {
+        CatalogBook catalogBook = CatalogBook.builder().id(10L).isbn(ISBN).title("데미안").build();
+        Wishlist wishlist = wishlist(catalogBook);
+        when(wishlistRepository.findByIdAndUserId(20L, USER_ID)).thenReturn(Optional.of(wishlist));
+        when(wishlistRepository.save(wishlist)).thenReturn(wishlist);
+
+        wishlistService.updateWishlist(20L, USER_ID, updateRequest(ISBN));
+
+        assertSame(catalogBook, wishlist.getCatalogBook());
+        verify(bookCatalogService, never()).register(anyString(), anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void ISBN이_바뀌면_카탈로그_참조를_다시_연결한다() {
+        String newIsbn = "9788932917245";
+        CatalogBook newCatalogBook = CatalogBook.builder().id(11L).isbn(newIsbn).title("데미안").build();
+        Wishlist wishlist = wishlist(CatalogBook.builder().id(10L).isbn(ISBN).title("데미안").build());
+        when(wishlistRepository.findByIdAndUserId(20L, USER_ID)).thenReturn(Optional.of(wishlist));
+        when(wishlistRepository.save(wishlist)).thenReturn(wishlist);
+        when(bookCatalogService.register(newIsbn, "데미안", "헤르만 헤세", null, null, null, null))
+                .thenReturn(newCatalogBook);
+
+        wishlistService.updateWishlist(20L, USER_ID, updateRequest(newIsbn));
+
+        assertEquals(newIsbn, wishlist.getIsbn());
+        assertSame(newCatalogBook, wishlist.getCatalogBook());
+    }
+
+    private Wishlist wishlist(CatalogBook catalogBook) {
+        return Wishlist.builder()
+                .id(20L)
+                .user(user)
+                .title("데미안")
+                .author("헤르만 헤세")
+                .isbn(ISBN)
+                .catalogBook(catalogBook)
+                .priority(3)
+                .build();
+    }
+
+    private WishlistDto.UpdateRequest updateRequest(String isbn) {
+        return WishlistDto.UpdateRequest.builder()
+                .title("데미안")
+                .author("헤르만 헤세")
+                .isbn(isbn)
+                .priority(3)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.readingclub.support;
+
+import com.readingclub.config.JpaConfig;
+import com.readingclub.entity.User;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실제 MySQL 8 (Testcontainers) 에서 도는 JPA 테스트 기반 (Docker 가 없으면 건너뜀)
+ * 실행 계획, 배치 INSERT, 실행 문장 수처럼 H2 로는 확인할 수 없는 동작을 검증한다.
+ * 설정은 운영(application-prod.yml)의 JPA 배치 설정과 맞춘다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, SqlLog.Config.class})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlJpaTest {
+
+    // 테스트 클래스 사이에서 컨테이너 하나를 공유 (스프링 컨텍스트 캐시와 수명을 맞춤)
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected SqlLog sqlLog;
+
+    protected User persistUser(String nickname) {
+        User user = User.builder()
+                .kakaoId(UUID.randomUUID().toString())
+                .nickname(nickname)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    /**
+     * 영속성 컨텍스트를 비우고 SQL 기록을 초기화 (이후 실행되는 문장만 세기 위함)
+     */
+    protected void startCounting() {
+        entityManager.flush();
+        entityManager.clear();
+        sqlLog.clear();
+    }
+
+    /**
+     * 기록된 문장을 같은 파라미터로 EXPLAIN
+     */
+    protected List<Map<String, Object>> explain(SqlLog.Statement statement) {
+        return jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+    }
+
+    /**
+     * 조회를 이끄는 첫 테이블이 주어진 인덱스 중 하나를 쓰고, 어느 단계에서도 filesort 가 없는지 확인
+     */
+    protected void assertIndexOrderedScan(SqlLog.Statement statement, String... indexes) {
+        List<Map<String, Object>> plan = explain(statement);
+        assertFalse(plan.isEmpty());
+
+        Map<String, Object> driving = plan.get(0);
+        assertTrue(List.of(indexes).contains(String.valueOf(driving.get("key"))), () -> "실행 계획: " + plan);
+        for (Map<String, Object> row : plan) {
+            assertFalse(String.valueOf(row.get("Extra")).contains("filesort"), () -> "실행 계획: " + plan);
+        }
+    }
+
+    /**
+     * 기록된 문장 중 주어진 테이블에 대한 INSERT
+     */
+    protected List<SqlLog.Statement> insertsInto(String table) {
+        return sqlLog.statements().stream()
+                .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).startsWith("insert into " + table + " "))
+                .toList();
+    }
+
+    /**
+     * rows 건의 INSERT 가 batchSize 건씩 묶인 배치로만 나가고, ID 는 id_generators 에서 batchSize 개 블록마다 받아왔는지 확인
+     */
+    protected void assertBatchedInserts(String table, int rows, int batchSize) {
+        List<SqlLog.Statement> inserts = insertsInto(table);
+        assertEquals(rows / batchSize, inserts.size(), () -> table + " INSERT 문장 수: " + inserts.size());
+        assertTrue(inserts.stream().allMatch(insert -> insert.batch() && insert.batchSize() == batchSize),
+                () -> table + " INSERT 배치: " + inserts);
+
+        // pooled 옵티마이저는 블록마다 한 번만 생성기 행을 읽는다 (첫 블록 초기화에 한 번 더 읽을 수 있음)
+        long generatorReads = sqlLog.selects().stream()
+                .filter(statement -> statement.touches("id_generators"))
+                .count();
+        assertTrue(generatorReads >= rows / batchSize && generatorReads <= rows / batchSize + 1,
+                () -> "ID 생성기 조회 수: " + generatorReads);
+    }
+
+    /**
+     * 한 번 데운 뒤 runs 번 실행한 시간의 중앙값 (실행마다 영속성 컨텍스트를 비워 캐시된 엔티티를 재사용하지 않음)
+     */
+    protected Duration medianTime(int runs, Runnable action) {
+        action.run();
+        entityManager.clear();
+
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long startedAt = System.nanoTime();
+            action.run();
+            nanos[i] = System.nanoTime() - startedAt;
+            entityManager.clear();
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[runs / 2]);
+    }
+}
@@ -0,0 +1,119 @@
+package com.readingclub.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트 중 실행된 SQL 기록 (datasource-proxy 로 DataSource 를 감싸 문장/파라미터/배치 크기를 모음)
+ */
+public class SqlLog implements QueryExecutionListener {
+
+    /**
+     * 실행된 문장 하나 (배치면 batchSize 만큼 묶여 한 번 실행됨, parameters 는 첫 행 기준)
+     */
+    public record Statement(String sql, List<Object> parameters, boolean batch, int batchSize) {
+
+        public boolean isSelect() {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+        }
+
+        public boolean touches(String table) {
+            return sql.toLowerCase(Locale.ROOT).matches("(?s).*\\b" + table + "\\b.*");
+        }
+    }
+
+    private final List<Statement> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            List<Object> parameters = parametersList.isEmpty() ? List.of() : parameterValues(parametersList.get(0));
+            statements.add(new Statement(queryInfo.getQuery(), parameters, execInfo.isBatch(), execInfo.getBatchSize()));
+        }
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<Statement> statements() {
+        return List.copyOf(statements);
+    }
+
+    public List<Statement> selects() {
+        return statements.stream().filter(Statement::isSelect).toList();
+    }
+
+    /**
+     * 주어진 테이블을 읽은 마지막 SELECT
+     */
+    public Statement lastSelectFrom(String table) {
+        List<Statement> selects = selects().stream().filter(statement -> statement.touches(table)).toList();
+        if (selects.isEmpty()) {
+            throw new AssertionError(table + " 테이블을 읽은 SELECT 가 없습니다: " + statements);
+        }
+        return selects.get(selects.size() - 1);
+    }
+
+    private List<Object> parameterValues(List<ParameterSetOperation> operations) {
+        Map<Integer, Object> byIndex = new TreeMap<>();
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            if (!(args[0] instanceof Integer index)) {
+                continue;
+            }
+            boolean setNull = "setNull".equals(operation.getMethod().getName());
+            byIndex.put(index, setNull ? null : args[1]);
+        }
+        return new ArrayList<>(byIndex.values());
+    }
+
+    /**
+     * 테스트 컨텍스트의 DataSource 를 기록용 프록시로 감쌈
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public SqlLog sqlLog() {
+            return new SqlLog();
+        }
+
+        @Bean
+        public static BeanPostProcessor sqlLogDataSourceProxy(ObjectProvider<SqlLog> sqlLog) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .listener(sqlLog.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.readingclub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookFingerprintTest {
+
+    @Test
+    void isbn13_ISBN10을_ISBN13으로_변환한다() {
+        assertEquals("9780306406157", BookFingerprint.isbn13("0-306-40615-2"));
+        assertEquals("9780306406157", BookFingerprint.isbn13("0306406152"));
+    }
+
+    @Test
+    void isbn13_검사_숫자가_X인_ISBN10도_변환한다() {
+        assertEquals("9780804429573", BookFingerprint.isbn13("0-8044-2957-X"));
+        assertEquals("9780804429573", BookFingerprint.isbn13("0-8044-2957-x"));
+    }
+
+    @Test
+    void isbn13_ISBN13은_구분자만_제거한다() {
+        assertEquals("9780306406157", BookFingerprint.isbn13("978-0-306-40615-7"));
+    }
+
+    @Test
+    void isbn13_형식이_맞지_않으면_null() {
+        assertNull(BookFingerprint.isbn13(null));
+        assertNull(BookFingerprint.isbn13("12345"));
+        assertNull(BookFingerprint.isbn13("X-8044-2957-1"));
+    }
+
+    @Test
+    void of_NFKC로_전각_문자와_합자를_통일한다() {
+        assertEquals("harrypotter|jkrowling", BookFingerprint.of("ＨＡＲＲＹ　Ｐｏｔｔｅｒ", "J.K. Rowling"));
+        assertEquals("fi1|", BookFingerprint.of("ﬁ ①", null));
+    }
+
+    @Test
+    void of_공백과_문장부호를_무시한다() {
+        assertEquals(BookFingerprint.of("해리포터", "롤링"), BookFingerprint.of("해리 포터!", "롤링"));
+        assertEquals("해리포터마법사의돌|", BookFingerprint.of("해리 포터: 마법사의 돌", null));
+    }
+
+    @Test
+    void lookupPattern_저자가_없으면_제목_접두_패턴() {
+        assertEquals("해리포터|%", BookFingerprint.lookupPattern("해리 포터", " "));
+        assertEquals("해리포터|롤링", BookFingerprint.lookupPattern("해리 포터", "롤링"));
+    }
+
+    @Test
+    void 문장부호뿐인_제목은_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> BookFingerprint.of("!!! ...", "롤링"));
+        assertThrows(IllegalArgumentException.class, () -> BookFingerprint.titlePattern("?!"));
+        assertThrows(IllegalArgumentException.class, () -> BookFingerprint.lookupPattern("   ", null));
+    }
+
+    @Test
+    void ofOrNull_문장부호뿐인_제목이면_null() {
+        assertNull(BookFingerprint.ofOrNull("!!! ...", "롤링"));
+        assertNull(BookFingerprint.ofOrNull(null, "롤링"));
+        assertEquals("해리포터|롤링", BookFingerprint.ofOrNull("해리 포터!", "롤링"));
+    }
+
+    @Test
+    void 요청_검증_패턴은_지문이_비는_제목만_거부한다() {
+        assertFalse(Pattern.matches(BookFingerprint.TITLE_REGEXP, "!!! ..."));
+        assertFalse(Pattern.matches(BookFingerprint.TITLE_REGEXP, " \n "));
+        assertTrue(Pattern.matches(BookFingerprint.TITLE_REGEXP, "1984"));
+        assertTrue(Pattern.matches(BookFingerprint.TITLE_REGEXP, "...그리고\n아무도 없었다"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.readingclub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void 따옴표_안의_쉼표는_필드에_포함한다() throws IOException {
+        assertEquals(List.of(List.of("a", "b,c", "d")), readAll("a,\"b,c\",d\n"));
+    }
+
+    @Test
+    void 따옴표_안의_줄바꿈은_레코드를_나누지_않는다() throws IOException {
+        assertEquals(List.of(List.of("a", "line1\nline2", "d"), List.of("e", "f")),
+                readAll("a,\"line1\nline2\",d\ne,f"));
+    }
+
+    @Test
+    void 연속된_따옴표는_따옴표_하나로_읽는다() throws IOException {
+        assertEquals(List.of(List.of("say \"hi\"", "x")), readAll("\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    void CRLF를_레코드_구분자로_읽는다() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a,b\r\nc,d\r\n"));
+    }
+
+    @Test
+    void 첫_레코드의_BOM은_건너뛴다() throws IOException {
+        assertEquals(List.of(List.of("title", "author"), List.of("\uFEFFx")),
+                readAll("\uFEFFtitle,author\n\uFEFFx"));
+    }
+
+    @Test
+    void 빈_필드와_빈_줄을_유지한다() throws IOException {
+        assertEquals(List.of(List.of("a", "", ""), List.of(""), List.of("b")), readAll("a,,\n\nb"));
+    }
+
+    @Test
+    void 닫히지_않은_따옴표는_형식_오류() {
+        assertThrows(IllegalArgumentException.class, () -> readAll("a,\"open\nb,c"));
+    }
+
+    private List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}